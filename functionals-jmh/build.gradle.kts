@@ -0,0 +1,92 @@
+/**
+  * JMH benchmark suites for `functionals`, run with `gradle :functionals-jmh:jmh` (optionally `-PjmhInclude=<regex>`).<br/>
+  * Or build standalone jar with `gradle :functionals-jmh:jmhJar` &amp; pass any JMH option, ex: `java -jar functionals-jmh/build/libs/functionals-jmh-benchmarks.jar -f 1 PipeBenchmark`.<br/>
+  * Results are written as JSON into `build/results/jmh/`, diffable between versions (ex: jmh.morethan.io).<p/>
+  * Note: JMH refuses benchmark class inside default package & Java can't reference default package type from a named package,
+  *     so instead of depending on `:functionals`, its sources get copied with `package functionals;` prepended, right next to the benchmarks.
+  */
+
+
+
+import groovy.lang.Closure
+import org.gradle.kotlin.dsl.support.serviceOf
+
+/** Copied from `functionals/build.gradle.kts`, see the original for the rant. */
+object Javaificator {
+    fun <T: Any> lambdaToAction(sideEffectLambda: (T) -> Unit): Action<T> { return Action<T> { sideEffectLambda(this) } }
+    fun <T> lambdaToClosure(sideEffectLambda: (T) -> Unit): Closure<Any?> { return closureOf<T>{ sideEffectLambda(this) } }
+}
+
+
+
+project.plugins{
+    this.id("java");
+}
+
+java.getToolchain()
+    .getLanguageVersion()
+    .set(JavaLanguageVersion.of(21))
+
+project.getRepositories()
+    .configure(Javaificator.lambdaToClosure{ repository: RepositoryHandler ->
+        repository.mavenCentral()
+    })
+
+project.dependencies{
+    implementation("org.openjdk.jmh:jmh-core:1.37")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+val relocatedSourceDirectory: Provider<Directory> = project.getLayout().getBuildDirectory().dir("generated/sources/relocated/java")
+val relocateFunctionals = project.getTasks().register("relocateFunctionals", Javaificator.lambdaToAction{ relocateTask: Task ->
+    val sourceDirectory: Directory = project.getRootProject().getLayout().getProjectDirectory().dir("functionals/src/main/java")
+    val targetDirectory: Provider<Directory> = project.getLayout().getBuildDirectory().dir("generated/sources/relocated/java")
+    relocateTask.getInputs().dir(sourceDirectory)
+    relocateTask.getOutputs().dir(targetDirectory)
+    relocateTask.doLast(Javaificator.lambdaToAction{ _: Task ->
+        val packageDirectory: File = targetDirectory.get().dir("functionals").getAsFile()
+        packageDirectory.deleteRecursively()
+        packageDirectory.mkdirs()
+        sourceDirectory.getAsFile()
+            .listFiles{ file: File -> file.getName().endsWith(".java") }!!
+            .forEach{ file: File -> File(packageDirectory, file.getName()).writeText("package functionals;\n" + file.readText()) }
+    })
+})
+
+sourceSets {
+    main {
+        java.srcDir(relocatedSourceDirectory)
+    }
+}
+
+project.getTasks()
+    .configure(Javaificator.lambdaToClosure{ taskRepository: TaskContainer ->
+        taskRepository.named("compileJava", JavaCompile::class).configure(Javaificator.lambdaToAction{ compileTask: JavaCompile ->
+            compileTask.dependsOn(relocateFunctionals)
+        })
+        taskRepository.register("jmh", JavaExec::class).configure(Javaificator.lambdaToAction{ jmhTask: JavaExec ->
+            val resultFile: File = project.getLayout().getBuildDirectory().file("results/jmh/results.json").get().getAsFile()
+            jmhTask.setGroup("benchmark")
+            jmhTask.setDescription("Run JMH suites in throughput mode with GC allocation profiler, writing JSON result")
+            jmhTask.setClasspath(project.getExtensions().getByType(SourceSetContainer::class).named("main").get().getRuntimeClasspath())
+            jmhTask.getMainClass().set("org.openjdk.jmh.Main")
+            jmhTask.args(listOf("-bm", "thrpt", "-prof", "gc", "-rf", "json", "-rff", resultFile.getAbsolutePath()))
+            (project.findProperty("jmhInclude") as String?)?.let{ include: String -> jmhTask.args(include) }
+            jmhTask.getOutputs().file(resultFile)
+            jmhTask.getOutputs().upToDateWhen{ _: Task -> false }
+            jmhTask.doFirst(Javaificator.lambdaToAction{ _: Task -> resultFile.getParentFile().mkdirs() })
+        })
+        taskRepository.register("jmhJar", Jar::class).configure(Javaificator.lambdaToAction{ jarTask: Jar ->
+            val mainSourceSet: SourceSet = project.getExtensions().getByType(SourceSetContainer::class).named("main").get()
+            val runtimeClasspath: Configuration = project.getConfigurations().getByName("runtimeClasspath")
+            val archiveOperations: ArchiveOperations = project.serviceOf<ArchiveOperations>() // Not `project.zipTree()`: Configuration cache can't serialize script reference
+            jarTask.setGroup("benchmark")
+            jarTask.setDescription("Assemble self-contained benchmark jar, run with `java -jar build/libs/functionals-jmh-benchmarks.jar [JMH options]`")
+            jarTask.getArchiveClassifier().set("benchmarks")
+            jarTask.getManifest().getAttributes().put("Main-Class", "org.openjdk.jmh.Main")
+            jarTask.setDuplicatesStrategy(DuplicatesStrategy.EXCLUDE)
+            jarTask.from(mainSourceSet.getOutput())
+            jarTask.from(runtimeClasspath.getElements().map{ files: Set<FileSystemLocation> -> files.map{ file: FileSystemLocation -> archiveOperations.zipTree(file.getAsFile()) } })
+            jarTask.exclude("META-INF/*.SF", "META-INF/*.DSA", "META-INF/*.RSA")
+        })
+    })
@@ -0,0 +1,73 @@
+package functionals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link Faulty#fromCheckedCatch(Class, FunctionalDatas.ThrowingSupplier)} against plain {@code try}-{@code catch}, for both success &amp; failure path.<br/>
+  * Failure path throws 1 preallocated exception, measuring the wrapping &amp; unwinding instead of stack trace filling. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FaultyBenchmark {
+    @Param({ "true", "false" })
+    public boolean isFailing;
+    private IOException failure;
+    private int input;
+
+    @Setup
+    public void setup() {
+        this.failure = new IOException("Benchmark failure");
+        this.input   = 42;
+    }
+
+    private int parse() throws IOException {
+        if (this.isFailing)
+            throw this.failure;
+        return this.input;
+    }
+
+    @Benchmark
+    public int fromCheckedCatch_Faulty() {
+        return Faulty.fromCheckedCatch(IOException.class, this::parse)
+            .map(n -> n * 2)
+            .unwrapOkOrElse(-1);
+    }
+
+    @Benchmark
+    public int fromCheckedCatch_TryCatch() {
+        try {
+            return this.parse() * 2;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Object fromCheckedCatchKeep_Faulty() {
+        return Faulty.fromCheckedCatch(IOException.class, this::parse);
+    }
+
+    @Benchmark
+    public Object fromCheckedCatchKeep_TryCatch() {
+        try {
+            return this.parse();
+        } catch (IOException e) {
+            return e;
+        }
+    }
+}
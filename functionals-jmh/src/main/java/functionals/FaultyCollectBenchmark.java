@@ -0,0 +1,107 @@
+package functionals;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link Faulty.Streams.Collect} chunked-buffer collectors on large parallel stream, against the previous {@link Stream.Builder} copy-on-merge collector.<br/>
+  * Every collected {@link Stream} is drained with {@link Stream#count()}, so lazily built result is paid for too. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FaultyCollectBenchmark {
+    @Param({ "1000000" })
+    public int size;
+    /** 1 error per {@code errorPeriod} elements, {@code 0} means all ok. */
+    @Param({ "0", "1000" })
+    public int errorPeriod;
+    private List<Faulty<Integer,String>> faulties;
+
+    @Setup
+    public void setup() {
+        this.faulties = IntStream.range(0, this.size)
+            .mapToObj(n -> this.errorPeriod != 0 && n % this.errorPeriod == 0 ? Faulty.<Integer,String>ofError("#" + n) : Faulty.<Integer,String>of(n))
+            .toList();
+    }
+
+    @Benchmark
+    public long takeOk_Chunked() {
+        return this.faulties.parallelStream().collect(Faulty.Streams.Collect.takeOk()).count();
+    }
+
+    @Benchmark
+    public long takeOk_StreamBuilder() {
+        return this.faulties.parallelStream().collect(FaultyCollectBenchmark.streamBuilderTakeOk()).count();
+    }
+
+    @Benchmark
+    public long failDeferred_Chunked() {
+        return this.faulties.parallelStream().collect(Faulty.Streams.Collect.failDeferredCollect()).to(FaultyCollectBenchmark::drain);
+    }
+
+    @Benchmark
+    public long failDeferred_Teeing() {
+        return this.faulties.parallelStream().collect(Collectors.teeing(
+            FaultyCollectBenchmark.streamBuilderTakeOk(),
+            FaultyCollectBenchmark.streamBuilderTakeError(),
+            (oks, errors) -> {
+                final List<String> errorList = errors.toList();
+                return errorList.isEmpty() ? oks.count() : errorList.stream().count();
+            }
+        ));
+    }
+
+    @Benchmark
+    public long failFast_Chunked() {
+        return this.faulties.parallelStream().collect(Faulty.Streams.Collect.failFastCollect()).map(Stream::count).unwrapOkOrElse(-1L);
+    }
+
+    @Benchmark
+    public long failDeferredSample_Chunked() {
+        return this.faulties.parallelStream().collect(Faulty.Streams.Collect.failDeferredSampleCollect(16)).map(Stream::count).unwrapOkOrElse(-1L);
+    }
+
+    private static <E> long drain(Faulty<Stream<Integer>,Stream<E>> collected) {
+        return switch (collected) {
+            case Faulty.Ok(Stream<Integer> oks) -> oks.count();
+            case Faulty.Error(Stream<E> errors) -> errors.count();
+        };
+    }
+
+    /** Previous implementation of {@link Faulty.Streams.Collect#takeOk()} &amp; {@link Faulty.Streams.Collect#takeError()}, kept as baseline. */
+    private static <T,E> Collector<Faulty<T,E>,?,Stream<T>> streamBuilderTakeOk() {
+        return Collector.<Faulty<T,E>,Stream.Builder<T>,Stream<T>>of(
+            Stream::<T>builder,
+            (acc, element) -> { element.peek(acc::add); },
+            (left, right) -> { right.build().forEach(left::add); return left; },
+            Stream.Builder::build
+        );
+    }
+
+    private static <T,E> Collector<Faulty<T,E>,?,Stream<E>> streamBuilderTakeError() {
+        return Collector.<Faulty<T,E>,Stream.Builder<E>,Stream<E>>of(
+            Stream::<E>builder,
+            (acc, element) -> { element.peekError(acc::add); },
+            (left, right) -> { right.build().forEach(left::add); return left; },
+            Stream.Builder::build
+        );
+    }
+}
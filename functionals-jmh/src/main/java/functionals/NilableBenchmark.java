@@ -0,0 +1,68 @@
+package functionals;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link Nilable} against {@link Optional} on the same chain, for both present &amp; absent value. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NilableBenchmark {
+    @Param({ "true", "false" })
+    public boolean isPresent;
+    private String nullableValue; // Non-final field, so JIT can't constant-fold the presence check
+
+    @Setup
+    public void setup() {
+        this.nullableValue = this.isPresent ? "benchmark" : null;
+    }
+
+    @Benchmark
+    public int mapKeepIfOrElse_Nilable() {
+        return Nilable.of(this.nullableValue).map(String::length).keepIf(length -> length > 3).orElse(-1);
+    }
+
+    @Benchmark
+    public int mapKeepIfOrElse_Optional() {
+        return Optional.ofNullable(this.nullableValue).map(String::length).filter(length -> length > 3).orElse(-1);
+    }
+
+    @Benchmark
+    public Object flatMap_Nilable() {
+        return Nilable.of(this.nullableValue).flatMap(text -> Nilable.of(text.isEmpty() ? null : text.charAt(0)));
+    }
+
+    @Benchmark
+    public Object flatMap_Optional() {
+        return Optional.ofNullable(this.nullableValue).flatMap(text -> Optional.ofNullable(text.isEmpty() ? null : text.charAt(0)));
+    }
+
+    @Benchmark
+    public int patternMatch_Nilable() {
+        return switch (Nilable.of(this.nullableValue)) {
+            case Nilable.Has<String>(String value) -> value.length();
+            case Nilable.Empty<String> __          -> -1;
+        };
+    }
+
+    @Benchmark
+    public int isPresentGet_Optional() {
+        final Optional<String> optional = Optional.ofNullable(this.nullableValue);
+        return optional.isPresent() ? optional.get().length() : -1;
+    }
+}
@@ -0,0 +1,112 @@
+package functionals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link Pipe} stages &amp; terminals against the equivalent {@code java.util.stream} pipeline, paired by name prefix. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PipeBenchmark {
+    @Param({ "1000", "100000" })
+    public int size;
+    private Integer[] values;
+
+    @Setup
+    public void setup() {
+        this.values = new Integer[this.size];
+        for (int i = 0; i < this.size; ++i)
+            this.values[i] = (i * 7919) % this.size;
+    }
+
+    @Benchmark
+    public List<Integer> mapKeepIfToList_Pipe() {
+        return Pipe.of(this.values).map(n -> n * 3).keepIf(n -> (n & 1) == 0).endByToList();
+    }
+
+    @Benchmark
+    public List<Integer> mapKeepIfToList_Stream() {
+        return Arrays.stream(this.values).map(n -> n * 3).filter(n -> (n & 1) == 0).toList();
+    }
+
+    @Benchmark
+    public long mapToLongSum_Pipe() {
+        return Pipe.of(this.values).mapToLong(Integer::longValue).endBySum();
+    }
+
+    @Benchmark
+    public long mapToLongSum_Stream() {
+        return Arrays.stream(this.values).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public Map<Integer,Long> countingBy_Pipe() {
+        return Pipe.of(this.values).end(Pipe.Terminal.Utils.countingBy(n -> n % 64));
+    }
+
+    @Benchmark
+    public Map<Integer,Long> countingBy_Stream() {
+        return Arrays.stream(this.values).collect(Collectors.groupingBy(n -> n % 64, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Nilable<Integer> keepIfTakeFirst_Pipe() {
+        return Pipe.of(this.values).keepIf(n -> n == this.size - 1).endByTakeFirst();
+    }
+
+    @Benchmark
+    public Nilable<Integer> keepIfTakeFirst_Stream() {
+        return Nilable.from(Arrays.stream(this.values).filter(n -> n == this.size - 1).findFirst());
+    }
+
+    @Benchmark
+    public List<Integer> sortedLimit_Pipe() {
+        return Pipe.of(this.values).sorted(Comparator.reverseOrder()).limit(10).endByToList();
+    }
+
+    @Benchmark
+    public List<Integer> sortedLimit_Stream() {
+        return Arrays.stream(this.values).sorted(Comparator.reverseOrder()).limit(10).toList();
+    }
+
+    /** Split reduction through the primitive bridge, {@link LongPipe} keeps the parallel execution mode. */
+    @Benchmark
+    public long parallelMapToLongSum_Pipe() {
+        return Pipe.of(this.values).parallel().mapToLong(Integer::longValue).endBySum();
+    }
+
+    @Benchmark
+    public long parallelMapToLongSum_Stream() {
+        return Arrays.stream(this.values).parallel().mapToLong(Integer::longValue).sum();
+    }
+
+    /** Boxed counterpart of {@link #parallelMapToLongSum_Pipe()}, {@link Pipe.Terminal.Accumulator} combined per split. */
+    @Benchmark
+    public long parallelMapFold_Pipe() {
+        return Pipe.of(this.values).parallel().map(Integer::longValue).end(Pipe.Terminal.Utils.fold(0L, Long::sum));
+    }
+
+    @Benchmark
+    public long parallelMapFold_Stream() {
+        return Arrays.stream(this.values).parallel().map(Integer::longValue).reduce(0L, Long::sum);
+    }
+}
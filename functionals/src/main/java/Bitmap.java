@@ -0,0 +1,70 @@
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/** Package-private namespace: Dense {@code long[]} bitmap helpers, bit {@code i} lives at word {@code i >>> 6}.<br/>
+  * Bits at or after the logical length are always clear, so word-wise popcount needs no tail masking. */
+enum Bitmap { ;
+    static long[] ofLength(int length) {
+        return new long[Bitmap.wordCount(length)];
+    }
+
+    static int wordCount(int length) {
+        return (length + 63) >>> 6;
+    }
+
+    static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    /** @return {@code bits} itself if big enough, else a zero-extended copy (at least doubled, for amortized append) */
+    static long[] ensureLength(long[] bits, int length) {
+        final int wordCount = Bitmap.wordCount(length);
+        return wordCount <= bits.length ? bits : Arrays.copyOf(bits, Math.max(wordCount, bits.length << 1));
+    }
+
+    /** Popcount: 1 {@link Long#bitCount(long)} (single instruction on most CPU) per 64 slots. */
+    static int count(long[] bits) {
+        int count = 0;
+        for (final long word: bits)
+            count += Long.bitCount(word);
+        return count;
+    }
+
+    /** Lazy ascending index iterator over set bits ({@code isSet}) or clear bits (otherwise) inside {@code [0, length)}, skipping whole words at once. */
+    static PrimitiveIterator.OfInt indices(long[] bits, int length, boolean isSet) {
+        return new PrimitiveIterator.OfInt() {
+            private int wordIndex  = 0;
+            private long remaining = this.wordAt(0);
+
+            private long wordAt(int wordIndex) {
+                if (wordIndex >= Bitmap.wordCount(length))
+                    return 0;
+                final long word = isSet ? bits[wordIndex] : ~bits[wordIndex];
+                final int tailLength = length - (wordIndex << 6);
+                return tailLength >= 64 ? word : word & ((1L << tailLength) - 1);
+            }
+
+            @Override public boolean hasNext() {
+                while (this.remaining == 0 && this.wordIndex < Bitmap.wordCount(length))
+                    this.remaining = this.wordAt(++this.wordIndex);
+                return this.remaining != 0;
+            }
+
+            @Override public int nextInt() {
+                if (!this.hasNext())
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                final int index = (this.wordIndex << 6) + Long.numberOfTrailingZeros(this.remaining);
+                this.remaining &= this.remaining - 1; // Clear lowest set bit
+                return index;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/** Package-private: Append-only linked chunks of arrays, for {@link java.util.stream.Collector} accumulator that gets merged a lot under parallel stream.<br/>
+  * {@link #concat(ChunkedBuffer)} only relinks chunks in {@code O(1)}, no element copy. Chunk capacity grows geometrically, so append stays amortized {@code O(1)} with at most {@code log(n)} chunks per sequential run.
+  * @param <T> Any type */
+final class ChunkedBuffer<T> implements Iterable<T> {
+    private static final int INITIAL_CHUNK_CAPACITY = 16;
+    private static final int MAX_CHUNK_CAPACITY     = 1 << 14;
+
+    private static final class Chunk {
+        private final Object[] items;
+        private int size = 0;
+        private Chunk next;
+
+        private Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+
+    private Chunk head;
+    private Chunk tail;
+    private long size = 0;
+
+    void add(T value) {
+        if (this.tail == null || this.tail.size == this.tail.items.length) {
+            final var chunk = new ChunkedBuffer.Chunk(this.tail == null ? ChunkedBuffer.INITIAL_CHUNK_CAPACITY : Math.min(this.tail.items.length << 1, ChunkedBuffer.MAX_CHUNK_CAPACITY));
+            if (this.tail == null)
+                this.head = chunk;
+            else
+                this.tail.next = chunk;
+            this.tail = chunk;
+        }
+        this.tail.items[this.tail.size++] = value;
+        ++this.size;
+    }
+
+    /** Append all of {@code other} after this buffer, {@code other} must not be used afterward.
+      * @return This buffer */
+    ChunkedBuffer<T> concat(ChunkedBuffer<T> other) {
+        if (other.head == null)
+            return this;
+        if (this.head == null)
+            this.head = other.head;
+        else
+            this.tail.next = other.head;
+        this.tail  = other.tail;
+        this.size += other.size;
+        return this;
+    }
+
+    long size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Chunk chunk = ChunkedBuffer.this.head;
+            private int index   = 0;
+
+            @Override public boolean hasNext() {
+                while (this.chunk != null && this.index == this.chunk.size) {
+                    this.chunk = this.chunk.next;
+                    this.index = 0;
+                }
+                return this.chunk != null;
+            }
+
+            @SuppressWarnings("unchecked") // Only T is ever stored
+            @Override public T next() {
+                if (!this.hasNext())
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                return (T) this.chunk.items[this.index++];
+            }
+        };
+    }
+
+    Stream<T> toStream() {
+        return StreamSupport.stream(Spliterators.spliterator(this.iterator(), this.size, Spliterator.ORDERED), false);
+    }
+}
@@ -0,0 +1,468 @@
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+
+
+/** Primitive {@code double} specialization of {@link Pipe}: Same push-based fused sink chain, but no boxing per element.<br/>
+  * Every {@code end-} method allocate constant amount of memory, independent of element count (except {@link #endByToArray()}).
+  * Bridge back to reference {@link Pipe} with {@link #mapToObj(DoubleFunction)} or {@link #boxed()}.<br/>
+  * Bridged from parallel {@link Pipe}: Stateless stages &amp; reducing {@code end-} methods run on each split, short-circuiting {@code end-} methods, stateful stages &amp; bridging back run sequentially. */
+public final class DoublePipe implements Transmutable<DoublePipe> {
+    private final DoublePipe.Chain chain;
+    private boolean consumed;
+
+    private DoublePipe(DoublePipe.Chain chain) {
+        this.chain    = chain;
+        this.consumed = false;
+    }
+
+
+
+    // ---------------------------------------- Instance Methods ----------------------------------------
+    public final DoublePipe map(DoubleUnaryOperator mapper) {
+        return this.chainWith(downstream -> value -> downstream.push(mapper.applyAsDouble(value)));
+    }
+
+    public final IntPipe mapToInt(DoubleToIntFunction mapper) {
+        final DoublePipe.Chain upstream = this.chain;
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsInt(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,IntPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return upstream.accumulateInParallel(initialize, state -> {
+                    final IntPipe.Sink sink = sinkOf.apply(state);
+                    return value -> sink.push(mapper.applyAsInt(value));
+                }, combine);
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                final PrimitiveIterator.OfDouble source = upstream.pull();
+                return new PrimitiveIterator.OfInt() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public int nextInt() { return mapper.applyAsInt(source.nextDouble()); }
+                };
+            }
+        });
+    }
+
+    public final LongPipe mapToLong(DoubleToLongFunction mapper) {
+        final DoublePipe.Chain upstream = this.chain;
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsLong(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,LongPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return upstream.accumulateInParallel(initialize, state -> {
+                    final LongPipe.Sink sink = sinkOf.apply(state);
+                    return value -> sink.push(mapper.applyAsLong(value));
+                }, combine);
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                final PrimitiveIterator.OfDouble source = upstream.pull();
+                return new PrimitiveIterator.OfLong() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public long nextLong() { return mapper.applyAsLong(source.nextDouble()); }
+                };
+            }
+        });
+    }
+
+    public final <R> Pipe<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        final DoublePipe.Chain upstream = this.chain;
+        return Pipe.fromSource(new Pipe.Source<R>() {
+            @Override public boolean pushAll(Pipe.Sink<? super R> sink) {
+                return upstream.pushAll(value -> sink.push(mapper.apply(value)));
+            }
+
+            @Override public Iterator<R> pull() {
+                final PrimitiveIterator.OfDouble source = upstream.pull();
+                return new Iterator<R>() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public R next() { return mapper.apply(source.nextDouble()); }
+                };
+            }
+        });
+    }
+
+    public final Pipe<Double> boxed() {
+        return this.mapToObj(Double::valueOf);
+    }
+
+    public final DoublePipe peek(DoubleConsumer sideEffectPeeker) {
+        return this.chainWith(downstream -> value -> {
+            sideEffectPeeker.accept(value);
+            return downstream.push(value);
+        });
+    }
+
+    public final DoublePipe keepIf(DoublePredicate predicate) {
+        return this.chainWith(downstream -> value -> !predicate.test(value) || downstream.push(value));
+    }
+
+    public final DoublePipe removeIf(DoublePredicate predicate) {
+        return this.chainWith(downstream -> value -> predicate.test(value) || downstream.push(value));
+    }
+
+    public final DoublePipe keepWhile(DoublePredicate predicate) {
+        return this.chainWithStateful(downstream -> value -> predicate.test(value) && downstream.push(value));
+    }
+
+    public final DoublePipe limit(long count) {
+        if (count <= 0)
+            return DoublePipe.of();
+        return this.chainWithStateful(downstream -> new DoublePipe.Sink() {
+            private long currentCount = 0;
+
+            @Override public boolean push(double value) {
+                return downstream.push(value) && ++this.currentCount < count;
+            }
+        });
+    }
+
+    public final DoublePipe skip(long count) {
+        return this.chainWithStateful(downstream -> new DoublePipe.Sink() {
+            private long currentCount = 0;
+
+            @Override public boolean push(double value) {
+                if (this.currentCount < count) {
+                    ++this.currentCount;
+                    return true;
+                }
+                return downstream.push(value);
+            }
+        });
+    }
+
+
+
+    // ---------------------------------------- Terminal Methods ----------------------------------------
+    /** Consume this {@link DoublePipe} in pull-mode. Prefer any {@code end-} method, as those drive the fused push-mode loop instead. */
+    public final PrimitiveIterator.OfDouble iterator() {
+        return this.consume().pull();
+    }
+
+    public final boolean endByMatchAll(DoublePredicate predicate) {
+        return !this.isAnyMatched(predicate.negate());
+    }
+
+    public final boolean endByMatchNone(DoublePredicate predicate) {
+        return !this.isAnyMatched(predicate);
+    }
+
+    public final boolean endByMatchAny(DoublePredicate predicate) {
+        return this.isAnyMatched(predicate);
+    }
+
+    public final long endByCount() {
+        return this.consume().reduce(
+            () -> new Object() { long count = 0; },
+            accumulator -> __ -> {
+                ++accumulator.count;
+                return true;
+            },
+            (left, right) -> { left.count += right.count; return left; }
+        ).count;
+    }
+
+    /** Note: Compensated summation, see {@link DoubleSummaryStatistics#getSum()}. */
+    public final double endBySum() {
+        return this.endBySummaryStatistics().getSum();
+    }
+
+    /** Short-circuiting, unboxed counterpart of {@link Pipe#endByTakeFirst()}. */
+    public final NilableDouble endByTakeFirst() {
+        final var accumulator = new Object() { NilableDouble first = NilableDouble.empty(); };
+        this.consume().pushAll(value -> {
+            accumulator.first = NilableDouble.of(value);
+            return false;
+        });
+        return accumulator.first;
+    }
+
+    public final NilableDouble endByMin() {
+        return this.endByFold(Math::min);
+    }
+
+    public final NilableDouble endByMax() {
+        return this.endByFold(Math::max);
+    }
+
+    public final DoubleSummaryStatistics endBySummaryStatistics() {
+        return this.consume().reduce(
+            DoubleSummaryStatistics::new,
+            accumulator -> value -> {
+                accumulator.accept(value);
+                return true;
+            },
+            (left, right) -> { left.combine(right); return left; }
+        );
+    }
+
+    /** Always sequential, so {@code initial} doesn't need to be identity of {@code reducer}. Parallel counterpart: {@link #endByFold(DoubleBinaryOperator)}. */
+    public final double endByFold(double initial, DoubleBinaryOperator reducer) {
+        final var accumulator = new Object() { double value = initial; };
+        this.consume().pushAll(value -> {
+            accumulator.value = reducer.applyAsDouble(accumulator.value, value);
+            return true;
+        });
+        return accumulator.value;
+    }
+
+    /** @param reducer Associative reducer
+      * @return Reduction result, {@link NilableDouble.Empty} if there's no element */
+    public final NilableDouble endByFold(DoubleBinaryOperator reducer) {
+        final var folded = this.consume().reduce(
+            () -> new Object() { double value; boolean isEmpty = true; },
+            accumulator -> value -> {
+                accumulator.value   = accumulator.isEmpty ? value : reducer.applyAsDouble(accumulator.value, value);
+                accumulator.isEmpty = false;
+                return true;
+            },
+            (left, right) -> {
+                if (left.isEmpty)
+                    return right;
+                if (!right.isEmpty)
+                    left.value = reducer.applyAsDouble(left.value, right.value);
+                return left;
+            }
+        );
+        return folded.isEmpty ? NilableDouble.empty() : NilableDouble.of(folded.value);
+    }
+
+    public final double[] endByToArray() {
+        final var collected = this.consume().reduce(
+            () -> new Object() { double[] values = new double[16]; int size = 0; },
+            accumulator -> value -> {
+                if (accumulator.size == accumulator.values.length)
+                    accumulator.values = Arrays.copyOf(accumulator.values, accumulator.size << 1);
+                accumulator.values[accumulator.size++] = value;
+                return true;
+            },
+            (left, right) -> {
+                if (left.size + right.size > left.values.length)
+                    left.values = Arrays.copyOf(left.values, left.size + right.size);
+                System.arraycopy(right.values, 0, left.values, left.size, right.size);
+                left.size += right.size;
+                return left;
+            }
+        );
+        return Arrays.copyOf(collected.values, collected.size);
+    }
+
+
+
+    // ---------------------------------------- Static Functions ----------------------------------------
+    public static DoublePipe of(double... values) {
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                for (final double value: values)
+                    if (!sink.push(value))
+                        return false;
+                return true;
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                return Arrays.stream(values).iterator();
+            }
+        });
+    }
+
+    /** Infinite {@link DoublePipe}, pair it with {@link #limit(long)} or any short-circuiting {@code end-} method. */
+    public static DoublePipe generate(DoubleSupplier generator) {
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                while (sink.push(generator.getAsDouble()))
+                    continue;
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                return new PrimitiveIterator.OfDouble() {
+                    @Override public boolean hasNext() { return true; }
+                    @Override public double nextDouble() { return generator.getAsDouble(); }
+                };
+            }
+        });
+    }
+
+    /** Infinite {@link DoublePipe}: {@code seed, f(seed), f(f(seed)), ...}. */
+    public static DoublePipe iterate(double seed, DoubleUnaryOperator next) {
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                double value = seed;
+                while (sink.push(value))
+                    value = next.applyAsDouble(value);
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                return new PrimitiveIterator.OfDouble() {
+                    private double value        = seed;
+                    private boolean isSeeded = false;
+
+                    @Override public boolean hasNext() { return true; }
+                    @Override public double nextDouble() {
+                        this.value    = this.isSeeded ? next.applyAsDouble(this.value) : this.value;
+                        this.isSeeded = true;
+                        return this.value;
+                    }
+                };
+            }
+        });
+    }
+
+    public static DoublePipe from(PrimitiveIterator.OfDouble source) {
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                while (source.hasNext())
+                    if (!sink.push(source.nextDouble()))
+                        return false;
+                return true;
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                return source;
+            }
+        });
+    }
+
+
+
+    // ---------------------------------------- Internal ----------------------------------------
+    private DoublePipe.Chain consume() {
+        if (this.consumed)
+            throw new BuggyCodeException("Consuming DoublePipe more than 1");
+        this.consumed = true;
+        return this.chain;
+    }
+
+    /** Match state kept in the sink: Upstream stopping early (ex: {@link #limit(long)}) must not read as a match. */
+    private boolean isAnyMatched(DoublePredicate predicate) {
+        final var state = new Object() { boolean isMatched = false; };
+        this.consume().pushAll(value -> {
+            state.isMatched = predicate.test(value);
+            return !state.isMatched;
+        });
+        return state.isMatched;
+    }
+
+    /** For stateless stage, safe to be wrapped once per parallel split. */
+    private DoublePipe chainWith(DoublePipe.Stage stage) {
+        return new DoublePipe(this.chain.andThen(stage, true));
+    }
+
+    /** For stage requiring to observe all elements in encounter order, forcing sequential execution. */
+    private DoublePipe chainWithStateful(DoublePipe.Stage stage) {
+        return new DoublePipe(this.chain.andThen(stage, false));
+    }
+
+    static DoublePipe fromSource(DoublePipe.Source source) {
+        return new DoublePipe(new DoublePipe.Chain(source, DoublePipe.Stage.IDENTITY, true));
+    }
+
+    /** See {@link Pipe}'s sink: Return {@code false} to request upstream to stop pushing. */
+    @FunctionalInterface
+    interface Sink {
+        boolean push(double value);
+    }
+
+    /** See {@link Pipe}'s stage: Every stage produce [0..1] element per pushed element. */
+    @FunctionalInterface
+    private interface Stage {
+        DoublePipe.Stage IDENTITY = downstream -> downstream;
+
+        DoublePipe.Sink wrap(DoublePipe.Sink downstream);
+
+        default DoublePipe.Stage andThen(DoublePipe.Stage next) {
+            return downstream -> this.wrap(next.wrap(downstream));
+        }
+    }
+
+    /** See {@link Pipe}'s source: Only 1 of the mode will ever get invoked, at most once. */
+    interface Source {
+        boolean pushAll(DoublePipe.Sink sink);
+        PrimitiveIterator.OfDouble pull();
+
+        /** Parallel push-mode, invoked before push-mode &amp; pull-mode: Reduce each split into its own partial state, combined in encounter order.
+          * @return {@link Nilable.Empty} without consuming anything if this source can't be split (ex: not bridged from parallel {@link Pipe}) */
+        default <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,DoublePipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            return Nilable.empty();
+        }
+    }
+
+    private record Chain(DoublePipe.Source source, DoublePipe.Stage stage, boolean isStateless) {
+        DoublePipe.Chain andThen(DoublePipe.Stage next, boolean isNextStateless) {
+            return new DoublePipe.Chain(this.source, this.stage.andThen(next), this.isStateless && isNextStateless);
+        }
+
+        <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,DoublePipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            if (!this.isStateless)
+                return Nilable.empty();
+            return this.source.accumulateInParallel(initialize, state -> this.stage.wrap(sinkOf.apply(state)), combine);
+        }
+
+        /** Split reduction if the source is parallel &amp; every stage is stateless, otherwise 1 sequential push-mode pass into 1 state. */
+        <A> A reduce(Supplier<A> initialize, Function<? super A,DoublePipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            return switch (this.accumulateInParallel(initialize, sinkOf, combine)) {
+                case Nilable.Has(A state) -> state;
+                case Nilable.Empty<A> __  -> {
+                    final A state = initialize.get();
+                    this.pushAll(sinkOf.apply(state));
+                    yield state;
+                }
+            };
+        }
+
+        boolean pushAll(DoublePipe.Sink sink) {
+            return this.source.pushAll(this.stage.wrap(sink));
+        }
+
+        PrimitiveIterator.OfDouble pull() {
+            final PrimitiveIterator.OfDouble upstream = this.source.pull();
+            if (this.stage == DoublePipe.Stage.IDENTITY)
+                return upstream;
+            // Pull-mode adapter: Single slot buffer is enough, every stage produce [0..1] element
+            return new PrimitiveIterator.OfDouble() {
+                private double buffer;
+                private boolean isValidBuffer  = false;
+                private boolean isUpstreamOpen = true;
+                private final DoublePipe.Sink sink = Chain.this.stage.wrap(value -> {
+                    this.buffer        = value;
+                    this.isValidBuffer = true;
+                    return true;
+                });
+
+                @Override public boolean hasNext() {
+                    while (!this.isValidBuffer && this.isUpstreamOpen && upstream.hasNext())
+                        this.isUpstreamOpen = this.sink.push(upstream.nextDouble());
+                    return this.isValidBuffer;
+                }
+
+                @Override public double nextDouble() {
+                    if (this.hasNext()) {
+                        this.isValidBuffer = false;
+                        return this.buffer;
+                    }
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                }
+            };
+        }
+    }
+}
@@ -1,11 +1,17 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /** Disjoint container, contain either 1 element {@code T} or 1 element {@code E}.<br/>
@@ -153,36 +159,142 @@ public sealed interface Faulty<T,E> extends Transmutable<Faulty<T,E>> { // Post-
 
     /** {@link Faulty} sub-namespace related to {@link Stream}. */
     public enum Streams { ;
-        /** {@link Faulty} sub-namespace dedicated for {@link Collector}. */
+        /** {@link Faulty} sub-namespace dedicated for {@link Collector}.<br/>
+          * All accumulators are chunked array buffers: Merging 2 partial results under parallel stream relinks chunks in {@code O(1)} instead of copying elements. */
         public enum Collect { ;
             public static <T,E> Collector<Faulty<T,E>,?,Stream<T>> takeOk() {
-                return Collector.<Faulty<T,E>,Stream.Builder<T>,Stream<T>>of(
-                    Stream::<T>builder,
-                    (acc, element) -> { element.peek(acc::add); },
-                    (left, right) -> { right.build().forEach(left::add); return left; },
-                    stream -> stream.build()
+                return Collector.<Faulty<T,E>,ChunkedBuffer<T>,Stream<T>>of(
+                    ChunkedBuffer::new,
+                    (acc, element) -> { if (element instanceof Faulty.Ok(T value)) acc.add(value); },
+                    ChunkedBuffer::concat,
+                    ChunkedBuffer::toStream
                 );
             }
 
             public static <T,E> Collector<Faulty<T,E>,?,Stream<E>> takeError() {
-                return Collector.<Faulty<T,E>,Stream.Builder<E>,Stream<E>>of(
-                    Stream::<E>builder,
-                    (acc, element) -> { element.peekError(acc::add); },
-                    (left, right) -> { right.build().forEach(left::add); return left; },
-                    stream -> stream.build()
+                return Collector.<Faulty<T,E>,ChunkedBuffer<E>,Stream<E>>of(
+                    ChunkedBuffer::new,
+                    (acc, element) -> { if (element instanceof Faulty.Error(E error)) acc.add(error); },
+                    ChunkedBuffer::concat,
+                    ChunkedBuffer::toStream
                 );
             }
 
-            /** TODO: Docs. Fail-fast counterpart better served by MapMulti.filterX */
+            /** All-or-errors collect: All ok values if there's no {@link Faulty.Error}, else all errors in encounter order.<br/>
+              * Single pass, ok values stop being accumulated once the first error is seen (those would be discarded anyway).<br/>
+              * For fail-fast, see {@link #failFastCollect()}. For bounded error memory, see {@link #failDeferredSampleCollect(int)}.
+              * @param <T> Any type
+              * @param <E> Any type but preferrably "error type"
+              * @return {@link Collector} producing {@link Faulty.Ok} of all values or {@link Faulty.Error} of all errors */
             public static <T,E> Collector<Faulty<T,E>,?,Faulty<Stream<T>,Stream<E>>> failDeferredCollect() {
-                return Collectors.teeing(
-                    Collect.<T,E>takeOk(),
-                    Collect.<T,E>takeError(),
-                    (oks, errors) -> {
-                        final List<E> errorList = errors.toList();
-                        return errorList.isEmpty() ? Faulty.of(oks) : Faulty.ofError(errorList.stream());
+                final class Accumulator {
+                    final ChunkedBuffer<T> oks    = new ChunkedBuffer<>();
+                    final ChunkedBuffer<E> errors = new ChunkedBuffer<>();
+
+                    void add(Faulty<T,E> element) {
+                        switch (element) {
+                            case Faulty.Ok(T value)    -> { if (this.errors.isEmpty()) this.oks.add(value); }
+                            case Faulty.Error(E error) -> this.errors.add(error);
+                        }
                     }
-                );
+
+                    Accumulator merge(Accumulator right) {
+                        this.errors.concat(right.errors);
+                        if (this.errors.isEmpty())
+                            this.oks.concat(right.oks);
+                        return this;
+                    }
+
+                    Faulty<Stream<T>,Stream<E>> finish() {
+                        return this.errors.isEmpty() ? Faulty.of(this.oks.toStream()) : Faulty.ofError(this.errors.toStream());
+                    }
+                }
+                return Collector.of(Accumulator::new, Accumulator::add, Accumulator::merge, Accumulator::finish);
+            }
+
+            /** Fail-fast collect: All ok values if there's no {@link Faulty.Error}, else the first error in encounter order.<br/>
+              * Nothing is accumulated after the first error, on each parallel partition.
+              * @param <T> Any type
+              * @param <E> Any type but preferrably "error type"
+              * @return {@link Collector} producing {@link Faulty.Ok} of all values or {@link Faulty.Error} of the first error */
+            public static <T,E> Collector<Faulty<T,E>,?,Faulty<Stream<T>,E>> failFastCollect() {
+                final class Accumulator {
+                    ChunkedBuffer<T> oks = new ChunkedBuffer<>();
+                    Faulty.Error<T,E> firstError;
+
+                    void add(Faulty<T,E> element) {
+                        if (this.firstError != null)
+                            return;
+                        switch (element) {
+                            case Faulty.Ok(T value)            -> this.oks.add(value);
+                            case Faulty.Error<T,E> errorVariant -> {
+                                this.firstError = errorVariant;
+                                this.oks        = null; // Release for GC early
+                            }
+                        }
+                    }
+
+                    Accumulator merge(Accumulator right) {
+                        if (this.firstError != null)
+                            return this;
+                        return right.firstError != null ? right : this.concatOks(right);
+                    }
+
+                    private Accumulator concatOks(Accumulator right) {
+                        this.oks.concat(right.oks);
+                        return this;
+                    }
+
+                    Faulty<Stream<T>,E> finish() {
+                        return this.firstError != null ? Faulty.ofError(this.firstError.error()) : Faulty.of(this.oks.toStream());
+                    }
+                }
+                return Collector.of(Accumulator::new, Accumulator::add, Accumulator::merge, Accumulator::finish);
+            }
+
+            /** Bounded variant of {@link #failDeferredCollect()}: Keep only the first {@code maxSampleSize} errors in encounter order, but count all of them.
+              * @param <E> Any type but preferrably "error type"
+              * @param errors First errors in encounter order, at most {@code maxSampleSize}
+              * @param errorCount Total error count, can be larger than {@code errors.size()} */
+            public record ErrorSample<E>(List<E> errors, long errorCount) {}
+
+            /** Memory-bounded {@link #failDeferredCollect()}: Error side keeps at most {@code maxSampleSize} errors plus the total count.
+              * @param <T> Any type
+              * @param <E> Any type but preferrably "error type"
+              * @param maxSampleSize Maximum number of errors kept, positive
+              * @return {@link Collector} producing {@link Faulty.Ok} of all values or {@link Faulty.Error} of error sample */
+            public static <T,E> Collector<Faulty<T,E>,?,Faulty<Stream<T>,Collect.ErrorSample<E>>> failDeferredSampleCollect(int maxSampleSize) {
+                if (maxSampleSize <= 0)
+                    throw new BuggyCodeException(String.format("[%s] Error sample size must be positive: %d", Faulty.Streams.Collect.class.getName(), maxSampleSize));
+                final class Accumulator {
+                    final ChunkedBuffer<T> oks = new ChunkedBuffer<>();
+                    final List<E> sample       = new ArrayList<>();
+                    long errorCount            = 0;
+
+                    void add(Faulty<T,E> element) {
+                        switch (element) {
+                            case Faulty.Ok(T value)    -> { if (this.errorCount == 0) this.oks.add(value); }
+                            case Faulty.Error(E error) -> {
+                                if (this.sample.size() < maxSampleSize)
+                                    this.sample.add(error);
+                                ++this.errorCount;
+                            }
+                        }
+                    }
+
+                    Accumulator merge(Accumulator right) {
+                        if (this.errorCount == 0 && right.errorCount == 0)
+                            this.oks.concat(right.oks);
+                        this.sample.addAll(right.sample.subList(0, Math.min(right.sample.size(), maxSampleSize - this.sample.size())));
+                        this.errorCount += right.errorCount;
+                        return this;
+                    }
+
+                    Faulty<Stream<T>,Collect.ErrorSample<E>> finish() {
+                        return this.errorCount == 0 ? Faulty.of(this.oks.toStream()) : Faulty.ofError(new Collect.ErrorSample<>(List.copyOf(this.sample), this.errorCount));
+                    }
+                }
+                return Collector.of(Accumulator::new, Accumulator::add, Accumulator::merge, Accumulator::finish);
             }
         }
 
@@ -217,6 +329,177 @@ public sealed interface Faulty<T,E> extends Transmutable<Faulty<T,E>> { // Post-
 
 
 
+    // ------------------------- Static functions: Traversal -------------------------
+    /** Fail-fast traverse: Map every element through {@code mapper}, stopping at the first {@link Faulty.Error}.<br/>
+      * Equivalent to Haskell's {@code traverse} specialized to {@code Either}, but eager &amp; short-circuiting.
+      * @param <T> Element type
+      * @param <R> Mapped ok type
+      * @param <E> Any type but preferrably "error type"
+      * @param values Source elements, iterated once
+      * @param mapper Function producing {@link Faulty} per element, not invoked after the first {@link Faulty.Error}
+      * @return {@link Faulty.Ok} of all mapped values in encounter order, or the first {@link Faulty.Error}
+      * @see #traverseAll(Iterable, Function) Accumulate-all-errors counterpart
+      * @see #traverseParallel(Iterable, Function, Executor) Parallel counterpart */
+    public static <T,R,E> Faulty<List<R>,E> traverse(Iterable<T> values, Function<? super T,Faulty<R,E>> mapper) {
+        final List<R> oks = values instanceof Collection<T> collection ? new ArrayList<>(collection.size()) : new ArrayList<>();
+        for (final T value: values)
+            switch (mapper.apply(value)) {
+                case Faulty.Ok(R ok)       -> oks.add(ok);
+                case Faulty.Error(E error) -> { return Faulty.ofError(error); }
+            }
+        return Faulty.of(Collections.unmodifiableList(oks));
+    }
+
+    /** Array-variant of {@link #traverse(Iterable, Function)}. */
+    public static <T,R,E> Faulty<List<R>,E> traverse(T[] values, Function<? super T,Faulty<R,E>> mapper) {
+        return Faulty.traverse(Arrays.asList(values), mapper);
+    }
+
+    /** {@link Pipe}-variant of {@link #traverse(Iterable, Function)}: Short-circuiting terminal, also under {@link Pipe#parallel()} where the error is the first in encounter order. */
+    public static <T,R,E> Faulty<List<R>,E> traverse(Pipe<T> values, Function<? super T,Faulty<R,E>> mapper) {
+        return values.map(mapper).end(Faulty.failFastList());
+    }
+
+    /** Fail-fast sequence: {@link #traverse(Iterable, Function)} with identity mapper, {@code [Faulty<T,E>] -> Faulty<[T],E>}. */
+    public static <T,E> Faulty<List<T>,E> sequence(Iterable<Faulty<T,E>> faulties) {
+        return Faulty.traverse(faulties, Function.identity());
+    }
+
+    /** Array-variant of {@link #sequence(Iterable)}. */
+    @SafeVarargs // Read-only
+    public static <T,E> Faulty<List<T>,E> sequence(Faulty<T,E>... faulties) {
+        final var copied = new ArrayList<Faulty<T,E>>(faulties.length);
+        for (final Faulty<T,E> faulty: faulties)
+            copied.add(faulty);
+        return Faulty.traverse(copied, Function.identity());
+    }
+
+    /** {@link Pipe}-variant of {@link #sequence(Iterable)}, see {@link #traverse(Pipe, Function)}. */
+    public static <T,E> Faulty<List<T>,E> sequence(Pipe<Faulty<T,E>> faulties) {
+        return faulties.end(Faulty.failFastList());
+    }
+
+    /** Accumulate-all traverse: Map every element, collecting every {@link Faulty.Error} (ex: reporting all validation failures at once).<br/>
+      * Ok values stop being collected after the first error, as they would be discarded anyway.
+      * @param <T> Element type
+      * @param <R> Mapped ok type
+      * @param <E> Any type but preferrably "error type"
+      * @param values Source elements, iterated once
+      * @param mapper Function producing {@link Faulty} per element, invoked on every element
+      * @return {@link Faulty.Ok} of all mapped values, or {@link Faulty.Error} of all errors, both in encounter order */
+    public static <T,R,E> Faulty<List<R>,List<E>> traverseAll(Iterable<T> values, Function<? super T,Faulty<R,E>> mapper) {
+        final List<R> oks    = new ArrayList<>();
+        final List<E> errors = new ArrayList<>();
+        for (final T value: values)
+            switch (mapper.apply(value)) {
+                case Faulty.Ok(R ok)       -> { if (errors.isEmpty()) oks.add(ok); }
+                case Faulty.Error(E error) -> errors.add(error);
+            }
+        return errors.isEmpty() ? Faulty.of(Collections.unmodifiableList(oks)) : Faulty.ofError(Collections.unmodifiableList(errors));
+    }
+
+    /** Array-variant of {@link #traverseAll(Iterable, Function)}. */
+    public static <T,R,E> Faulty<List<R>,List<E>> traverseAll(T[] values, Function<? super T,Faulty<R,E>> mapper) {
+        return Faulty.traverseAll(Arrays.asList(values), mapper);
+    }
+
+    /** {@link Pipe}-variant of {@link #traverseAll(Iterable, Function)}, encounter order is kept under {@link Pipe#parallel()}. */
+    public static <T,R,E> Faulty<List<R>,List<E>> traverseAll(Pipe<T> values, Function<? super T,Faulty<R,E>> mapper) {
+        final class Partial {
+            final List<R> oks    = new ArrayList<>();
+            final List<E> errors = new ArrayList<>();
+
+            void add(Faulty<R,E> element) {
+                switch (element) {
+                    case Faulty.Ok(R ok)       -> { if (this.errors.isEmpty()) this.oks.add(ok); }
+                    case Faulty.Error(E error) -> this.errors.add(error);
+                }
+            }
+
+            Partial merge(Partial right) {
+                this.errors.addAll(right.errors);
+                if (this.errors.isEmpty())
+                    this.oks.addAll(right.oks);
+                return this;
+            }
+
+            Faulty<List<R>,List<E>> finish() {
+                return this.errors.isEmpty() ? Faulty.of(Collections.unmodifiableList(this.oks)) : Faulty.ofError(Collections.unmodifiableList(this.errors));
+            }
+        }
+        return values.map(mapper).end(Pipe.Terminal.Accumulator.of(Partial::new, Partial::add, Partial::merge, Partial::finish));
+    }
+
+    /** Accumulate-all sequence, see {@link #traverseAll(Iterable, Function)}. */
+    public static <T,E> Faulty<List<T>,List<E>> sequenceAll(Iterable<Faulty<T,E>> faulties) {
+        return Faulty.traverseAll(faulties, Function.identity());
+    }
+
+    /** Parallel fail-fast traverse: Each {@code mapper} invocation runs as 1 task on {@code executor} (ex: virtual-thread-per-task executor for I/O-bound validation).<br/>
+      * Once any task produces {@link Faulty.Error}, tasks not yet started are skipped &amp; the error is returned without waiting for the running ones.<br/>
+      * Unchecked exception thrown by {@code mapper} is rethrown as is.
+      * @param <T> Element type
+      * @param <R> Mapped ok type
+      * @param <E> Any type but preferrably "error type"
+      * @param values Source elements, all submitted upfront
+      * @param mapper Thread-safe function producing {@link Faulty} per element
+      * @param executor Caller-owned executor, never shut down by this method
+      * @return {@link Faulty.Ok} of all mapped values in encounter order, or the first completed {@link Faulty.Error} (completion order, not encounter order) */
+    public static <T,R,E> Faulty<List<R>,E> traverseParallel(Iterable<T> values, Function<? super T,Faulty<R,E>> mapper, Executor executor) {
+        final CompletableFuture<E> firstError = new CompletableFuture<>();
+        final List<CompletableFuture<Faulty<R,E>>> tasks = new ArrayList<>();
+        for (final T value: values)
+            tasks.add(CompletableFuture
+                .supplyAsync(() -> firstError.isDone() ? null : mapper.apply(value), executor)
+                .whenComplete((result, exception) -> {
+                    if (exception != null)
+                        firstError.completeExceptionally(exception);
+                    else if (result instanceof Faulty.Error(E error))
+                        firstError.complete(error);
+                })
+            );
+        try {
+            CompletableFuture.anyOf(firstError, CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))).join();
+            if (firstError.isDone())
+                return Faulty.ofError(firstError.join());
+            final List<R> oks = new ArrayList<>(tasks.size());
+            for (final CompletableFuture<Faulty<R,E>> task: tasks)
+                if (task.join() instanceof Faulty.Ok(R ok))
+                    oks.add(ok);
+            return Faulty.of(Collections.unmodifiableList(oks));
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /** Short-circuiting {@link Pipe} terminal behind {@link #traverse(Pipe, Function)}: Stops accumulating at the first error, leftmost partition error wins on combine. */
+    private static <T,E> Pipe.Terminal.Accumulator<Faulty<T,E>,?,Faulty<List<T>,E>> failFastList() {
+        final class Partial {
+            final List<T> oks = new ArrayList<>();
+            Faulty<List<T>,E> error;
+
+            void add(Faulty<T,E> element) {
+                switch (element) {
+                    case Faulty.Ok(T ok)       -> this.oks.add(ok);
+                    case Faulty.Error(E error) -> this.error = Faulty.ofError(error);
+                }
+            }
+
+            Partial merge(Partial right) {
+                if (this.error == null && right.error == null)
+                    this.oks.addAll(right.oks);
+                return this.error == null && right.error != null ? right : this;
+            }
+
+            Faulty<List<T>,E> finish() {
+                return this.error != null ? this.error : Faulty.of(Collections.unmodifiableList(this.oks));
+            }
+        }
+        return Pipe.Terminal.Accumulator.of(Partial::new, Partial::add, Partial::merge, Partial::finish, partial -> partial.error != null);
+    }
+
+
+
     // ------------------------- Functor instance methods -------------------------
     @SuppressWarnings("unchecked") // Cast warning: (Faulty<R,E>) Faulty.Error<T,E>. T is just a phantom type 
     public default <T2> Faulty<T2,E> map(Function<? super T,? extends T2> mapper) {
@@ -0,0 +1,168 @@
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/** Compact columnar container of {@link Faulty}: 1 dense slot array holding either value or error, plus 1 error bitmap, instead of 1 {@link Faulty.Ok}/{@link Faulty.Error} object per slot.<br/>
+  * Immutable once built. {@link Faulty} wrapper is only materialized on demand ({@link #get(int)}, {@link #toPipe()}), bulk operations work on the arrays directly.
+  * @param <T> Any type
+  * @param <E> Any type but preferrably "error type" */
+public final class FaultyArray<T,E> implements Transmutable<FaultyArray<T,E>> {
+    private final Object[] slots; // T on Ok slot, E on Error slot
+    private final long[] errors;
+    private final int length;
+
+    private FaultyArray(Object[] slots, long[] errors, int length) {
+        this.slots  = slots;
+        this.errors = errors;
+        this.length = length;
+    }
+
+
+
+    // ---------------------------------------- Static Functions ----------------------------------------
+    public static <T,E> FaultyArray.Builder<T,E> builder() {
+        return new FaultyArray.Builder<>();
+    }
+
+    /** {@link Pipe} terminal packing {@link Faulty} elements, order-preserving under {@link Pipe#parallel()}. */
+    public static <T,E> Pipe.Terminal.Accumulator<Faulty<T,E>,?,FaultyArray<T,E>> pack() {
+        return Pipe.Terminal.Accumulator.of(FaultyArray.Builder<T,E>::new, FaultyArray.Builder::add, FaultyArray.Builder::addAll, FaultyArray.Builder::build);
+    }
+
+
+
+    // ---------------------------------------- Instance Methods ----------------------------------------
+    public int length() {
+        return this.length;
+    }
+
+    /** Materialize 1 {@link Faulty} wrapper. */
+    @SuppressWarnings("unchecked") // Error bitmap tells which type the slot holds
+    public Faulty<T,E> get(int index) {
+        Objects.checkIndex(index, this.length);
+        return Bitmap.isSet(this.errors, index) ? new Faulty.Error<>((E) this.slots[index]) : new Faulty.Ok<>((T) this.slots[index]);
+    }
+
+    public boolean isOk(int index) {
+        Objects.checkIndex(index, this.length);
+        return !Bitmap.isSet(this.errors, index);
+    }
+
+    public int countOk() {
+        return this.length - Bitmap.count(this.errors);
+    }
+
+    public int countError() {
+        return Bitmap.count(this.errors);
+    }
+
+    /** Bulk {@link Faulty#map(Function)}: Apply {@code mapper} on {@link Faulty.Ok} slots only, error slots are carried over. */
+    @SuppressWarnings("unchecked") // Error bitmap tells which type the slot holds
+    public <T2> FaultyArray<T2,E> map(Function<? super T,? extends T2> mapper) {
+        final Object[] mapped = this.slots.clone();
+        for (final var indices = Bitmap.indices(this.errors, this.length, false); indices.hasNext(); ) {
+            final int index = indices.nextInt();
+            mapped[index]   = mapper.apply((T) this.slots[index]);
+        }
+        return new FaultyArray<>(mapped, this.errors, this.length);
+    }
+
+    /** Bulk {@link Faulty#mapError(Function)}: Apply {@code errorMapper} on {@link Faulty.Error} slots only. */
+    @SuppressWarnings("unchecked") // Error bitmap tells which type the slot holds
+    public <E2> FaultyArray<T,E2> mapError(Function<? super E,? extends E2> errorMapper) {
+        final Object[] mapped = this.slots.clone();
+        for (final var indices = Bitmap.indices(this.errors, this.length, true); indices.hasNext(); ) {
+            final int index = indices.nextInt();
+            mapped[index]   = errorMapper.apply((E) this.slots[index]);
+        }
+        return new FaultyArray<>(mapped, this.errors, this.length);
+    }
+
+    /** Bulk {@link Faulty#keepOkIfOrError(Predicate, Supplier)}: Same length, rejected {@link Faulty.Ok} slots become {@link Faulty.Error}. */
+    @SuppressWarnings("unchecked") // Error bitmap tells which type the slot holds
+    public FaultyArray<T,E> keepOkIfOrError(Predicate<? super T> okPredicate, Supplier<? extends E> errorSupplier) {
+        final Object[] kept = this.slots.clone();
+        final long[] errors = this.errors.clone();
+        for (final var indices = Bitmap.indices(this.errors, this.length, false); indices.hasNext(); ) {
+            final int index = indices.nextInt();
+            if (!okPredicate.test((T) this.slots[index])) {
+                kept[index] = errorSupplier.get();
+                Bitmap.set(errors, index);
+            }
+        }
+        return new FaultyArray<>(kept, errors, this.length);
+    }
+
+    /** Lazy source of all slots, 1 {@link Faulty} materialized per pulled/pushed element. */
+    public Pipe<Faulty<T,E>> toPipe() {
+        return IntPipe.range(0, this.length).mapToObj(this::get);
+    }
+
+    /** Lazy source of {@link Faulty.Ok} values only, unwrapped: No wrapper materialized, error slots skipped 64 at a time. */
+    @SuppressWarnings("unchecked") // Error bitmap tells which type the slot holds
+    public Pipe<T> toPipeOk() {
+        return IntPipe.from(Bitmap.indices(this.errors, this.length, false)).mapToObj(index -> (T) this.slots[index]);
+    }
+
+    /** Lazy source of {@link Faulty.Error} errors only, unwrapped (ex: batch validation report). */
+    @SuppressWarnings("unchecked") // Error bitmap tells which type the slot holds
+    public Pipe<E> toPipeError() {
+        return IntPipe.from(Bitmap.indices(this.errors, this.length, true)).mapToObj(index -> (E) this.slots[index]);
+    }
+
+    @Override public String toString() {
+        return String.format("FaultyArray(length=%d, ok=%d, error=%d)", this.length, this.countOk(), this.countError());
+    }
+
+
+
+    // ---------------------------------------- Builder ----------------------------------------
+    /** Append-only, not thread-safe.
+      * @param <T> Any type
+      * @param <E> Any type but preferrably "error type" */
+    public static final class Builder<T,E> {
+        private Object[] slots = new Object[16];
+        private long[] errors  = Bitmap.ofLength(16);
+        private int length     = 0;
+
+        private Builder() {}
+
+        public FaultyArray.Builder<T,E> add(Faulty<T,E> faulty) {
+            return switch (faulty) {
+                case Faulty.Ok(T value)    -> this.append(value, false);
+                case Faulty.Error(E error) -> this.append(error, true);
+            };
+        }
+
+        public FaultyArray.Builder<T,E> addOk(T value) {
+            return this.append(value, false);
+        }
+
+        public FaultyArray.Builder<T,E> addError(E error) {
+            return this.append(error, true);
+        }
+
+        public FaultyArray.Builder<T,E> addAll(FaultyArray.Builder<T,E> other) {
+            for (int i = 0; i < other.length; ++i)
+                this.append(other.slots[i], Bitmap.isSet(other.errors, i));
+            return this;
+        }
+
+        /** Trimmed copy, this {@link Builder} stays usable. */
+        public FaultyArray<T,E> build() {
+            return new FaultyArray<>(Arrays.copyOf(this.slots, this.length), Arrays.copyOf(this.errors, Bitmap.wordCount(this.length)), this.length);
+        }
+
+        private FaultyArray.Builder<T,E> append(Object slot, boolean isError) {
+            if (this.length == this.slots.length)
+                this.slots = Arrays.copyOf(this.slots, this.length << 1);
+            this.errors = Bitmap.ensureLength(this.errors, this.length + 1);
+            if (isError)
+                Bitmap.set(this.errors, this.length);
+            this.slots[this.length++] = slot;
+            return this;
+        }
+    }
+}
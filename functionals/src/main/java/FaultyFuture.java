@@ -0,0 +1,224 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/** Asynchronous {@link Faulty}: Eventually completes to {@link Faulty.Ok} or {@link Faulty.Error}, computed on its own virtual thread.<br/>
+  * Asynchronous counterpart of {@link Faulty#fromCheckedCatch(Class, FunctionalDatas.ThrowingSupplier)}, so latency of independent calls overlaps instead of adding up.<br/><br/>
+  *
+  * Chaining ({@link #map(Function)}, {@link #flatMap(Function)}, {@link #mapError(Function)}) never blocks.
+  * Fan-out with {@link #allOf(List)} &amp; {@link #anyOf(List)} cancels the losers, {@link #withDeadline(Duration, Supplier)} turns timeout into typed {@link Faulty.Error}.<br/>
+  * Cancellation interrupts the running virtual thread &amp; propagates upstream through the chain.<br/><br/>
+  *
+  * {@link BuggyCodeException} &amp; other unchecked exception (contract violation, not {@code E}) complete the future exceptionally &amp; are rethrown by {@link #join()}.
+  * @param <T> Any type
+  * @param <E> Any type but preferrably "error type" */
+public final class FaultyFuture<T,E> implements Transmutable<FaultyFuture<T,E>> {
+    private final CompletableFuture<Faulty<T,E>> future;
+    private final Runnable canceller;
+
+    private FaultyFuture(CompletableFuture<Faulty<T,E>> future, Runnable canceller) {
+        this.future    = future;
+        this.canceller = canceller;
+    }
+
+
+
+    // ---------------------------------------- Static Functions ----------------------------------------
+    /** Primary factory: Run {@code supplier} on a new virtual thread, see {@link Faulty#fromCheckedCatch(Class, FunctionalDatas.ThrowingSupplier)} for the exception contract.
+      * @param <T> Any type
+      * @param <E> Checked exception type
+      * @param expectedThrowType Class of {@code E}
+      * @param supplier Side-effect producer lambda, interrupted on {@link #cancel()}
+      * @return Running {@link FaultyFuture} */
+    public static <T,E extends Exception> FaultyFuture<T,E> fromCheckedCatch(Class<E> expectedThrowType, FunctionalDatas.ThrowingSupplier<T,E> supplier) {
+        return FaultyFuture.start(() -> Faulty.fromCheckedCatch(expectedThrowType, supplier));
+    }
+
+    /** Unchecked counterpart of {@link #fromCheckedCatch(Class, FunctionalDatas.ThrowingSupplier)}, see {@link Faulty#fromCatch(FunctionalDatas.ThrowingSupplier)}. */
+    public static <T> FaultyFuture<T,RuntimeException> fromCatch(FunctionalDatas.ThrowingSupplier<T,RuntimeException> supplier) {
+        return FaultyFuture.start(() -> Faulty.fromCatch(supplier));
+    }
+
+    /** Already completed {@link FaultyFuture}, ex: cache hit. */
+    public static <T,E> FaultyFuture<T,E> of(Faulty<T,E> faulty) {
+        return new FaultyFuture<>(CompletableFuture.completedFuture(faulty), () -> {});
+    }
+
+    /** Fail-fast fan-out: Complete with all values in input order, or with the first completed {@link Faulty.Error} &amp; cancel the rest.
+      * @param <T> Any type
+      * @param <E> Any type but preferrably "error type"
+      * @param futures Already running futures
+      * @return {@link FaultyFuture} of all values, cancelling it cancels all {@code futures} */
+    public static <T,E> FaultyFuture<List<T>,E> allOf(List<FaultyFuture<T,E>> futures) {
+        final var result    = new CompletableFuture<Faulty<List<T>,E>>();
+        final var remaining = new AtomicInteger(futures.size());
+        if (futures.isEmpty())
+            result.complete(Faulty.of(List.of()));
+        for (final FaultyFuture<T,E> future: futures)
+            future.future.whenComplete((faulty, exception) -> {
+                if (exception != null)
+                    result.completeExceptionally(FaultyFuture.unwrap(exception));
+                else if (faulty instanceof Faulty.Error(E error))
+                    result.complete(Faulty.ofError(error));
+                else if (remaining.decrementAndGet() == 0)
+                    result.complete(Faulty.of(FaultyFuture.collectOks(futures)));
+            });
+        return FaultyFuture.fanIn(result, futures);
+    }
+
+    /** 2-arity heterogeneous {@link #allOf(List)}, ex: 2 different backends for 1 request. */
+    public static <T1,T2,E> FaultyFuture<FunctionalDatas.TupleOf2<T1,T2>,E> allOf(FaultyFuture<T1,E> first, FaultyFuture<T2,E> second) {
+        @SuppressWarnings("unchecked") // Erased into Object, restored positionally right below
+        final FaultyFuture<List<Object>,E> all = FaultyFuture.allOf(List.of((FaultyFuture<Object,E>) first, (FaultyFuture<Object,E>) second));
+        @SuppressWarnings("unchecked") // Position 0 is T1, position 1 is T2
+        final FaultyFuture<FunctionalDatas.TupleOf2<T1,T2>,E> tupled = all.map(values -> new FunctionalDatas.TupleOf2<>((T1) values.get(0), (T2) values.get(1)));
+        return tupled;
+    }
+
+    /** First-success fan-out: Complete with the first {@link Faulty.Ok} &amp; cancel the rest, or with all errors (input order) if every future fails.
+      * @param <T> Any type
+      * @param <E> Any type but preferrably "error type"
+      * @param futures Already running futures
+      * @return {@link FaultyFuture} of the winner value, cancelling it cancels all {@code futures} */
+    public static <T,E> FaultyFuture<T,List<E>> anyOf(List<FaultyFuture<T,E>> futures) {
+        final var result    = new CompletableFuture<Faulty<T,List<E>>>();
+        final var remaining = new AtomicInteger(futures.size());
+        if (futures.isEmpty())
+            result.complete(Faulty.ofError(List.of()));
+        for (final FaultyFuture<T,E> future: futures)
+            future.future.whenComplete((faulty, exception) -> {
+                if (exception != null)
+                    result.completeExceptionally(FaultyFuture.unwrap(exception));
+                else if (faulty instanceof Faulty.Ok(T value))
+                    result.complete(Faulty.of(value));
+                else if (remaining.decrementAndGet() == 0)
+                    result.complete(Faulty.ofError(FaultyFuture.collectErrors(futures)));
+            });
+        return FaultyFuture.fanIn(result, futures);
+    }
+
+
+
+    // ---------------------------------------- Instance Methods ----------------------------------------
+    public <T2> FaultyFuture<T2,E> map(Function<? super T,? extends T2> mapper) {
+        return new FaultyFuture<>(this.future.thenApply(faulty -> faulty.map(mapper)), this::cancel);
+    }
+
+    public <E2> FaultyFuture<T,E2> mapError(Function<? super E,? extends E2> errorMapper) {
+        return new FaultyFuture<>(this.future.thenApply(faulty -> faulty.mapError(errorMapper)), this::cancel);
+    }
+
+    /** Sequential dependency: Start the next asynchronous call once this completes with {@link Faulty.Ok}. Cancellation reaches whichever stage is running. */
+    public <T2> FaultyFuture<T2,E> flatMap(Function<? super T,FaultyFuture<T2,E>> mapper) {
+        final var next = new Object() { volatile FaultyFuture<T2,E> started; };
+        final CompletableFuture<Faulty<T2,E>> chained = this.future.thenCompose(faulty -> switch (faulty) {
+            case Faulty.Ok(T value)    -> {
+                next.started = mapper.apply(value);
+                yield next.started.future;
+            }
+            case Faulty.Error(E error) -> CompletableFuture.completedFuture(Faulty.ofError(error));
+        });
+        return new FaultyFuture<>(chained, () -> {
+            this.cancel();
+            if (next.started != null)
+                next.started.cancel();
+        });
+    }
+
+    /** Per-call deadline: Complete with {@link Faulty.Error} produced by {@code timeoutError} if this isn't done within {@code timeout}, cancelling this.
+      * @param timeout Relative deadline, measured from this invocation
+      * @param timeoutError Typed timeout error producer, ex: {@code () -> new InterruptedIOException("Backend timeout")}
+      * @return Bounded {@link FaultyFuture} */
+    public FaultyFuture<T,E> withDeadline(Duration timeout, Supplier<? extends E> timeoutError) {
+        final CompletableFuture<Faulty<T,E>> bounded = this.future.copy()
+            .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+            .handle((faulty, exception) -> {
+                if (exception == null)
+                    return faulty;
+                final Throwable cause = FaultyFuture.unwrap(exception);
+                if (!(cause instanceof TimeoutException))
+                    throw cause instanceof CompletionException completion ? completion : new CompletionException(cause);
+                this.cancel();
+                return Faulty.ofError(timeoutError.get());
+            });
+        return new FaultyFuture<>(bounded, this::cancel);
+    }
+
+    /** Block until completion, cheap on virtual thread.
+      * @return Completed {@link Faulty}
+      * @throws CancellationException If cancelled before completion */
+    public Faulty<T,E> join() {
+        try {
+            return this.future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public boolean isDone() {
+        return this.future.isDone();
+    }
+
+    /** Idempotent: Cancel this &amp; interrupt the running computation, no-op if already completed. */
+    public void cancel() {
+        if (this.future.cancel(true))
+            this.canceller.run();
+    }
+
+    /** Interop with {@link CompletableFuture} API, completing the returned copy doesn't affect this. */
+    public CompletableFuture<Faulty<T,E>> toCompletableFuture() {
+        return this.future.copy();
+    }
+
+
+
+    // ---------------------------------------- Internal ----------------------------------------
+    private static <T,E> FaultyFuture<T,E> start(Supplier<Faulty<T,E>> computation) {
+        final var future = new CompletableFuture<Faulty<T,E>>();
+        final Thread thread = Thread.ofVirtual().name("faulty-future").start(() -> {
+            try {
+                future.complete(computation.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e); // No-op if already cancelled, interrupted computation may throw anything
+            }
+        });
+        return new FaultyFuture<>(future, thread::interrupt);
+    }
+
+    /** Losers get cancelled once {@code result} completes, cancelling {@code result} cancels all {@code futures}. */
+    private static <R,E2,T,E> FaultyFuture<R,E2> fanIn(CompletableFuture<Faulty<R,E2>> result, List<FaultyFuture<T,E>> futures) {
+        final List<FaultyFuture<T,E>> snapshot = List.copyOf(futures);
+        final Runnable cancelAll = () -> snapshot.forEach(FaultyFuture::cancel);
+        result.whenComplete((faulty, exception) -> cancelAll.run());
+        return new FaultyFuture<>(result, cancelAll);
+    }
+
+    private static Throwable unwrap(Throwable exception) {
+        return exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+    }
+
+    private static <T,E> List<T> collectOks(List<FaultyFuture<T,E>> futures) {
+        final List<T> values = new ArrayList<>(futures.size());
+        for (final FaultyFuture<T,E> future: futures)
+            if (future.future.join() instanceof Faulty.Ok(T value))
+                values.add(value);
+        return Collections.unmodifiableList(values);
+    }
+
+    private static <T,E> List<E> collectErrors(List<FaultyFuture<T,E>> futures) {
+        final List<E> errors = new ArrayList<>(futures.size());
+        for (final FaultyFuture<T,E> future: futures)
+            if (future.future.join() instanceof Faulty.Error(E error))
+                errors.add(error);
+        return Collections.unmodifiableList(errors);
+    }
+}
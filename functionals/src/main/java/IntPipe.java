@@ -0,0 +1,512 @@
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+
+
+/** Primitive {@code int} specialization of {@link Pipe}: Same push-based fused sink chain, but no boxing per element.<br/>
+  * Every {@code end-} method allocate constant amount of memory, independent of element count (except {@link #endByToArray()}).
+  * Bridge back to reference {@link Pipe} with {@link #mapToObj(IntFunction)} or {@link #boxed()}.<br/>
+  * Bridged from parallel {@link Pipe}: Stateless stages &amp; reducing {@code end-} methods run on each split, short-circuiting {@code end-} methods, stateful stages &amp; bridging back run sequentially. */
+public final class IntPipe implements Transmutable<IntPipe> {
+    private final IntPipe.Chain chain;
+    private boolean consumed;
+
+    private IntPipe(IntPipe.Chain chain) {
+        this.chain    = chain;
+        this.consumed = false;
+    }
+
+
+
+    // ---------------------------------------- Instance Methods ----------------------------------------
+    public final IntPipe map(IntUnaryOperator mapper) {
+        return this.chainWith(downstream -> value -> downstream.push(mapper.applyAsInt(value)));
+    }
+
+    public final LongPipe mapToLong(IntToLongFunction mapper) {
+        final IntPipe.Chain upstream = this.chain;
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsLong(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,LongPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return upstream.accumulateInParallel(initialize, state -> {
+                    final LongPipe.Sink sink = sinkOf.apply(state);
+                    return value -> sink.push(mapper.applyAsLong(value));
+                }, combine);
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                final PrimitiveIterator.OfInt source = upstream.pull();
+                return new PrimitiveIterator.OfLong() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public long nextLong() { return mapper.applyAsLong(source.nextInt()); }
+                };
+            }
+        });
+    }
+
+    public final DoublePipe mapToDouble(IntToDoubleFunction mapper) {
+        final IntPipe.Chain upstream = this.chain;
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsDouble(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,DoublePipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return upstream.accumulateInParallel(initialize, state -> {
+                    final DoublePipe.Sink sink = sinkOf.apply(state);
+                    return value -> sink.push(mapper.applyAsDouble(value));
+                }, combine);
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                final PrimitiveIterator.OfInt source = upstream.pull();
+                return new PrimitiveIterator.OfDouble() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public double nextDouble() { return mapper.applyAsDouble(source.nextInt()); }
+                };
+            }
+        });
+    }
+
+    public final <R> Pipe<R> mapToObj(IntFunction<? extends R> mapper) {
+        final IntPipe.Chain upstream = this.chain;
+        return Pipe.fromSource(new Pipe.Source<R>() {
+            @Override public boolean pushAll(Pipe.Sink<? super R> sink) {
+                return upstream.pushAll(value -> sink.push(mapper.apply(value)));
+            }
+
+            @Override public Iterator<R> pull() {
+                final PrimitiveIterator.OfInt source = upstream.pull();
+                return new Iterator<R>() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public R next() { return mapper.apply(source.nextInt()); }
+                };
+            }
+        });
+    }
+
+    public final Pipe<Integer> boxed() {
+        return this.mapToObj(Integer::valueOf);
+    }
+
+    public final IntPipe peek(IntConsumer sideEffectPeeker) {
+        return this.chainWith(downstream -> value -> {
+            sideEffectPeeker.accept(value);
+            return downstream.push(value);
+        });
+    }
+
+    public final IntPipe keepIf(IntPredicate predicate) {
+        return this.chainWith(downstream -> value -> !predicate.test(value) || downstream.push(value));
+    }
+
+    public final IntPipe removeIf(IntPredicate predicate) {
+        return this.chainWith(downstream -> value -> predicate.test(value) || downstream.push(value));
+    }
+
+    public final IntPipe keepWhile(IntPredicate predicate) {
+        return this.chainWithStateful(downstream -> value -> predicate.test(value) && downstream.push(value));
+    }
+
+    public final IntPipe limit(long count) {
+        if (count <= 0)
+            return IntPipe.of();
+        return this.chainWithStateful(downstream -> new IntPipe.Sink() {
+            private long currentCount = 0;
+
+            @Override public boolean push(int value) {
+                return downstream.push(value) && ++this.currentCount < count;
+            }
+        });
+    }
+
+    public final IntPipe skip(long count) {
+        return this.chainWithStateful(downstream -> new IntPipe.Sink() {
+            private long currentCount = 0;
+
+            @Override public boolean push(int value) {
+                if (this.currentCount < count) {
+                    ++this.currentCount;
+                    return true;
+                }
+                return downstream.push(value);
+            }
+        });
+    }
+
+
+
+    // ---------------------------------------- Terminal Methods ----------------------------------------
+    /** Consume this {@link IntPipe} in pull-mode. Prefer any {@code end-} method, as those drive the fused push-mode loop instead. */
+    public final PrimitiveIterator.OfInt iterator() {
+        return this.consume().pull();
+    }
+
+    public final boolean endByMatchAll(IntPredicate predicate) {
+        return !this.isAnyMatched(predicate.negate());
+    }
+
+    public final boolean endByMatchNone(IntPredicate predicate) {
+        return !this.isAnyMatched(predicate);
+    }
+
+    public final boolean endByMatchAny(IntPredicate predicate) {
+        return this.isAnyMatched(predicate);
+    }
+
+    public final long endByCount() {
+        return this.consume().reduce(
+            () -> new Object() { long count = 0; },
+            accumulator -> __ -> {
+                ++accumulator.count;
+                return true;
+            },
+            (left, right) -> { left.count += right.count; return left; }
+        ).count;
+    }
+
+    /** Note: Accumulated as {@code long}, no overflow up to {@code 2^32} elements. */
+    public final long endBySum() {
+        return this.consume().reduce(
+            () -> new Object() { long sum = 0; },
+            accumulator -> value -> {
+                accumulator.sum += value;
+                return true;
+            },
+            (left, right) -> { left.sum += right.sum; return left; }
+        ).sum;
+    }
+
+    /** Short-circuiting, unboxed counterpart of {@link Pipe#endByTakeFirst()}. */
+    public final NilableInt endByTakeFirst() {
+        final var accumulator = new Object() { NilableInt first = NilableInt.empty(); };
+        this.consume().pushAll(value -> {
+            accumulator.first = NilableInt.of(value);
+            return false;
+        });
+        return accumulator.first;
+    }
+
+    public final NilableInt endByMin() {
+        return this.endByFold(Math::min);
+    }
+
+    public final NilableInt endByMax() {
+        return this.endByFold(Math::max);
+    }
+
+    public final IntSummaryStatistics endBySummaryStatistics() {
+        return this.consume().reduce(
+            IntSummaryStatistics::new,
+            accumulator -> value -> {
+                accumulator.accept(value);
+                return true;
+            },
+            (left, right) -> { left.combine(right); return left; }
+        );
+    }
+
+    /** Always sequential, so {@code initial} doesn't need to be identity of {@code reducer}. Parallel counterpart: {@link #endByFold(IntBinaryOperator)}. */
+    public final int endByFold(int initial, IntBinaryOperator reducer) {
+        final var accumulator = new Object() { int value = initial; };
+        this.consume().pushAll(value -> {
+            accumulator.value = reducer.applyAsInt(accumulator.value, value);
+            return true;
+        });
+        return accumulator.value;
+    }
+
+    /** @param reducer Associative reducer
+      * @return Reduction result, {@link NilableInt.Empty} if there's no element */
+    public final NilableInt endByFold(IntBinaryOperator reducer) {
+        final var folded = this.consume().reduce(
+            () -> new Object() { int value; boolean isEmpty = true; },
+            accumulator -> value -> {
+                accumulator.value   = accumulator.isEmpty ? value : reducer.applyAsInt(accumulator.value, value);
+                accumulator.isEmpty = false;
+                return true;
+            },
+            (left, right) -> {
+                if (left.isEmpty)
+                    return right;
+                if (!right.isEmpty)
+                    left.value = reducer.applyAsInt(left.value, right.value);
+                return left;
+            }
+        );
+        return folded.isEmpty ? NilableInt.empty() : NilableInt.of(folded.value);
+    }
+
+    public final int[] endByToArray() {
+        final var collected = this.consume().reduce(
+            () -> new Object() { int[] values = new int[16]; int size = 0; },
+            accumulator -> value -> {
+                if (accumulator.size == accumulator.values.length)
+                    accumulator.values = Arrays.copyOf(accumulator.values, accumulator.size << 1);
+                accumulator.values[accumulator.size++] = value;
+                return true;
+            },
+            (left, right) -> {
+                if (left.size + right.size > left.values.length)
+                    left.values = Arrays.copyOf(left.values, left.size + right.size);
+                System.arraycopy(right.values, 0, left.values, left.size, right.size);
+                left.size += right.size;
+                return left;
+            }
+        );
+        return Arrays.copyOf(collected.values, collected.size);
+    }
+
+
+
+    // ---------------------------------------- Static Functions ----------------------------------------
+    public static IntPipe of(int... values) {
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                for (final int value: values)
+                    if (!sink.push(value))
+                        return false;
+                return true;
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                return Arrays.stream(values).iterator();
+            }
+        });
+    }
+
+    /** @return {@code [startInclusive, endExclusive)} */
+    public static IntPipe range(int startInclusive, int endExclusive) {
+        return startInclusive < endExclusive ? IntPipe.rangeClosed(startInclusive, endExclusive - 1) : IntPipe.of();
+    }
+
+    /** @return {@code [startInclusive, endInclusive]}, safe to use with {@link Integer#MAX_VALUE} */
+    public static IntPipe rangeClosed(int startInclusive, int endInclusive) {
+        if (startInclusive > endInclusive)
+            return IntPipe.of();
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                for (int value = startInclusive; sink.push(value); ++value)
+                    if (value == endInclusive)
+                        return true;
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                return new PrimitiveIterator.OfInt() {
+                    private int value          = startInclusive;
+                    private boolean isExhausted = false;
+
+                    @Override public boolean hasNext() {
+                        return !this.isExhausted;
+                    }
+
+                    @Override public int nextInt() {
+                        if (this.isExhausted)
+                            throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                        this.isExhausted = this.value == endInclusive;
+                        return this.isExhausted ? this.value : this.value++;
+                    }
+                };
+            }
+        });
+    }
+
+    /** Infinite {@link IntPipe}, pair it with {@link #limit(long)} or any short-circuiting {@code end-} method. */
+    public static IntPipe generate(IntSupplier generator) {
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                while (sink.push(generator.getAsInt()))
+                    continue;
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                return new PrimitiveIterator.OfInt() {
+                    @Override public boolean hasNext() { return true; }
+                    @Override public int nextInt() { return generator.getAsInt(); }
+                };
+            }
+        });
+    }
+
+    /** Infinite {@link IntPipe}: {@code seed, f(seed), f(f(seed)), ...}. */
+    public static IntPipe iterate(int seed, IntUnaryOperator next) {
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                int value = seed;
+                while (sink.push(value))
+                    value = next.applyAsInt(value);
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                return new PrimitiveIterator.OfInt() {
+                    private int value        = seed;
+                    private boolean isSeeded = false;
+
+                    @Override public boolean hasNext() { return true; }
+                    @Override public int nextInt() {
+                        this.value    = this.isSeeded ? next.applyAsInt(this.value) : this.value;
+                        this.isSeeded = true;
+                        return this.value;
+                    }
+                };
+            }
+        });
+    }
+
+    public static IntPipe from(PrimitiveIterator.OfInt source) {
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                while (source.hasNext())
+                    if (!sink.push(source.nextInt()))
+                        return false;
+                return true;
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                return source;
+            }
+        });
+    }
+
+
+
+    // ---------------------------------------- Internal ----------------------------------------
+    private IntPipe.Chain consume() {
+        if (this.consumed)
+            throw new BuggyCodeException("Consuming IntPipe more than 1");
+        this.consumed = true;
+        return this.chain;
+    }
+
+    /** Match state kept in the sink: Upstream stopping early (ex: {@link #limit(long)}) must not read as a match. */
+    private boolean isAnyMatched(IntPredicate predicate) {
+        final var state = new Object() { boolean isMatched = false; };
+        this.consume().pushAll(value -> {
+            state.isMatched = predicate.test(value);
+            return !state.isMatched;
+        });
+        return state.isMatched;
+    }
+
+    /** For stateless stage, safe to be wrapped once per parallel split. */
+    private IntPipe chainWith(IntPipe.Stage stage) {
+        return new IntPipe(this.chain.andThen(stage, true));
+    }
+
+    /** For stage requiring to observe all elements in encounter order, forcing sequential execution. */
+    private IntPipe chainWithStateful(IntPipe.Stage stage) {
+        return new IntPipe(this.chain.andThen(stage, false));
+    }
+
+    static IntPipe fromSource(IntPipe.Source source) {
+        return new IntPipe(new IntPipe.Chain(source, IntPipe.Stage.IDENTITY, true));
+    }
+
+    /** See {@link Pipe}'s sink: Return {@code false} to request upstream to stop pushing. */
+    @FunctionalInterface
+    interface Sink {
+        boolean push(int value);
+    }
+
+    /** See {@link Pipe}'s stage: Every stage produce [0..1] element per pushed element. */
+    @FunctionalInterface
+    private interface Stage {
+        IntPipe.Stage IDENTITY = downstream -> downstream;
+
+        IntPipe.Sink wrap(IntPipe.Sink downstream);
+
+        default IntPipe.Stage andThen(IntPipe.Stage next) {
+            return downstream -> this.wrap(next.wrap(downstream));
+        }
+    }
+
+    /** See {@link Pipe}'s source: Only 1 of the mode will ever get invoked, at most once. */
+    interface Source {
+        boolean pushAll(IntPipe.Sink sink);
+        PrimitiveIterator.OfInt pull();
+
+        /** Parallel push-mode, invoked before push-mode &amp; pull-mode: Reduce each split into its own partial state, combined in encounter order.
+          * @return {@link Nilable.Empty} without consuming anything if this source can't be split (ex: not bridged from parallel {@link Pipe}) */
+        default <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,IntPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            return Nilable.empty();
+        }
+    }
+
+    private record Chain(IntPipe.Source source, IntPipe.Stage stage, boolean isStateless) {
+        IntPipe.Chain andThen(IntPipe.Stage next, boolean isNextStateless) {
+            return new IntPipe.Chain(this.source, this.stage.andThen(next), this.isStateless && isNextStateless);
+        }
+
+        <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,IntPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            if (!this.isStateless)
+                return Nilable.empty();
+            return this.source.accumulateInParallel(initialize, state -> this.stage.wrap(sinkOf.apply(state)), combine);
+        }
+
+        /** Split reduction if the source is parallel &amp; every stage is stateless, otherwise 1 sequential push-mode pass into 1 state. */
+        <A> A reduce(Supplier<A> initialize, Function<? super A,IntPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            return switch (this.accumulateInParallel(initialize, sinkOf, combine)) {
+                case Nilable.Has(A state) -> state;
+                case Nilable.Empty<A> __  -> {
+                    final A state = initialize.get();
+                    this.pushAll(sinkOf.apply(state));
+                    yield state;
+                }
+            };
+        }
+
+        boolean pushAll(IntPipe.Sink sink) {
+            return this.source.pushAll(this.stage.wrap(sink));
+        }
+
+        PrimitiveIterator.OfInt pull() {
+            final PrimitiveIterator.OfInt upstream = this.source.pull();
+            if (this.stage == IntPipe.Stage.IDENTITY)
+                return upstream;
+            // Pull-mode adapter: Single slot buffer is enough, every stage produce [0..1] element
+            return new PrimitiveIterator.OfInt() {
+                private int buffer;
+                private boolean isValidBuffer  = false;
+                private boolean isUpstreamOpen = true;
+                private final IntPipe.Sink sink = Chain.this.stage.wrap(value -> {
+                    this.buffer        = value;
+                    this.isValidBuffer = true;
+                    return true;
+                });
+
+                @Override public boolean hasNext() {
+                    while (!this.isValidBuffer && this.isUpstreamOpen && upstream.hasNext())
+                        this.isUpstreamOpen = this.sink.push(upstream.nextInt());
+                    return this.isValidBuffer;
+                }
+
+                @Override public int nextInt() {
+                    if (this.hasNext()) {
+                        this.isValidBuffer = false;
+                        return this.buffer;
+                    }
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                }
+            };
+        }
+    }
+}
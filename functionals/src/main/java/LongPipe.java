@@ -0,0 +1,511 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LongSummaryStatistics;
+import java.util.PrimitiveIterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+
+
+/** Primitive {@code long} specialization of {@link Pipe}: Same push-based fused sink chain, but no boxing per element.<br/>
+  * Every {@code end-} method allocate constant amount of memory, independent of element count (except {@link #endByToArray()}).
+  * Bridge back to reference {@link Pipe} with {@link #mapToObj(LongFunction)} or {@link #boxed()}.<br/>
+  * Bridged from parallel {@link Pipe}: Stateless stages &amp; reducing {@code end-} methods run on each split, short-circuiting {@code end-} methods, stateful stages &amp; bridging back run sequentially. */
+public final class LongPipe implements Transmutable<LongPipe> {
+    private final LongPipe.Chain chain;
+    private boolean consumed;
+
+    private LongPipe(LongPipe.Chain chain) {
+        this.chain    = chain;
+        this.consumed = false;
+    }
+
+
+
+    // ---------------------------------------- Instance Methods ----------------------------------------
+    public final LongPipe map(LongUnaryOperator mapper) {
+        return this.chainWith(downstream -> value -> downstream.push(mapper.applyAsLong(value)));
+    }
+
+    public final IntPipe mapToInt(LongToIntFunction mapper) {
+        final LongPipe.Chain upstream = this.chain;
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsInt(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,IntPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return upstream.accumulateInParallel(initialize, state -> {
+                    final IntPipe.Sink sink = sinkOf.apply(state);
+                    return value -> sink.push(mapper.applyAsInt(value));
+                }, combine);
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                final PrimitiveIterator.OfLong source = upstream.pull();
+                return new PrimitiveIterator.OfInt() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public int nextInt() { return mapper.applyAsInt(source.nextLong()); }
+                };
+            }
+        });
+    }
+
+    public final DoublePipe mapToDouble(LongToDoubleFunction mapper) {
+        final LongPipe.Chain upstream = this.chain;
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsDouble(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,DoublePipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return upstream.accumulateInParallel(initialize, state -> {
+                    final DoublePipe.Sink sink = sinkOf.apply(state);
+                    return value -> sink.push(mapper.applyAsDouble(value));
+                }, combine);
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                final PrimitiveIterator.OfLong source = upstream.pull();
+                return new PrimitiveIterator.OfDouble() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public double nextDouble() { return mapper.applyAsDouble(source.nextLong()); }
+                };
+            }
+        });
+    }
+
+    public final <R> Pipe<R> mapToObj(LongFunction<? extends R> mapper) {
+        final LongPipe.Chain upstream = this.chain;
+        return Pipe.fromSource(new Pipe.Source<R>() {
+            @Override public boolean pushAll(Pipe.Sink<? super R> sink) {
+                return upstream.pushAll(value -> sink.push(mapper.apply(value)));
+            }
+
+            @Override public Iterator<R> pull() {
+                final PrimitiveIterator.OfLong source = upstream.pull();
+                return new Iterator<R>() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public R next() { return mapper.apply(source.nextLong()); }
+                };
+            }
+        });
+    }
+
+    public final Pipe<Long> boxed() {
+        return this.mapToObj(Long::valueOf);
+    }
+
+    public final LongPipe peek(LongConsumer sideEffectPeeker) {
+        return this.chainWith(downstream -> value -> {
+            sideEffectPeeker.accept(value);
+            return downstream.push(value);
+        });
+    }
+
+    public final LongPipe keepIf(LongPredicate predicate) {
+        return this.chainWith(downstream -> value -> !predicate.test(value) || downstream.push(value));
+    }
+
+    public final LongPipe removeIf(LongPredicate predicate) {
+        return this.chainWith(downstream -> value -> predicate.test(value) || downstream.push(value));
+    }
+
+    public final LongPipe keepWhile(LongPredicate predicate) {
+        return this.chainWithStateful(downstream -> value -> predicate.test(value) && downstream.push(value));
+    }
+
+    public final LongPipe limit(long count) {
+        if (count <= 0)
+            return LongPipe.of();
+        return this.chainWithStateful(downstream -> new LongPipe.Sink() {
+            private long currentCount = 0;
+
+            @Override public boolean push(long value) {
+                return downstream.push(value) && ++this.currentCount < count;
+            }
+        });
+    }
+
+    public final LongPipe skip(long count) {
+        return this.chainWithStateful(downstream -> new LongPipe.Sink() {
+            private long currentCount = 0;
+
+            @Override public boolean push(long value) {
+                if (this.currentCount < count) {
+                    ++this.currentCount;
+                    return true;
+                }
+                return downstream.push(value);
+            }
+        });
+    }
+
+
+
+    // ---------------------------------------- Terminal Methods ----------------------------------------
+    /** Consume this {@link LongPipe} in pull-mode. Prefer any {@code end-} method, as those drive the fused push-mode loop instead. */
+    public final PrimitiveIterator.OfLong iterator() {
+        return this.consume().pull();
+    }
+
+    public final boolean endByMatchAll(LongPredicate predicate) {
+        return !this.isAnyMatched(predicate.negate());
+    }
+
+    public final boolean endByMatchNone(LongPredicate predicate) {
+        return !this.isAnyMatched(predicate);
+    }
+
+    public final boolean endByMatchAny(LongPredicate predicate) {
+        return this.isAnyMatched(predicate);
+    }
+
+    public final long endByCount() {
+        return this.consume().reduce(
+            () -> new Object() { long count = 0; },
+            accumulator -> __ -> {
+                ++accumulator.count;
+                return true;
+            },
+            (left, right) -> { left.count += right.count; return left; }
+        ).count;
+    }
+
+    public final long endBySum() {
+        return this.consume().reduce(
+            () -> new Object() { long sum = 0; },
+            accumulator -> value -> {
+                accumulator.sum += value;
+                return true;
+            },
+            (left, right) -> { left.sum += right.sum; return left; }
+        ).sum;
+    }
+
+    /** Short-circuiting, unboxed counterpart of {@link Pipe#endByTakeFirst()}. */
+    public final NilableLong endByTakeFirst() {
+        final var accumulator = new Object() { NilableLong first = NilableLong.empty(); };
+        this.consume().pushAll(value -> {
+            accumulator.first = NilableLong.of(value);
+            return false;
+        });
+        return accumulator.first;
+    }
+
+    public final NilableLong endByMin() {
+        return this.endByFold(Math::min);
+    }
+
+    public final NilableLong endByMax() {
+        return this.endByFold(Math::max);
+    }
+
+    public final LongSummaryStatistics endBySummaryStatistics() {
+        return this.consume().reduce(
+            LongSummaryStatistics::new,
+            accumulator -> value -> {
+                accumulator.accept(value);
+                return true;
+            },
+            (left, right) -> { left.combine(right); return left; }
+        );
+    }
+
+    /** Always sequential, so {@code initial} doesn't need to be identity of {@code reducer}. Parallel counterpart: {@link #endByFold(LongBinaryOperator)}. */
+    public final long endByFold(long initial, LongBinaryOperator reducer) {
+        final var accumulator = new Object() { long value = initial; };
+        this.consume().pushAll(value -> {
+            accumulator.value = reducer.applyAsLong(accumulator.value, value);
+            return true;
+        });
+        return accumulator.value;
+    }
+
+    /** @param reducer Associative reducer
+      * @return Reduction result, {@link NilableLong.Empty} if there's no element */
+    public final NilableLong endByFold(LongBinaryOperator reducer) {
+        final var folded = this.consume().reduce(
+            () -> new Object() { long value; boolean isEmpty = true; },
+            accumulator -> value -> {
+                accumulator.value   = accumulator.isEmpty ? value : reducer.applyAsLong(accumulator.value, value);
+                accumulator.isEmpty = false;
+                return true;
+            },
+            (left, right) -> {
+                if (left.isEmpty)
+                    return right;
+                if (!right.isEmpty)
+                    left.value = reducer.applyAsLong(left.value, right.value);
+                return left;
+            }
+        );
+        return folded.isEmpty ? NilableLong.empty() : NilableLong.of(folded.value);
+    }
+
+    public final long[] endByToArray() {
+        final var collected = this.consume().reduce(
+            () -> new Object() { long[] values = new long[16]; int size = 0; },
+            accumulator -> value -> {
+                if (accumulator.size == accumulator.values.length)
+                    accumulator.values = Arrays.copyOf(accumulator.values, accumulator.size << 1);
+                accumulator.values[accumulator.size++] = value;
+                return true;
+            },
+            (left, right) -> {
+                if (left.size + right.size > left.values.length)
+                    left.values = Arrays.copyOf(left.values, left.size + right.size);
+                System.arraycopy(right.values, 0, left.values, left.size, right.size);
+                left.size += right.size;
+                return left;
+            }
+        );
+        return Arrays.copyOf(collected.values, collected.size);
+    }
+
+
+
+    // ---------------------------------------- Static Functions ----------------------------------------
+    public static LongPipe of(long... values) {
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                for (final long value: values)
+                    if (!sink.push(value))
+                        return false;
+                return true;
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                return Arrays.stream(values).iterator();
+            }
+        });
+    }
+
+    /** @return {@code [startInclusive, endExclusive)} */
+    public static LongPipe range(long startInclusive, long endExclusive) {
+        return startInclusive < endExclusive ? LongPipe.rangeClosed(startInclusive, endExclusive - 1) : LongPipe.of();
+    }
+
+    /** @return {@code [startInclusive, endInclusive]}, safe to use with {@link Long#MAX_VALUE} */
+    public static LongPipe rangeClosed(long startInclusive, long endInclusive) {
+        if (startInclusive > endInclusive)
+            return LongPipe.of();
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                for (long value = startInclusive; sink.push(value); ++value)
+                    if (value == endInclusive)
+                        return true;
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                return new PrimitiveIterator.OfLong() {
+                    private long value          = startInclusive;
+                    private boolean isExhausted = false;
+
+                    @Override public boolean hasNext() {
+                        return !this.isExhausted;
+                    }
+
+                    @Override public long nextLong() {
+                        if (this.isExhausted)
+                            throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                        this.isExhausted = this.value == endInclusive;
+                        return this.isExhausted ? this.value : this.value++;
+                    }
+                };
+            }
+        });
+    }
+
+    /** Infinite {@link LongPipe}, pair it with {@link #limit(long)} or any short-circuiting {@code end-} method. */
+    public static LongPipe generate(LongSupplier generator) {
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                while (sink.push(generator.getAsLong()))
+                    continue;
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                return new PrimitiveIterator.OfLong() {
+                    @Override public boolean hasNext() { return true; }
+                    @Override public long nextLong() { return generator.getAsLong(); }
+                };
+            }
+        });
+    }
+
+    /** Infinite {@link LongPipe}: {@code seed, f(seed), f(f(seed)), ...}. */
+    public static LongPipe iterate(long seed, LongUnaryOperator next) {
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                long value = seed;
+                while (sink.push(value))
+                    value = next.applyAsLong(value);
+                return false;
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                return new PrimitiveIterator.OfLong() {
+                    private long value        = seed;
+                    private boolean isSeeded = false;
+
+                    @Override public boolean hasNext() { return true; }
+                    @Override public long nextLong() {
+                        this.value    = this.isSeeded ? next.applyAsLong(this.value) : this.value;
+                        this.isSeeded = true;
+                        return this.value;
+                    }
+                };
+            }
+        });
+    }
+
+    public static LongPipe from(PrimitiveIterator.OfLong source) {
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                while (source.hasNext())
+                    if (!sink.push(source.nextLong()))
+                        return false;
+                return true;
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                return source;
+            }
+        });
+    }
+
+
+
+    // ---------------------------------------- Internal ----------------------------------------
+    private LongPipe.Chain consume() {
+        if (this.consumed)
+            throw new BuggyCodeException("Consuming LongPipe more than 1");
+        this.consumed = true;
+        return this.chain;
+    }
+
+    /** Match state kept in the sink: Upstream stopping early (ex: {@link #limit(long)}) must not read as a match. */
+    private boolean isAnyMatched(LongPredicate predicate) {
+        final var state = new Object() { boolean isMatched = false; };
+        this.consume().pushAll(value -> {
+            state.isMatched = predicate.test(value);
+            return !state.isMatched;
+        });
+        return state.isMatched;
+    }
+
+    /** For stateless stage, safe to be wrapped once per parallel split. */
+    private LongPipe chainWith(LongPipe.Stage stage) {
+        return new LongPipe(this.chain.andThen(stage, true));
+    }
+
+    /** For stage requiring to observe all elements in encounter order, forcing sequential execution. */
+    private LongPipe chainWithStateful(LongPipe.Stage stage) {
+        return new LongPipe(this.chain.andThen(stage, false));
+    }
+
+    static LongPipe fromSource(LongPipe.Source source) {
+        return new LongPipe(new LongPipe.Chain(source, LongPipe.Stage.IDENTITY, true));
+    }
+
+    /** See {@link Pipe}'s sink: Return {@code false} to request upstream to stop pushing. */
+    @FunctionalInterface
+    interface Sink {
+        boolean push(long value);
+    }
+
+    /** See {@link Pipe}'s stage: Every stage produce [0..1] element per pushed element. */
+    @FunctionalInterface
+    private interface Stage {
+        LongPipe.Stage IDENTITY = downstream -> downstream;
+
+        LongPipe.Sink wrap(LongPipe.Sink downstream);
+
+        default LongPipe.Stage andThen(LongPipe.Stage next) {
+            return downstream -> this.wrap(next.wrap(downstream));
+        }
+    }
+
+    /** See {@link Pipe}'s source: Only 1 of the mode will ever get invoked, at most once. */
+    interface Source {
+        boolean pushAll(LongPipe.Sink sink);
+        PrimitiveIterator.OfLong pull();
+
+        /** Parallel push-mode, invoked before push-mode &amp; pull-mode: Reduce each split into its own partial state, combined in encounter order.
+          * @return {@link Nilable.Empty} without consuming anything if this source can't be split (ex: not bridged from parallel {@link Pipe}) */
+        default <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,LongPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            return Nilable.empty();
+        }
+    }
+
+    private record Chain(LongPipe.Source source, LongPipe.Stage stage, boolean isStateless) {
+        LongPipe.Chain andThen(LongPipe.Stage next, boolean isNextStateless) {
+            return new LongPipe.Chain(this.source, this.stage.andThen(next), this.isStateless && isNextStateless);
+        }
+
+        <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,LongPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            if (!this.isStateless)
+                return Nilable.empty();
+            return this.source.accumulateInParallel(initialize, state -> this.stage.wrap(sinkOf.apply(state)), combine);
+        }
+
+        /** Split reduction if the source is parallel &amp; every stage is stateless, otherwise 1 sequential push-mode pass into 1 state. */
+        <A> A reduce(Supplier<A> initialize, Function<? super A,LongPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+            return switch (this.accumulateInParallel(initialize, sinkOf, combine)) {
+                case Nilable.Has(A state) -> state;
+                case Nilable.Empty<A> __  -> {
+                    final A state = initialize.get();
+                    this.pushAll(sinkOf.apply(state));
+                    yield state;
+                }
+            };
+        }
+
+        boolean pushAll(LongPipe.Sink sink) {
+            return this.source.pushAll(this.stage.wrap(sink));
+        }
+
+        PrimitiveIterator.OfLong pull() {
+            final PrimitiveIterator.OfLong upstream = this.source.pull();
+            if (this.stage == LongPipe.Stage.IDENTITY)
+                return upstream;
+            // Pull-mode adapter: Single slot buffer is enough, every stage produce [0..1] element
+            return new PrimitiveIterator.OfLong() {
+                private long buffer;
+                private boolean isValidBuffer  = false;
+                private boolean isUpstreamOpen = true;
+                private final LongPipe.Sink sink = Chain.this.stage.wrap(value -> {
+                    this.buffer        = value;
+                    this.isValidBuffer = true;
+                    return true;
+                });
+
+                @Override public boolean hasNext() {
+                    while (!this.isValidBuffer && this.isUpstreamOpen && upstream.hasNext())
+                        this.isUpstreamOpen = this.sink.push(upstream.nextLong());
+                    return this.isValidBuffer;
+                }
+
+                @Override public long nextLong() {
+                    if (this.hasNext()) {
+                        this.isValidBuffer = false;
+                        return this.buffer;
+                    }
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                }
+            };
+        }
+    }
+}
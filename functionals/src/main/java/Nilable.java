@@ -1,11 +1,18 @@
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /** Container of [0..1] element.<br/>
@@ -24,6 +31,7 @@ import java.util.stream.Stream;
   * 
   * API families:<ul>
   *     <li>Factory functions: {@code of-} prefix, {@link #empty()}, {@link #from(Optional)}</li>
+  *     <li>Bulk functions: {@link #traverse(Iterable, Function)}, {@link #sequence(Iterable)}</li>
   *     <li>Boolean operators on {@link Nilable} type: {@link #and(Nilable)}, {@link #or(Nilable)}, {@link #xor(Nilable)}</li>
   *     <li>Boolean operators on contained type {@code T}: {@code is-} prefix, {@link #isHasValue()}</li>
   *     <li>Algebraic operators: {@code map-} prefix &amp; {@link #flatMap(Function)}</li>
@@ -126,6 +134,87 @@ public sealed interface Nilable<T> extends Transmutable<Nilable<T>> { // Post-Va
 
 
 
+    // ------------------------- Static functions: Traversal -------------------------
+    /** Fail-fast traverse: Map every element through {@code mapper}, stopping at the first {@link Nilable.Empty}.
+      * @param <T> Element type
+      * @param <R> Mapped type
+      * @param values Source elements, iterated once
+      * @param mapper Function producing {@link Nilable} per element, not invoked after the first {@link Nilable.Empty}
+      * @return {@link Nilable.Has} of all mapped values in encounter order, or {@link Nilable.Empty}
+      * @see Faulty#traverse(Iterable, Function) Faulty counterpart, also provides accumulate-all mode */
+    public static <T,R> Nilable<List<R>> traverse(Iterable<T> values, Function<? super T,Nilable<R>> mapper) {
+        final List<R> mapped = values instanceof Collection<T> collection ? new ArrayList<>(collection.size()) : new ArrayList<>();
+        for (final T value: values)
+            if (mapper.apply(value) instanceof Nilable.Has(R hasValue))
+                mapped.add(hasValue);
+            else
+                return Nilable.empty();
+        return new Nilable.Has<>(Collections.unmodifiableList(mapped));
+    }
+
+    /** Array-variant of {@link #traverse(Iterable, Function)}. */
+    public static <T,R> Nilable<List<R>> traverse(T[] values, Function<? super T,Nilable<R>> mapper) {
+        return Nilable.traverse(Arrays.asList(values), mapper);
+    }
+
+    /** {@link Pipe}-variant of {@link #traverse(Iterable, Function)}: Short-circuiting terminal, also under {@link Pipe#parallel()}. */
+    public static <T,R> Nilable<List<R>> traverse(Pipe<T> values, Function<? super T,Nilable<R>> mapper) {
+        return values.map(mapper).end(Nilable.failFastList());
+    }
+
+    /** Fail-fast sequence: {@code [Nilable<T>] -> Nilable<[T]>}, see {@link #traverse(Iterable, Function)}. */
+    public static <T> Nilable<List<T>> sequence(Iterable<Nilable<T>> nilables) {
+        return Nilable.traverse(nilables, Function.identity());
+    }
+
+    /** Array-variant of {@link #sequence(Iterable)}. */
+    @SafeVarargs // Read-only
+    public static <T> Nilable<List<T>> sequence(Nilable<T>... nilables) {
+        final var copied = new ArrayList<Nilable<T>>(nilables.length); // Element-wise copy, passing the varargs array on trips heap pollution lint
+        for (final Nilable<T> nilable: nilables)
+            copied.add(nilable);
+        return Nilable.traverse(copied, Function.identity());
+    }
+
+    /** {@link Pipe}-variant of {@link #sequence(Iterable)}. */
+    public static <T> Nilable<List<T>> sequence(Pipe<Nilable<T>> nilables) {
+        return nilables.end(Nilable.failFastList());
+    }
+
+    /** Parallel fail-fast traverse over caller-supplied {@code executor}, see {@link Faulty#traverseParallel(Iterable, Function, Executor)} for the scheduling contract. */
+    public static <T,R> Nilable<List<R>> traverseParallel(Iterable<T> values, Function<? super T,Nilable<R>> mapper, Executor executor) {
+        return Faulty.traverseParallel(values, value -> mapper.apply(value).toFaulty(Boolean.TRUE), executor).toNilableOk();
+    }
+
+    /** Short-circuiting {@link Pipe} terminal behind {@link #traverse(Pipe, Function)}. */
+    private static <T> Pipe.Terminal.Accumulator<Nilable<T>,?,Nilable<List<T>>> failFastList() {
+        final class Partial {
+            final List<T> values = new ArrayList<>();
+            boolean isEmpty      = false;
+
+            void add(Nilable<T> element) {
+                if (element instanceof Nilable.Has(T value))
+                    this.values.add(value);
+                else
+                    this.isEmpty = true;
+            }
+
+            Partial merge(Partial right) {
+                this.isEmpty |= right.isEmpty;
+                if (!this.isEmpty)
+                    this.values.addAll(right.values);
+                return this;
+            }
+
+            Nilable<List<T>> finish() {
+                return this.isEmpty ? Nilable.empty() : new Nilable.Has<>(Collections.unmodifiableList(this.values));
+            }
+        }
+        return Pipe.Terminal.Accumulator.of(Partial::new, Partial::add, Partial::merge, Partial::finish, partial -> partial.isEmpty);
+    }
+
+
+
     // ------------------------- Functor instance methods -------------------------
     /** Primary functor method: Apply {@code mapper} if {@link Nilable#isHasValue()}, else no-op.<br/>
       * Important note: Due to prevalence of returning bare {@code null} in Java code, this method can accept {@code null}-returning method reference or lambdas.
@@ -158,6 +247,27 @@ public sealed interface Nilable<T> extends Transmutable<Nilable<T>> { // Post-Va
         return this instanceof Nilable.Has(T value) ? Nilable.from(mapper.apply(value)) : Nilable.empty();
     }
 
+    /** Unboxing-variant of {@link #map(Function)}, {@code mapper} result stays as bare {@code int}.
+      * @param mapper Function to be applied to type {@code T} and produces {@code int}
+      * @return Mapped {@link NilableInt} */
+    public default NilableInt mapToInt(ToIntFunction<? super T> mapper) {
+        return this instanceof Nilable.Has(T value) ? NilableInt.of(mapper.applyAsInt(value)) : NilableInt.empty();
+    }
+
+    /** Unboxing-variant of {@link #map(Function)}, {@code mapper} result stays as bare {@code long}.
+      * @param mapper Function to be applied to type {@code T} and produces {@code long}
+      * @return Mapped {@link NilableLong} */
+    public default NilableLong mapToLong(ToLongFunction<? super T> mapper) {
+        return this instanceof Nilable.Has(T value) ? NilableLong.of(mapper.applyAsLong(value)) : NilableLong.empty();
+    }
+
+    /** Unboxing-variant of {@link #map(Function)}, {@code mapper} result stays as bare {@code double}.
+      * @param mapper Function to be applied to type {@code T} and produces {@code double}
+      * @return Mapped {@link NilableDouble} */
+    public default NilableDouble mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return this instanceof Nilable.Has(T value) ? NilableDouble.of(mapper.applyAsDouble(value)) : NilableDouble.empty();
+    }
+
     /** {@link Nilable.Empty}-counterpart of {@link #map(Function)}: Map this container if {@link Nilable#isEmpty()}.<br/>
       * Similiar to {@link #or(Nilable)} combined with {@link #of(Object)}.
       * @param supplier Replacement value if {@link #isEmpty()}
@@ -0,0 +1,153 @@
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/** Compact columnar container of {@link Nilable}: 1 dense value array plus 1 presence bitmap, instead of 1 {@link Nilable.Has} object per slot.<br/>
+  * Immutable once built. {@link Nilable} wrapper is only materialized on demand ({@link #get(int)}, {@link #toPipe()}), bulk operations work on the arrays directly.
+  * @param <T> Any type */
+public final class NilableArray<T> implements Transmutable<NilableArray<T>> {
+    private final Object[] values; // null on Empty slot
+    private final long[] presence;
+    private final int length;
+
+    private NilableArray(Object[] values, long[] presence, int length) {
+        this.values   = values;
+        this.presence = presence;
+        this.length   = length;
+    }
+
+
+
+    // ---------------------------------------- Static Functions ----------------------------------------
+    /** @param nullableValues {@code null} element becomes {@link Nilable.Empty} slot, copied */
+    @SafeVarargs
+    public static <T> NilableArray<T> of(T... nullableValues) {
+        final long[] presence = Bitmap.ofLength(nullableValues.length);
+        for (int i = 0; i < nullableValues.length; ++i)
+            if (nullableValues[i] != null)
+                Bitmap.set(presence, i);
+        return new NilableArray<>(Arrays.copyOf(nullableValues, nullableValues.length, Object[].class), presence, nullableValues.length);
+    }
+
+    public static <T> NilableArray.Builder<T> builder() {
+        return new NilableArray.Builder<>();
+    }
+
+    /** {@link Pipe} terminal packing {@link Nilable} elements, order-preserving under {@link Pipe#parallel()}. */
+    public static <T> Pipe.Terminal.Accumulator<Nilable<T>,?,NilableArray<T>> pack() {
+        return Pipe.Terminal.Accumulator.of(NilableArray.Builder<T>::new, NilableArray.Builder::add, NilableArray.Builder::addAll, NilableArray.Builder::build);
+    }
+
+
+
+    // ---------------------------------------- Instance Methods ----------------------------------------
+    public int length() {
+        return this.length;
+    }
+
+    /** Materialize 1 {@link Nilable} wrapper. */
+    @SuppressWarnings("unchecked") // Only T is ever stored
+    public Nilable<T> get(int index) {
+        Objects.checkIndex(index, this.length);
+        return Bitmap.isSet(this.presence, index) ? new Nilable.Has<>((T) this.values[index]) : Nilable.empty();
+    }
+
+    public boolean isHasValue(int index) {
+        Objects.checkIndex(index, this.length);
+        return Bitmap.isSet(this.presence, index);
+    }
+
+    public int countHasValue() {
+        return Bitmap.count(this.presence);
+    }
+
+    public int countEmpty() {
+        return this.length - Bitmap.count(this.presence);
+    }
+
+    /** Bulk {@link Nilable#map(Function)}: Apply {@code mapper} on {@link Nilable.Has} slots only, {@code null} result becomes {@link Nilable.Empty} slot. */
+    @SuppressWarnings("unchecked") // Only T is ever stored
+    public <R> NilableArray<R> map(Function<? super T,? extends R> mapper) {
+        final Object[] mapped  = new Object[this.length];
+        final long[] presence = this.presence.clone();
+        for (final var indices = Bitmap.indices(this.presence, this.length, true); indices.hasNext(); ) {
+            final int index = indices.nextInt();
+            mapped[index]   = mapper.apply((T) this.values[index]);
+            if (mapped[index] == null)
+                Bitmap.clear(presence, index);
+        }
+        return new NilableArray<>(mapped, presence, this.length);
+    }
+
+    /** Bulk {@link Nilable#keepIf(Predicate)}: Same length, rejected slots become {@link Nilable.Empty}.<br/>
+      * Only the bitmap is copied, rejected values stay reachable through the shared value array. */
+    @SuppressWarnings("unchecked") // Only T is ever stored
+    public NilableArray<T> keepIf(Predicate<? super T> predicate) {
+        final long[] presence = this.presence.clone();
+        for (final var indices = Bitmap.indices(this.presence, this.length, true); indices.hasNext(); ) {
+            final int index = indices.nextInt();
+            if (!predicate.test((T) this.values[index]))
+                Bitmap.clear(presence, index);
+        }
+        return new NilableArray<>(this.values, presence, this.length);
+    }
+
+    /** Lazy source of all slots, 1 {@link Nilable} materialized per pulled/pushed element. */
+    public Pipe<Nilable<T>> toPipe() {
+        return IntPipe.range(0, this.length).mapToObj(this::get);
+    }
+
+    /** Lazy source of {@link Nilable.Has} values only, unwrapped: No wrapper materialized at all, {@link Nilable.Empty} slots skipped 64 at a time. */
+    @SuppressWarnings("unchecked") // Only T is ever stored
+    public Pipe<T> toPipeHasValue() {
+        return IntPipe.from(Bitmap.indices(this.presence, this.length, true)).mapToObj(index -> (T) this.values[index]);
+    }
+
+    @Override public String toString() {
+        return String.format("NilableArray(length=%d, hasValue=%d)", this.length, this.countHasValue());
+    }
+
+
+
+    // ---------------------------------------- Builder ----------------------------------------
+    /** Append-only, not thread-safe.
+      * @param <T> Any type */
+    public static final class Builder<T> {
+        private Object[] values = new Object[16];
+        private long[] presence = Bitmap.ofLength(16);
+        private int length      = 0;
+
+        private Builder() {}
+
+        public NilableArray.Builder<T> add(Nilable<T> nilable) {
+            return this.addNullable(nilable instanceof Nilable.Has(T value) ? value : null);
+        }
+
+        public NilableArray.Builder<T> addNullable(T nullableValue) {
+            if (this.length == this.values.length)
+                this.values = Arrays.copyOf(this.values, this.length << 1);
+            this.presence = Bitmap.ensureLength(this.presence, this.length + 1);
+            if (nullableValue != null)
+                Bitmap.set(this.presence, this.length);
+            this.values[this.length++] = nullableValue;
+            return this;
+        }
+
+        public NilableArray.Builder<T> addEmpty() {
+            return this.addNullable(null);
+        }
+
+        @SuppressWarnings("unchecked") // Only T is ever stored
+        public NilableArray.Builder<T> addAll(NilableArray.Builder<T> other) {
+            for (int i = 0; i < other.length; ++i)
+                this.addNullable((T) other.values[i]);
+            return this;
+        }
+
+        /** Trimmed copy, this {@link Builder} stays usable. */
+        public NilableArray<T> build() {
+            return new NilableArray<>(Arrays.copyOf(this.values, this.length), Arrays.copyOf(this.presence, Bitmap.wordCount(this.length)), this.length);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/** Primitive {@code double} specialization of {@link Nilable}: Same {@code Has}/{@code Empty} shape for exhaustive pattern matching, but no boxed {@link Double}.<br/>
+  * {@link NilableDouble.Has} holds the bare {@code double}, so {@link #of(double)} costs 1 small record (often scalar-replaced by JIT) instead of {@link Double} + {@link Nilable.Has}.<br/>
+  * Naming follows {@link Nilable}, bridge with {@link #from(Nilable)} &amp; {@link #toNilable()}, or use {@link #toPipe()} to feed {@link DoublePipe}.
+  *
+  * @see OptionalDouble */
+public sealed interface NilableDouble extends Transmutable<NilableDouble> {
+    /** Type representing container of 1 {@code double}.
+      * @param value Any {@code double} */
+    public /** value */ record Has(double value) implements NilableDouble {
+        @Override public String toString() { return String.format("Has<double>(%s)", this.value); }
+    }
+    /** Type representing container of 0 {@code double}. */
+    public static final /** value */ class Empty implements NilableDouble {
+        private static final NilableDouble.Empty INSTANCE = new NilableDouble.Empty();
+        private Empty() {}
+        @Override public String toString() { return "Empty"; }
+        @Override public boolean equals(Object obj) { return this == obj; }
+        @Override public int hashCode() { return 0; }
+    }
+
+
+
+    // ------------------------- Static functions -------------------------
+    public static NilableDouble of(double value) {
+        return new NilableDouble.Has(value);
+    }
+
+    public static NilableDouble empty() {
+        return NilableDouble.Empty.INSTANCE;
+    }
+
+    /** Inbound-transmutation method: Unbox {@link Nilable} of {@link Double}.
+      * @see #toNilable() */
+    public static NilableDouble from(Nilable<Double> nilable) {
+        return nilable instanceof Nilable.Has(Double value) ? new NilableDouble.Has(value) : NilableDouble.empty();
+    }
+
+    /** Inbound-transmutation method: Apply canonical bijection {@link OptionalDouble} {@code ->} {@link NilableDouble}.
+      * @see #toOptional() */
+    public static NilableDouble from(OptionalDouble optional) {
+        return optional.isPresent() ? new NilableDouble.Has(optional.getAsDouble()) : NilableDouble.empty();
+    }
+
+
+
+    // ------------------------- Functor instance methods -------------------------
+    public default NilableDouble map(DoubleUnaryOperator mapper) {
+        return this instanceof NilableDouble.Has(double value) ? new NilableDouble.Has(mapper.applyAsDouble(value)) : NilableDouble.empty();
+    }
+
+    public default NilableInt mapToInt(DoubleToIntFunction mapper) {
+        return this instanceof NilableDouble.Has(double value) ? new NilableInt.Has(mapper.applyAsInt(value)) : NilableInt.empty();
+    }
+
+    public default NilableLong mapToLong(DoubleToLongFunction mapper) {
+        return this instanceof NilableDouble.Has(double value) ? new NilableLong.Has(mapper.applyAsLong(value)) : NilableLong.empty();
+    }
+
+    /** Boxing-variant of {@link #map(DoubleUnaryOperator)}, see {@link Nilable#map(java.util.function.Function)} on {@code null}-returning {@code mapper}. */
+    public default <R> Nilable<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        return this instanceof NilableDouble.Has(double value) ? Nilable.of(mapper.apply(value)) : Nilable.empty();
+    }
+
+    /** See {@link Nilable#flatMap(java.util.function.Function)}. */
+    public default NilableDouble flatMap(DoubleFunction<NilableDouble> mapper) {
+        return this instanceof NilableDouble.Has(double value) ? mapper.apply(value) : NilableDouble.empty();
+    }
+
+    /** See {@link Nilable#mapEmpty(Object)}. */
+    public default NilableDouble mapEmpty(double replacement) {
+        return this instanceof NilableDouble.Empty ? new NilableDouble.Has(replacement) : this;
+    }
+
+    /** See {@link Nilable#keepIf(java.util.function.Predicate)}. */
+    public default NilableDouble keepIf(DoublePredicate predicate) {
+        return this instanceof NilableDouble.Has(double value) && predicate.test(value) ? this : NilableDouble.empty();
+    }
+
+    public default NilableDouble removeIf(DoublePredicate predicate) {
+        return this instanceof NilableDouble.Has(double value) && !predicate.test(value) ? this : NilableDouble.empty();
+    }
+
+
+
+    // ------------------------- Transmutation methods -------------------------
+    /** Outbound-transmutation method: Box into {@link Nilable} of {@link Double}.
+      * @see #from(Nilable) */
+    public default Nilable<Double> toNilable() {
+        return this instanceof NilableDouble.Has(double value) ? new Nilable.Has<>(value) : Nilable.empty();
+    }
+
+    /** @see #from(OptionalDouble) */
+    public default OptionalDouble toOptional() {
+        return this instanceof NilableDouble.Has(double value) ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    /** Canonical injection from [0..1] container {@link NilableDouble} to [0..] lazy-container {@link DoublePipe}. */
+    public default DoublePipe toPipe() {
+        return this instanceof NilableDouble.Has(double value) ? DoublePipe.of(value) : DoublePipe.of();
+    }
+
+
+
+    // ------------------------- Query methods -------------------------
+    public default boolean isHasValue() {
+        return this instanceof NilableDouble.Has;
+    }
+
+    public default boolean isHasValue(DoublePredicate predicate) {
+        return this instanceof NilableDouble.Has(double value) && predicate.test(value);
+    }
+
+    public default boolean isEmpty() {
+        return this instanceof NilableDouble.Empty;
+    }
+
+
+
+    // ------------------------- Side-effect methods -------------------------
+    public default NilableDouble peek(DoubleConsumer sideEffectLambda) {
+        if (this instanceof NilableDouble.Has(double value))
+            sideEffectLambda.accept(value);
+        return this;
+    }
+
+    public default NilableDouble peekEmpty(Runnable sideEffectLambda) {
+        if (this instanceof NilableDouble.Empty)
+            sideEffectLambda.run();
+        return this;
+    }
+
+
+
+    // ------------------------- Boolean short-circuiting operator -------------------------
+    public default NilableDouble or(NilableDouble other) {
+        return this instanceof NilableDouble.Has ? this : other;
+    }
+
+    public default NilableDouble or(Supplier<NilableDouble> other) {
+        return this instanceof NilableDouble.Has ? this : other.get();
+    }
+
+
+
+    // ------------------------- Unwrapping methods -------------------------
+    public default double orElse(double other) {
+        return this instanceof NilableDouble.Has(double value) ? value : other;
+    }
+
+    public default double orElse(DoubleSupplier other) {
+        return this instanceof NilableDouble.Has(double value) ? value : other.getAsDouble();
+    }
+
+    /** See {@link Nilable#unwrap()}.
+      * @throws Exception Invoked on {@link NilableDouble.Empty}. Checked exception with default message. */
+    public default double unwrap() throws Exception {
+        return switch (this) {
+            case NilableDouble.Has(double value) -> value;
+            case NilableDouble.Empty __          -> { throw new Exception("Trying to invoke NilableDouble.Empty.unwrap()"); }
+        };
+    }
+
+    /** See {@link Nilable#zDangerouslyUnwrap(String)}.
+      * @param invariantAssumptionComment Comment explaining why this invocation should be safe
+      * @throws BuggyCodeException Unchecked exception, invoked on {@link NilableDouble.Empty} */
+    @Deprecated(since="not-really-deprecated-but-only-used-as-dangerous-marker")
+    public default double zDangerouslyUnwrap(String invariantAssumptionComment) throws BuggyCodeException {
+        return switch (this) {
+            case NilableDouble.Has(double value) -> value;
+            case NilableDouble.Empty __          -> { throw new BuggyCodeException(
+                String.format("[%s] Invariant violation exception: %s", NilableDouble.class.getName(), invariantAssumptionComment)
+            ); }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/** Primitive {@code int} specialization of {@link Nilable}: Same {@code Has}/{@code Empty} shape for exhaustive pattern matching, but no boxed {@link Integer}.<br/>
+  * {@link NilableInt.Has} holds the bare {@code int}, so {@link #of(int)} costs 1 small record (often scalar-replaced by JIT) instead of {@link Integer} + {@link Nilable.Has}.<br/>
+  * Naming follows {@link Nilable}, bridge with {@link #from(Nilable)} &amp; {@link #toNilable()}, or use {@link #toPipe()} to feed {@link IntPipe}.
+  *
+  * @see OptionalInt */
+public sealed interface NilableInt extends Transmutable<NilableInt> {
+    /** Type representing container of 1 {@code int}.
+      * @param value Any {@code int} */
+    public /** value */ record Has(int value) implements NilableInt {
+        @Override public String toString() { return String.format("Has<int>(%s)", this.value); }
+    }
+    /** Type representing container of 0 {@code int}. */
+    public static final /** value */ class Empty implements NilableInt {
+        private static final NilableInt.Empty INSTANCE = new NilableInt.Empty();
+        private Empty() {}
+        @Override public String toString() { return "Empty"; }
+        @Override public boolean equals(Object obj) { return this == obj; }
+        @Override public int hashCode() { return 0; }
+    }
+
+
+
+    // ------------------------- Static functions -------------------------
+    public static NilableInt of(int value) {
+        return new NilableInt.Has(value);
+    }
+
+    public static NilableInt empty() {
+        return NilableInt.Empty.INSTANCE;
+    }
+
+    /** Inbound-transmutation method: Unbox {@link Nilable} of {@link Integer}.
+      * @see #toNilable() */
+    public static NilableInt from(Nilable<Integer> nilable) {
+        return nilable instanceof Nilable.Has(Integer value) ? new NilableInt.Has(value) : NilableInt.empty();
+    }
+
+    /** Inbound-transmutation method: Apply canonical bijection {@link OptionalInt} {@code ->} {@link NilableInt}.
+      * @see #toOptional() */
+    public static NilableInt from(OptionalInt optional) {
+        return optional.isPresent() ? new NilableInt.Has(optional.getAsInt()) : NilableInt.empty();
+    }
+
+
+
+    // ------------------------- Functor instance methods -------------------------
+    public default NilableInt map(IntUnaryOperator mapper) {
+        return this instanceof NilableInt.Has(int value) ? new NilableInt.Has(mapper.applyAsInt(value)) : NilableInt.empty();
+    }
+
+    public default NilableLong mapToLong(IntToLongFunction mapper) {
+        return this instanceof NilableInt.Has(int value) ? new NilableLong.Has(mapper.applyAsLong(value)) : NilableLong.empty();
+    }
+
+    public default NilableDouble mapToDouble(IntToDoubleFunction mapper) {
+        return this instanceof NilableInt.Has(int value) ? new NilableDouble.Has(mapper.applyAsDouble(value)) : NilableDouble.empty();
+    }
+
+    /** Boxing-variant of {@link #map(IntUnaryOperator)}, see {@link Nilable#map(java.util.function.Function)} on {@code null}-returning {@code mapper}. */
+    public default <R> Nilable<R> mapToObj(IntFunction<? extends R> mapper) {
+        return this instanceof NilableInt.Has(int value) ? Nilable.of(mapper.apply(value)) : Nilable.empty();
+    }
+
+    /** See {@link Nilable#flatMap(java.util.function.Function)}. */
+    public default NilableInt flatMap(IntFunction<NilableInt> mapper) {
+        return this instanceof NilableInt.Has(int value) ? mapper.apply(value) : NilableInt.empty();
+    }
+
+    /** See {@link Nilable#mapEmpty(Object)}. */
+    public default NilableInt mapEmpty(int replacement) {
+        return this instanceof NilableInt.Empty ? new NilableInt.Has(replacement) : this;
+    }
+
+    /** See {@link Nilable#keepIf(java.util.function.Predicate)}. */
+    public default NilableInt keepIf(IntPredicate predicate) {
+        return this instanceof NilableInt.Has(int value) && predicate.test(value) ? this : NilableInt.empty();
+    }
+
+    public default NilableInt removeIf(IntPredicate predicate) {
+        return this instanceof NilableInt.Has(int value) && !predicate.test(value) ? this : NilableInt.empty();
+    }
+
+
+
+    // ------------------------- Transmutation methods -------------------------
+    /** Outbound-transmutation method: Box into {@link Nilable} of {@link Integer}.
+      * @see #from(Nilable) */
+    public default Nilable<Integer> toNilable() {
+        return this instanceof NilableInt.Has(int value) ? new Nilable.Has<>(value) : Nilable.empty();
+    }
+
+    /** @see #from(OptionalInt) */
+    public default OptionalInt toOptional() {
+        return this instanceof NilableInt.Has(int value) ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+
+    /** Canonical injection from [0..1] container {@link NilableInt} to [0..] lazy-container {@link IntPipe}. */
+    public default IntPipe toPipe() {
+        return this instanceof NilableInt.Has(int value) ? IntPipe.of(value) : IntPipe.of();
+    }
+
+
+
+    // ------------------------- Query methods -------------------------
+    public default boolean isHasValue() {
+        return this instanceof NilableInt.Has;
+    }
+
+    public default boolean isHasValue(IntPredicate predicate) {
+        return this instanceof NilableInt.Has(int value) && predicate.test(value);
+    }
+
+    public default boolean isEmpty() {
+        return this instanceof NilableInt.Empty;
+    }
+
+
+
+    // ------------------------- Side-effect methods -------------------------
+    public default NilableInt peek(IntConsumer sideEffectLambda) {
+        if (this instanceof NilableInt.Has(int value))
+            sideEffectLambda.accept(value);
+        return this;
+    }
+
+    public default NilableInt peekEmpty(Runnable sideEffectLambda) {
+        if (this instanceof NilableInt.Empty)
+            sideEffectLambda.run();
+        return this;
+    }
+
+
+
+    // ------------------------- Boolean short-circuiting operator -------------------------
+    public default NilableInt or(NilableInt other) {
+        return this instanceof NilableInt.Has ? this : other;
+    }
+
+    public default NilableInt or(Supplier<NilableInt> other) {
+        return this instanceof NilableInt.Has ? this : other.get();
+    }
+
+
+
+    // ------------------------- Unwrapping methods -------------------------
+    public default int orElse(int other) {
+        return this instanceof NilableInt.Has(int value) ? value : other;
+    }
+
+    public default int orElse(IntSupplier other) {
+        return this instanceof NilableInt.Has(int value) ? value : other.getAsInt();
+    }
+
+    /** See {@link Nilable#unwrap()}.
+      * @throws Exception Invoked on {@link NilableInt.Empty}. Checked exception with default message. */
+    public default int unwrap() throws Exception {
+        return switch (this) {
+            case NilableInt.Has(int value) -> value;
+            case NilableInt.Empty __       -> { throw new Exception("Trying to invoke NilableInt.Empty.unwrap()"); }
+        };
+    }
+
+    /** See {@link Nilable#zDangerouslyUnwrap(String)}.
+      * @param invariantAssumptionComment Comment explaining why this invocation should be safe
+      * @throws BuggyCodeException Unchecked exception, invoked on {@link NilableInt.Empty} */
+    @Deprecated(since="not-really-deprecated-but-only-used-as-dangerous-marker")
+    public default int zDangerouslyUnwrap(String invariantAssumptionComment) throws BuggyCodeException {
+        return switch (this) {
+            case NilableInt.Has(int value) -> value;
+            case NilableInt.Empty __       -> { throw new BuggyCodeException(
+                String.format("[%s] Invariant violation exception: %s", NilableInt.class.getName(), invariantAssumptionComment)
+            ); }
+        };
+    }
+}
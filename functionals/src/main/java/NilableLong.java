@@ -0,0 +1,185 @@
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/** Primitive {@code long} specialization of {@link Nilable}: Same {@code Has}/{@code Empty} shape for exhaustive pattern matching, but no boxed {@link Long}.<br/>
+  * {@link NilableLong.Has} holds the bare {@code long}, so {@link #of(long)} costs 1 small record (often scalar-replaced by JIT) instead of {@link Long} + {@link Nilable.Has}.<br/>
+  * Naming follows {@link Nilable}, bridge with {@link #from(Nilable)} &amp; {@link #toNilable()}, or use {@link #toPipe()} to feed {@link LongPipe}.
+  *
+  * @see OptionalLong */
+public sealed interface NilableLong extends Transmutable<NilableLong> {
+    /** Type representing container of 1 {@code long}.
+      * @param value Any {@code long} */
+    public /** value */ record Has(long value) implements NilableLong {
+        @Override public String toString() { return String.format("Has<long>(%s)", this.value); }
+    }
+    /** Type representing container of 0 {@code long}. */
+    public static final /** value */ class Empty implements NilableLong {
+        private static final NilableLong.Empty INSTANCE = new NilableLong.Empty();
+        private Empty() {}
+        @Override public String toString() { return "Empty"; }
+        @Override public boolean equals(Object obj) { return this == obj; }
+        @Override public int hashCode() { return 0; }
+    }
+
+
+
+    // ------------------------- Static functions -------------------------
+    public static NilableLong of(long value) {
+        return new NilableLong.Has(value);
+    }
+
+    public static NilableLong empty() {
+        return NilableLong.Empty.INSTANCE;
+    }
+
+    /** Inbound-transmutation method: Unbox {@link Nilable} of {@link Long}.
+      * @see #toNilable() */
+    public static NilableLong from(Nilable<Long> nilable) {
+        return nilable instanceof Nilable.Has(Long value) ? new NilableLong.Has(value) : NilableLong.empty();
+    }
+
+    /** Inbound-transmutation method: Apply canonical bijection {@link OptionalLong} {@code ->} {@link NilableLong}.
+      * @see #toOptional() */
+    public static NilableLong from(OptionalLong optional) {
+        return optional.isPresent() ? new NilableLong.Has(optional.getAsLong()) : NilableLong.empty();
+    }
+
+
+
+    // ------------------------- Functor instance methods -------------------------
+    public default NilableLong map(LongUnaryOperator mapper) {
+        return this instanceof NilableLong.Has(long value) ? new NilableLong.Has(mapper.applyAsLong(value)) : NilableLong.empty();
+    }
+
+    public default NilableInt mapToInt(LongToIntFunction mapper) {
+        return this instanceof NilableLong.Has(long value) ? new NilableInt.Has(mapper.applyAsInt(value)) : NilableInt.empty();
+    }
+
+    public default NilableDouble mapToDouble(LongToDoubleFunction mapper) {
+        return this instanceof NilableLong.Has(long value) ? new NilableDouble.Has(mapper.applyAsDouble(value)) : NilableDouble.empty();
+    }
+
+    /** Boxing-variant of {@link #map(LongUnaryOperator)}, see {@link Nilable#map(java.util.function.Function)} on {@code null}-returning {@code mapper}. */
+    public default <R> Nilable<R> mapToObj(LongFunction<? extends R> mapper) {
+        return this instanceof NilableLong.Has(long value) ? Nilable.of(mapper.apply(value)) : Nilable.empty();
+    }
+
+    /** See {@link Nilable#flatMap(java.util.function.Function)}. */
+    public default NilableLong flatMap(LongFunction<NilableLong> mapper) {
+        return this instanceof NilableLong.Has(long value) ? mapper.apply(value) : NilableLong.empty();
+    }
+
+    /** See {@link Nilable#mapEmpty(Object)}. */
+    public default NilableLong mapEmpty(long replacement) {
+        return this instanceof NilableLong.Empty ? new NilableLong.Has(replacement) : this;
+    }
+
+    /** See {@link Nilable#keepIf(java.util.function.Predicate)}. */
+    public default NilableLong keepIf(LongPredicate predicate) {
+        return this instanceof NilableLong.Has(long value) && predicate.test(value) ? this : NilableLong.empty();
+    }
+
+    public default NilableLong removeIf(LongPredicate predicate) {
+        return this instanceof NilableLong.Has(long value) && !predicate.test(value) ? this : NilableLong.empty();
+    }
+
+
+
+    // ------------------------- Transmutation methods -------------------------
+    /** Outbound-transmutation method: Box into {@link Nilable} of {@link Long}.
+      * @see #from(Nilable) */
+    public default Nilable<Long> toNilable() {
+        return this instanceof NilableLong.Has(long value) ? new Nilable.Has<>(value) : Nilable.empty();
+    }
+
+    /** @see #from(OptionalLong) */
+    public default OptionalLong toOptional() {
+        return this instanceof NilableLong.Has(long value) ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    /** Canonical injection from [0..1] container {@link NilableLong} to [0..] lazy-container {@link LongPipe}. */
+    public default LongPipe toPipe() {
+        return this instanceof NilableLong.Has(long value) ? LongPipe.of(value) : LongPipe.of();
+    }
+
+
+
+    // ------------------------- Query methods -------------------------
+    public default boolean isHasValue() {
+        return this instanceof NilableLong.Has;
+    }
+
+    public default boolean isHasValue(LongPredicate predicate) {
+        return this instanceof NilableLong.Has(long value) && predicate.test(value);
+    }
+
+    public default boolean isEmpty() {
+        return this instanceof NilableLong.Empty;
+    }
+
+
+
+    // ------------------------- Side-effect methods -------------------------
+    public default NilableLong peek(LongConsumer sideEffectLambda) {
+        if (this instanceof NilableLong.Has(long value))
+            sideEffectLambda.accept(value);
+        return this;
+    }
+
+    public default NilableLong peekEmpty(Runnable sideEffectLambda) {
+        if (this instanceof NilableLong.Empty)
+            sideEffectLambda.run();
+        return this;
+    }
+
+
+
+    // ------------------------- Boolean short-circuiting operator -------------------------
+    public default NilableLong or(NilableLong other) {
+        return this instanceof NilableLong.Has ? this : other;
+    }
+
+    public default NilableLong or(Supplier<NilableLong> other) {
+        return this instanceof NilableLong.Has ? this : other.get();
+    }
+
+
+
+    // ------------------------- Unwrapping methods -------------------------
+    public default long orElse(long other) {
+        return this instanceof NilableLong.Has(long value) ? value : other;
+    }
+
+    public default long orElse(LongSupplier other) {
+        return this instanceof NilableLong.Has(long value) ? value : other.getAsLong();
+    }
+
+    /** See {@link Nilable#unwrap()}.
+      * @throws Exception Invoked on {@link NilableLong.Empty}. Checked exception with default message. */
+    public default long unwrap() throws Exception {
+        return switch (this) {
+            case NilableLong.Has(long value) -> value;
+            case NilableLong.Empty __        -> { throw new Exception("Trying to invoke NilableLong.Empty.unwrap()"); }
+        };
+    }
+
+    /** See {@link Nilable#zDangerouslyUnwrap(String)}.
+      * @param invariantAssumptionComment Comment explaining why this invocation should be safe
+      * @throws BuggyCodeException Unchecked exception, invoked on {@link NilableLong.Empty} */
+    @Deprecated(since="not-really-deprecated-but-only-used-as-dangerous-marker")
+    public default long zDangerouslyUnwrap(String invariantAssumptionComment) throws BuggyCodeException {
+        return switch (this) {
+            case NilableLong.Has(long value) -> value;
+            case NilableLong.Empty __        -> { throw new BuggyCodeException(
+                String.format("[%s] Invariant violation exception: %s", NilableLong.class.getName(), invariantAssumptionComment)
+            ); }
+        };
+    }
+}
@@ -0,0 +1,260 @@
+import java.util.function.ObjLongConsumer;
+
+/** Package-private namespace: Open-addressing (linear probing) primitive hash containers.<br/>
+  * Each slot costs exactly 1 primitive, no entry object &amp; no boxed key. Key {@code 0} lives outside the table, since {@code 0} marks an empty slot.<br/>
+  * {@link ObjectLongMap} is the exception for key: Reference key, yet still no entry object &amp; no boxed value. */
+enum OpenAddressing { ;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Max load factor 3/4: Keep probe sequence short while staying compact. */
+    private static boolean isOverloaded(int size, int capacity) {
+        return size >= capacity - (capacity >>> 2);
+    }
+
+    /** Finalizer of MurmurHash3 64-bit, spread clustered keys (ex: sequential IDs) across the table. */
+    static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+
+    static final class LongSet {
+        private long[] slots = new long[OpenAddressing.INITIAL_CAPACITY];
+        private int size     = 0;
+        private boolean hasZeroKey = false;
+
+        /** @return {@code true} if {@code key} was not present */
+        boolean add(long key) {
+            if (key == 0) {
+                final boolean isAdded = !this.hasZeroKey;
+                this.hasZeroKey = true;
+                return isAdded;
+            }
+            final int mask = this.slots.length - 1;
+            for (int idx = (int) OpenAddressing.mix(key) & mask; ; idx = (idx + 1) & mask) {
+                if (this.slots[idx] == key)
+                    return false;
+                if (this.slots[idx] == 0) {
+                    this.slots[idx] = key;
+                    if (OpenAddressing.isOverloaded(++this.size, this.slots.length))
+                        this.rehash(this.slots.length << 1);
+                    return true;
+                }
+            }
+        }
+
+        boolean contains(long key) {
+            if (key == 0)
+                return this.hasZeroKey;
+            final int mask = this.slots.length - 1;
+            for (int idx = (int) OpenAddressing.mix(key) & mask; this.slots[idx] != 0; idx = (idx + 1) & mask)
+                if (this.slots[idx] == key)
+                    return true;
+            return false;
+        }
+
+        /** Backward-shift deletion: No tombstone, so heavy add/remove churn (ex: sliding window) never degrades probing. */
+        boolean remove(long key) {
+            if (key == 0) {
+                final boolean isRemoved = this.hasZeroKey;
+                this.hasZeroKey = false;
+                return isRemoved;
+            }
+            final int mask = this.slots.length - 1;
+            int idx = (int) OpenAddressing.mix(key) & mask;
+            while (this.slots[idx] != key) {
+                if (this.slots[idx] == 0)
+                    return false;
+                idx = (idx + 1) & mask;
+            }
+            for (int next = (idx + 1) & mask; this.slots[next] != 0; next = (next + 1) & mask) {
+                final int home = (int) OpenAddressing.mix(this.slots[next]) & mask;
+                // Shift back if home slot is not cyclically inside (idx, next]
+                if (((next - home) & mask) >= ((next - idx) & mask)) {
+                    this.slots[idx] = this.slots[next];
+                    idx = next;
+                }
+            }
+            this.slots[idx] = 0;
+            --this.size;
+            return true;
+        }
+
+        int size() {
+            return this.size + (this.hasZeroKey ? 1 : 0);
+        }
+
+        private void rehash(int capacity) {
+            final long[] previous = this.slots;
+            final int mask        = capacity - 1;
+            this.slots = new long[capacity];
+            for (final long key: previous)
+                if (key != 0) {
+                    int idx = (int) OpenAddressing.mix(key) & mask;
+                    while (this.slots[idx] != 0)
+                        idx = (idx + 1) & mask;
+                    this.slots[idx] = key;
+                }
+        }
+    }
+
+    /** Half-sized sibling of {@link LongSet} for {@code int} keys. */
+    static final class IntSet {
+        private int[] slots  = new int[OpenAddressing.INITIAL_CAPACITY];
+        private int size     = 0;
+        private boolean hasZeroKey = false;
+
+        /** @return {@code true} if {@code key} was not present */
+        boolean add(int key) {
+            if (key == 0) {
+                final boolean isAdded = !this.hasZeroKey;
+                this.hasZeroKey = true;
+                return isAdded;
+            }
+            final int mask = this.slots.length - 1;
+            for (int idx = (int) OpenAddressing.mix(key) & mask; ; idx = (idx + 1) & mask) {
+                if (this.slots[idx] == key)
+                    return false;
+                if (this.slots[idx] == 0) {
+                    this.slots[idx] = key;
+                    if (OpenAddressing.isOverloaded(++this.size, this.slots.length))
+                        this.rehash(this.slots.length << 1);
+                    return true;
+                }
+            }
+        }
+
+        int size() {
+            return this.size + (this.hasZeroKey ? 1 : 0);
+        }
+
+        private void rehash(int capacity) {
+            final int[] previous = this.slots;
+            final int mask       = capacity - 1;
+            this.slots = new int[capacity];
+            for (final int key: previous)
+                if (key != 0) {
+                    int idx = (int) OpenAddressing.mix(key) & mask;
+                    while (this.slots[idx] != 0)
+                        idx = (idx + 1) & mask;
+                    this.slots[idx] = key;
+                }
+        }
+    }
+
+    /** Fixed-capacity FIFO window of {@code long} keys backed by {@link LongSet}: Admitting a new key evicts the oldest one once full. */
+    static final class LongWindow {
+        private final long[] ring;
+        private final OpenAddressing.LongSet members = new OpenAddressing.LongSet();
+        private int head  = 0;
+        private int count = 0;
+
+        LongWindow(int capacity) {
+            if (capacity <= 0)
+                throw new BuggyCodeException(String.format("[%s] Window capacity must be positive: %d", OpenAddressing.LongWindow.class.getName(), capacity));
+            this.ring = new long[capacity];
+        }
+
+        /** @return {@code true} if {@code key} was not inside the window &amp; got admitted */
+        boolean admit(long key) {
+            if (this.members.contains(key))
+                return false;
+            if (this.count == this.ring.length)
+                this.members.remove(this.ring[this.head]);
+            else
+                ++this.count;
+            this.ring[this.head] = key;
+            this.head            = (this.head + 1) % this.ring.length;
+            this.members.add(key);
+            return true;
+        }
+    }
+
+    /** Reference key to {@code long} slot (ex: count/sum per key): Parallel {@code Object[]} &amp; {@code long[]}, {@code null} key maps to a sentinel. */
+    static final class ObjectLongMap<K> {
+        private static final Object NULL_KEY = new Object();
+        private Object[] keys = new Object[OpenAddressing.INITIAL_CAPACITY];
+        private long[] values = new long[OpenAddressing.INITIAL_CAPACITY];
+        private int size      = 0;
+
+        /** Single probe sequence for both lookup &amp; insertion, absent key starts from {@code 0}. */
+        void addTo(K key, long delta) {
+            final Object slotKey = key == null ? OpenAddressing.ObjectLongMap.NULL_KEY : key;
+            final int mask       = this.keys.length - 1;
+            for (int idx = (int) OpenAddressing.mix(slotKey.hashCode()) & mask; ; idx = (idx + 1) & mask) {
+                final Object candidate = this.keys[idx];
+                if (candidate == null) {
+                    this.keys[idx]   = slotKey;
+                    this.values[idx] = delta;
+                    if (OpenAddressing.isOverloaded(++this.size, this.keys.length))
+                        this.rehash(this.keys.length << 1);
+                    return;
+                }
+                if (candidate == slotKey || candidate.equals(slotKey)) {
+                    this.values[idx] += delta;
+                    return;
+                }
+            }
+        }
+
+        void addAll(OpenAddressing.ObjectLongMap<K> other) {
+            other.forEach(this::addTo);
+        }
+
+        @SuppressWarnings("unchecked") // Only K &amp; the null sentinel are ever stored
+        void forEach(ObjLongConsumer<? super K> consumer) {
+            for (int i = 0; i < this.keys.length; ++i)
+                if (this.keys[i] != null)
+                    consumer.accept(this.keys[i] == OpenAddressing.ObjectLongMap.NULL_KEY ? null : (K) this.keys[i], this.values[i]);
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        private void rehash(int capacity) {
+            final Object[] previousKeys = this.keys;
+            final long[] previousValues = this.values;
+            final int mask              = capacity - 1;
+            this.keys   = new Object[capacity];
+            this.values = new long[capacity];
+            for (int i = 0; i < previousKeys.length; ++i)
+                if (previousKeys[i] != null) {
+                    int idx = (int) OpenAddressing.mix(previousKeys[i].hashCode()) & mask;
+                    while (this.keys[idx] != null)
+                        idx = (idx + 1) & mask;
+                    this.keys[idx]   = previousKeys[i];
+                    this.values[idx] = previousValues[i];
+                }
+        }
+    }
+
+    /** Lock-striped {@link ObjectLongMap} for concurrent producers: Key hash picks 1 of the independently locked stripes, so unrelated keys rarely contend. */
+    static final class StripedObjectLongMap<K> {
+        private final OpenAddressing.ObjectLongMap<K>[] stripes;
+
+        StripedObjectLongMap(int concurrencyLevel) {
+            @SuppressWarnings({"unchecked", "rawtypes"}) // Generic array creation
+            final OpenAddressing.ObjectLongMap<K>[] stripes = new OpenAddressing.ObjectLongMap[Integer.highestOneBit(Math.max(1, concurrencyLevel) * 2 - 1)];
+            this.stripes = stripes;
+            for (int i = 0; i < this.stripes.length; ++i)
+                this.stripes[i] = new OpenAddressing.ObjectLongMap<>();
+        }
+
+        void addTo(K key, long delta) {
+            // High bits pick the stripe, low bits pick the slot inside it
+            final var stripe = this.stripes[(int) (OpenAddressing.mix(key == null ? 0 : key.hashCode()) >>> 40) & (this.stripes.length - 1)];
+            synchronized (stripe) {
+                stripe.addTo(key, delta);
+            }
+        }
+
+        /** Per-stripe consistent snapshot, concurrent {@link #addTo(Object, long)} on other stripes might or might not be observed. */
+        void forEach(ObjLongConsumer<? super K> consumer) {
+            for (final var stripe: this.stripes)
+                synchronized (stripe) {
+                    stripe.forEach(consumer);
+                }
+        }
+    }
+}
@@ -1,289 +1,716 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.PrimitiveIterator;
 import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 
 
 
-// Incarnation #3: Simple wrapper over Iterator<T>
-public final class Pipe<T> implements Iterable<T>, Transmutable<Pipe<T>> {
-    private final Iterator<T> source;
+// Incarnation #4: Push-based fused sink chain, Iterator<T> is only materialized on pull-mode request
+public final class Pipe<T> implements Iterable<T>, AutoCloseable, Transmutable<Pipe<T>> {
+    private final Pipe.Chain<?,T> chain;
+    private final Pipe.Execution execution;
     private boolean consumed;
 
-    private Pipe(Iterator<T> source) {
-        this.source = source;
-        this.consumed = false;
+    private Pipe(Pipe.Chain<?,T> chain, Pipe.Execution execution) {
+        this.chain     = chain;
+        this.execution = execution;
+        this.consumed  = false;
     }
 
 
 
     // ---------------------------------------- Instance Methods ----------------------------------------
     public final <R> Pipe<R> map(Function<? super T,? extends R> mapper) {
-        return new Pipe<>(new Iterator<R>() {
-            @Override public boolean hasNext() {
-                return Pipe.this.source.hasNext();
+        return this.chainWith(downstream -> value -> downstream.push(mapper.apply(value)));
+    }
+
+    /** Parallel {@link Pipe} stays parallel for split-reducing {@code end-} methods of {@link IntPipe} (ex: {@code endBySum()}), as long as every stage is stateless. */
+    public final IntPipe mapToInt(ToIntFunction<? super T> mapper) {
+        final Pipe.Chain<?,T> upstream  = this.chain;
+        final Pipe.Execution execution = this.execution;
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsInt(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,IntPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return Pipe.accumulatePrimitiveInParallel(upstream, execution, initialize, sinkOf, (sink, value) -> sink.push(mapper.applyAsInt(value)), combine);
+            }
+
+            @Override public PrimitiveIterator.OfInt pull() {
+                final Iterator<T> source = upstream.pull();
+                return new PrimitiveIterator.OfInt() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public int nextInt() { return mapper.applyAsInt(source.next()); }
+                };
+            }
+        });
+    }
+
+    /** Parallel {@link Pipe} stays parallel for split-reducing {@code end-} methods of {@link LongPipe} (ex: {@code endBySum()}), as long as every stage is stateless. */
+    public final LongPipe mapToLong(ToLongFunction<? super T> mapper) {
+        final Pipe.Chain<?,T> upstream  = this.chain;
+        final Pipe.Execution execution = this.execution;
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsLong(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,LongPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return Pipe.accumulatePrimitiveInParallel(upstream, execution, initialize, sinkOf, (sink, value) -> sink.push(mapper.applyAsLong(value)), combine);
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                final Iterator<T> source = upstream.pull();
+                return new PrimitiveIterator.OfLong() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public long nextLong() { return mapper.applyAsLong(source.next()); }
+                };
+            }
+        });
+    }
+
+    /** Parallel {@link Pipe} stays parallel for split-reducing {@code end-} methods of {@link DoublePipe} (ex: {@code endBySum()}), as long as every stage is stateless. */
+    public final DoublePipe mapToDouble(ToDoubleFunction<? super T> mapper) {
+        final Pipe.Chain<?,T> upstream  = this.chain;
+        final Pipe.Execution execution = this.execution;
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                return upstream.pushAll(value -> sink.push(mapper.applyAsDouble(value)));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,DoublePipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return Pipe.accumulatePrimitiveInParallel(upstream, execution, initialize, sinkOf, (sink, value) -> sink.push(mapper.applyAsDouble(value)), combine);
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                final Iterator<T> source = upstream.pull();
+                return new PrimitiveIterator.OfDouble() {
+                    @Override public boolean hasNext() { return source.hasNext(); }
+                    @Override public double nextDouble() { return mapper.applyAsDouble(source.next()); }
+                };
+            }
+        });
+    }
+
+    /** Unboxed 0..1 expansion: Keep {@link NilableInt.Has} value produced by {@code mapper}, drop {@link NilableInt.Empty}. */
+    public final IntPipe flatMapToInt(Function<? super T,NilableInt> mapper) {
+        final Pipe.Chain<?,T> upstream  = this.chain;
+        final Pipe.Execution execution = this.execution;
+        return IntPipe.fromSource(new IntPipe.Source() {
+            @Override public boolean pushAll(IntPipe.Sink sink) {
+                return upstream.pushAll(value -> !(mapper.apply(value) instanceof NilableInt.Has(int mapped)) || sink.push(mapped));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,IntPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return Pipe.accumulatePrimitiveInParallel(upstream, execution, initialize, sinkOf, (sink, value) -> !(mapper.apply(value) instanceof NilableInt.Has(int mapped)) || sink.push(mapped), combine);
             }
 
-            @Override public R next() {
-                return mapper.apply(Pipe.this.source.next());
+            @Override public PrimitiveIterator.OfInt pull() {
+                final Iterator<T> source = upstream.pull();
+                return new PrimitiveIterator.OfInt() {
+                    private NilableInt next = NilableInt.empty();
+
+                    @Override public boolean hasNext() {
+                        while (this.next.isEmpty() && source.hasNext())
+                            this.next = mapper.apply(source.next());
+                        return this.next.isHasValue();
+                    }
+
+                    @Override public int nextInt() {
+                        if (!this.hasNext())
+                            throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                        @SuppressWarnings("deprecation") // Guaranteed by hasNext()
+                        final int value = this.next.zDangerouslyUnwrap("hasNext() found NilableInt.Has");
+                        this.next = NilableInt.empty();
+                        return value;
+                    }
+                };
+            }
+        });
+    }
+
+    /** Unboxed 0..1 expansion: Keep {@link NilableLong.Has} value produced by {@code mapper}, drop {@link NilableLong.Empty}. */
+    public final LongPipe flatMapToLong(Function<? super T,NilableLong> mapper) {
+        final Pipe.Chain<?,T> upstream  = this.chain;
+        final Pipe.Execution execution = this.execution;
+        return LongPipe.fromSource(new LongPipe.Source() {
+            @Override public boolean pushAll(LongPipe.Sink sink) {
+                return upstream.pushAll(value -> !(mapper.apply(value) instanceof NilableLong.Has(long mapped)) || sink.push(mapped));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,LongPipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return Pipe.accumulatePrimitiveInParallel(upstream, execution, initialize, sinkOf, (sink, value) -> !(mapper.apply(value) instanceof NilableLong.Has(long mapped)) || sink.push(mapped), combine);
+            }
+
+            @Override public PrimitiveIterator.OfLong pull() {
+                final Iterator<T> source = upstream.pull();
+                return new PrimitiveIterator.OfLong() {
+                    private NilableLong next = NilableLong.empty();
+
+                    @Override public boolean hasNext() {
+                        while (this.next.isEmpty() && source.hasNext())
+                            this.next = mapper.apply(source.next());
+                        return this.next.isHasValue();
+                    }
+
+                    @Override public long nextLong() {
+                        if (!this.hasNext())
+                            throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                        @SuppressWarnings("deprecation") // Guaranteed by hasNext()
+                        final long value = this.next.zDangerouslyUnwrap("hasNext() found NilableLong.Has");
+                        this.next = NilableLong.empty();
+                        return value;
+                    }
+                };
+            }
+        });
+    }
+
+    /** Unboxed 0..1 expansion: Keep {@link NilableDouble.Has} value produced by {@code mapper}, drop {@link NilableDouble.Empty}. */
+    public final DoublePipe flatMapToDouble(Function<? super T,NilableDouble> mapper) {
+        final Pipe.Chain<?,T> upstream  = this.chain;
+        final Pipe.Execution execution = this.execution;
+        return DoublePipe.fromSource(new DoublePipe.Source() {
+            @Override public boolean pushAll(DoublePipe.Sink sink) {
+                return upstream.pushAll(value -> !(mapper.apply(value) instanceof NilableDouble.Has(double mapped)) || sink.push(mapped));
+            }
+
+            @Override public <A> Nilable<A> accumulateInParallel(Supplier<A> initialize, Function<? super A,DoublePipe.Sink> sinkOf, BinaryOperator<A> combine) {
+                return Pipe.accumulatePrimitiveInParallel(upstream, execution, initialize, sinkOf, (sink, value) -> !(mapper.apply(value) instanceof NilableDouble.Has(double mapped)) || sink.push(mapped), combine);
+            }
+
+            @Override public PrimitiveIterator.OfDouble pull() {
+                final Iterator<T> source = upstream.pull();
+                return new PrimitiveIterator.OfDouble() {
+                    private NilableDouble next = NilableDouble.empty();
+
+                    @Override public boolean hasNext() {
+                        while (this.next.isEmpty() && source.hasNext())
+                            this.next = mapper.apply(source.next());
+                        return this.next.isHasValue();
+                    }
+
+                    @Override public double nextDouble() {
+                        if (!this.hasNext())
+                            throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                        @SuppressWarnings("deprecation") // Guaranteed by hasNext()
+                        final double value = this.next.zDangerouslyUnwrap("hasNext() found NilableDouble.Has");
+                        this.next = NilableDouble.empty();
+                        return value;
+                    }
+                };
             }
         });
     }
 
     public final <R> Pipe<R> flatMap(Function<? super T,Pipe<R>> mapper) {
-        return new Pipe<>(new Iterator<R>() {
-            private Iterator<R> buffer;
+        final Pipe.Chain<?,T> upstream = this.chain;
+        return this.chainFrom(new Pipe.Source<R>() {
+            @Override public boolean pushAll(Pipe.Sink<? super R> sink) {
+                // Only downstream stopping ends the outer pass, inner limit()/keepWhile() merely ends that inner pipe
+                final var state = new Object() { boolean isDownstreamOpen = true; };
+                return upstream.pushAll(value -> {
+                    try (final Pipe<R> inner = mapper.apply(value)) {
+                        inner.consume().pushAll(element -> {
+                            state.isDownstreamOpen = sink.push(element);
+                            return state.isDownstreamOpen;
+                        });
+                    }
+                    return state.isDownstreamOpen;
+                });
+            }
 
-            @Override public boolean hasNext() {
-                if (this.buffer != null && this.buffer.hasNext())
-                    return true;
-                if (Pipe.this.source.hasNext())
-                    this.buffer = mapper.apply(Pipe.this.source.next()).source;
-                return this.buffer != null && this.buffer.hasNext();
+            @Override public void close() {
+                upstream.close();
             }
 
-            @Override public R next() {
-                if ((this.buffer != null && this.buffer.hasNext()) || this.hasNext())
-                    return this.buffer.next();
-                throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+            @Override public Iterator<R> pull() {
+                final Iterator<T> source = upstream.pull();
+                return new Iterator<R>() {
+                    private Pipe<R> inner;
+                    private Iterator<R> buffer;
+
+                    @Override public boolean hasNext() {
+                        while ((this.buffer == null || !this.buffer.hasNext()) && source.hasNext()) {
+                            if (this.inner != null)
+                                this.inner.close();
+                            this.inner  = mapper.apply(source.next());
+                            this.buffer = this.inner.iterator();
+                        }
+                        final boolean hasNext = this.buffer != null && this.buffer.hasNext();
+                        if (!hasNext && this.inner != null)
+                            this.inner.close();
+                        return hasNext;
+                    }
+
+                    @Override public R next() {
+                        if (this.hasNext())
+                            return this.buffer.next();
+                        throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                    }
+                };
             }
         });
     }
 
     public final <$Right> Pipe<FunctionalDatas.TupleOf2<T,$Right>> zip(Pipe<$Right> otherPipe) {
-        return new Pipe<>(new Iterator<FunctionalDatas.TupleOf2<T,$Right>>() {
-            @Override public boolean hasNext() {
-                return Pipe.this.source.hasNext() && otherPipe.source.hasNext();
+        final Pipe.Chain<?,T> upstream = this.chain;
+        return this.chainFrom(new Pipe.Source<FunctionalDatas.TupleOf2<T,$Right>>() {
+            @Override public boolean pushAll(Pipe.Sink<? super FunctionalDatas.TupleOf2<T,$Right>> sink) {
+                final Iterator<FunctionalDatas.TupleOf2<T,$Right>> zipped = this.pull();
+                while (zipped.hasNext())
+                    if (!sink.push(zipped.next()))
+                        return false;
+                return true;
+            }
+
+            @Override public void close() {
+                upstream.close();
+                otherPipe.close();
+            }
+
+            @Override public Iterator<FunctionalDatas.TupleOf2<T,$Right>> pull() {
+                final Iterator<T> left       = upstream.pull();
+                final Iterator<$Right> right = otherPipe.iterator();
+                return new Iterator<FunctionalDatas.TupleOf2<T,$Right>>() {
+                    @Override public boolean hasNext() {
+                        return left.hasNext() && right.hasNext();
+                    }
+
+                    @Override public FunctionalDatas.TupleOf2<T,$Right> next() {
+                        return new FunctionalDatas.TupleOf2<>(left.next(), right.next());
+                    }
+                };
+            }
+        });
+    }
+
+    /** Hash inner join: Build hash table from {@code otherPipe} once at consumption, then stream this {@link Pipe} through it keeping this side's encounter order.<br/>
+      * Key equality follows {@link Object#equals(Object)}, {@code null} key matches {@code null} key. Each element pairs with every match, in {@code otherPipe} encounter order. */
+    public final <$Right,K> Pipe<FunctionalDatas.TupleOf2<T,$Right>> joinOn(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey) {
+        return this.joinOn(otherPipe, leftKey, rightKey, Pipe.JoinPolicy.of());
+    }
+
+    /** {@link #joinOn(Pipe, Function, Function)} with size hint &amp; spill, see {@link JoinPolicy}.<br/>
+      * Smaller left hint swaps the build side: Left side is hashed &amp; {@code otherPipe} is streamed, so output follows {@code otherPipe} encounter order instead. */
+    public final <$Right,K> Pipe<FunctionalDatas.TupleOf2<T,$Right>> joinOn(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey, Pipe.JoinPolicy<T,$Right> policy) {
+        if (policy.isLeftSmaller()) {
+            final Pipe<FunctionalDatas.TupleOf2<T,$Right>> swapped = otherPipe.<T,K>joinOn(this, rightKey, leftKey, policy.swapped()).map(pair -> new FunctionalDatas.TupleOf2<>(pair.t2(), pair.t1()));
+            return new Pipe<>(swapped.chain, this.execution); // Receiver decides execution mode, not the streamed otherPipe
+        }
+        return this.hashJoin(otherPipe, leftKey, rightKey, policy, (left, matches, downstream) -> {
+            for (final $Right right: matches)
+                if (!downstream.push(new FunctionalDatas.TupleOf2<>(left, right)))
+                    return false;
+            return true;
+        });
+    }
+
+    /** Hash left-outer join: Like {@link #joinOn(Pipe, Function, Function)}, unmatched element still emitted once with {@link Nilable#empty()} right side. Always builds from {@code otherPipe}. */
+    public final <$Right,K> Pipe<FunctionalDatas.TupleOf2<T,Nilable<$Right>>> leftOuterJoinOn(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey) {
+        return this.leftOuterJoinOn(otherPipe, leftKey, rightKey, Pipe.JoinPolicy.of());
+    }
+
+    public final <$Right,K> Pipe<FunctionalDatas.TupleOf2<T,Nilable<$Right>>> leftOuterJoinOn(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey, Pipe.JoinPolicy<T,$Right> policy) {
+        return this.hashJoin(otherPipe, leftKey, rightKey, policy, (left, matches, downstream) -> {
+            if (matches.isEmpty())
+                return downstream.push(new FunctionalDatas.TupleOf2<>(left, Nilable.empty()));
+            for (final $Right right: matches)
+                if (!downstream.push(new FunctionalDatas.TupleOf2<>(left, Nilable.of(right))))
+                    return false;
+            return true;
+        });
+    }
+
+    /** Hash semi join: Keep element having at least 1 matching key in {@code otherPipe}, each emitted once. Only {@code otherPipe} keys are retained, not its elements. */
+    public final <$Right,K> Pipe<T> semiJoinOn(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey) {
+        return this.keepByKeyPresence(otherPipe, leftKey, rightKey, true);
+    }
+
+    /** Hash anti join: Keep element having no matching key in {@code otherPipe}. Only {@code otherPipe} keys are retained, not its elements. */
+    public final <$Right,K> Pipe<T> antiJoinOn(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey) {
+        return this.keepByKeyPresence(otherPipe, leftKey, rightKey, false);
+    }
+
+    /** Full co-group: 1 element per distinct key from either side, holding both side groups (possibly empty) in encounter order. Keys ordered by first appearance, left side first.<br/>
+      * Barrier: Both sides are fully grouped at consumption before the first group is emitted. */
+    public final <$Right,K> Pipe<FunctionalDatas.TupleOf3<K,List<T>,List<$Right>>> coGroup(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey) {
+        final Pipe.Chain<?,T> upstream = this.chain;
+        return this.chainFrom(new Pipe.Source<FunctionalDatas.TupleOf3<K,List<T>,List<$Right>>>() {
+            @Override public boolean pushAll(Pipe.Sink<? super FunctionalDatas.TupleOf3<K,List<T>,List<$Right>>> sink) {
+                for (final var group: this.group())
+                    if (!sink.push(group))
+                        return false;
+                return true;
             }
 
-            @Override public FunctionalDatas.TupleOf2<T,$Right> next() {
-                return new FunctionalDatas.TupleOf2<>(Pipe.this.source.next(), otherPipe.source.next());
+            @Override public Iterator<FunctionalDatas.TupleOf3<K,List<T>,List<$Right>>> pull() {
+                return this.group().iterator();
+            }
+
+            @Override public void close() {
+                upstream.close();
+                otherPipe.close();
+            }
+
+            private List<FunctionalDatas.TupleOf3<K,List<T>,List<$Right>>> group() {
+                final var groups = new LinkedHashMap<K,FunctionalDatas.TupleOf3<K,List<T>,List<$Right>>>();
+                final Function<K,FunctionalDatas.TupleOf3<K,List<T>,List<$Right>>> groupInitializer = key -> new FunctionalDatas.TupleOf3<>(key, new ArrayList<>(), new ArrayList<>());
+                upstream.pushAll(value -> groups.computeIfAbsent(leftKey.apply(value), groupInitializer).t2().add(value));
+                otherPipe.consume().pushAll(value -> groups.computeIfAbsent(rightKey.apply(value), groupInitializer).t3().add(value));
+                return new ArrayList<>(groups.values());
             }
         });
     }
 
     public final Pipe<T> peek(Consumer<? super T> sideEffectPeeker) {
-        return new Pipe<>(Pipe.applyMapperOf0Or1(this.source, (value, downstream) -> {
+        return this.chainWith(downstream -> value -> {
             sideEffectPeeker.accept(value);
-            downstream.accept(value);
-        }));
+            return downstream.push(value);
+        });
     }
 
     // Null reject
     public final Pipe<T> keepIf(Predicate<? super T> predicate) {
-        return new Pipe<>(Pipe.applyMapperOf0Or1(this.source, (previousValue, downstream) -> {
+        return this.chainWith(downstream -> previousValue -> {
             if (previousValue instanceof final T value && predicate.test(value))
-                downstream.accept(value);
-        }));
+                return downstream.push(value);
+            return true;
+        });
     }
 
     // Null reject
     public final Pipe<T> keepWhile(Predicate<? super T> predicate) {
-        return new Pipe<>(new Iterator<T>() {
-            private boolean accepting = true;
-            private T buffer;
-            private boolean isValidBuffer = false;
-
-            @Override public boolean hasNext() {
-                if (this.isValidBuffer)
-                    return true;
-                if (!this.accepting)
-                    return false;
-                while (!this.isValidBuffer && Pipe.this.source.hasNext()) {
-                    this.buffer        = Pipe.this.source.next();
-                    this.accepting     = this.buffer instanceof final T value && predicate.test(value);
-                    this.isValidBuffer = this.accepting;
-                }
-                return this.isValidBuffer;
-            }
-
-            @Override public T next() {
-                if (this.isValidBuffer || this.hasNext()) {
-                    this.isValidBuffer = false;
-                    return this.buffer;
-                }
-                throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
-            }
-        });
+        // 1st rejection stops upstream as well, no need to keep "accepting" state
+        return this.chainWithStateful(downstream -> previousValue -> previousValue instanceof final T value && predicate.test(value) && downstream.push(value));
     }
 
     // Null allow
     public final Pipe<T> removeIf(Predicate<? super T> predicate) {
-        return new Pipe<>(Pipe.applyMapperOf0Or1(this.source, (previousValue, downstream) -> {
-            if (previousValue instanceof final T value && !predicate.test(value))
-                return;
-            downstream.accept(previousValue);
-        }));
+        return this.chainWith(downstream -> previousValue -> {
+            if (previousValue instanceof final T value && predicate.test(value))
+                return true;
+            return downstream.push(previousValue);
+        });
     }
 
     // Null allow
     public final Pipe<T> removeWhile(Predicate<? super T> predicate) {
-        return new Pipe<>(new Iterator<T>() {
+        return this.chainWithStateful(downstream -> new Pipe.Sink<T>() {
             private boolean rejecting = true;
-            private T buffer;
-            private boolean isValidBuffer = false;
-
-            @Override public boolean hasNext() {
-                if (this.isValidBuffer)
-                    return true;
-                while (!this.isValidBuffer && Pipe.this.source.hasNext()) {
-                    this.buffer        = Pipe.this.source.next();
-                    this.rejecting     = this.rejecting && this.buffer instanceof final T value && !predicate.test(value);
-                    this.isValidBuffer = !this.rejecting;
-                }
-                return this.isValidBuffer;
-            }
 
-            @Override public T next() {
-                if (this.isValidBuffer || this.hasNext()) {
-                    this.isValidBuffer = false;
-                    return this.buffer;
-                }
-                throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+            @Override public boolean push(T previousValue) {
+                this.rejecting = this.rejecting && previousValue instanceof final T value && predicate.test(value);
+                return this.rejecting || downstream.push(previousValue);
             }
         });
     }
 
     public final Pipe<T> limit(long count) {
-        return new Pipe<>(new Iterator<T>() {
-            private long currentCount = 0;
+        if (count <= 0) {
+            // Nothing to take: Upstream is never evaluated, but still closed along with this pipe (execution mode kept too)
+            final Pipe.Chain<?,T> upstream = this.chain;
+            return this.chainFrom(new Pipe.Source<T>() {
+                @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+                    return true;
+                }
 
-            @Override public boolean hasNext() {
-                return this.currentCount < count && source.hasNext();
-            }
+                @Override public void close() {
+                    upstream.close();
+                }
 
-            @Override public T next() {
-                ++this.currentCount;
-                return source.next();
-            }
-        });
+                @Override public Iterator<T> pull() {
+                    return Collections.emptyIterator();
+                }
+            });
+        }
+        if (this.chain.source() instanceof final Pipe.SortedSource<?> sortedSource && this.chain.stage() == Pipe.Stage.identity()) {
+            // Fusion sorted().limit(k): Bounded top-K heap, O(k) memory instead of buffering whole upstream
+            @SuppressWarnings("unchecked") // Identity stage: Source element type is T
+            final var upstreamSort = (Pipe.SortedSource<T>) sortedSource;
+            if (upstreamSort.spillPolicy().isHasValue(policy -> count > policy.maxElementsInMemory()))
+                return this.chainWithStateful(Pipe.limitStage(count)); // Top-K heap itself would bust memory budget, keep merging from disk
+            return this.chainFrom(new Pipe.SortedSource<>(upstreamSort.upstream(), upstreamSort.comparator(), Math.min(count, upstreamSort.limit()), upstreamSort.spillPolicy()));
+        }
+        if (this.execution == Pipe.Execution.PARALLEL_UNORDERED) {
+            // Any "count" elements will do, shared counter allows each split to run independently
+            final var sharedCount = new AtomicLong(0);
+            return this.chainWith(downstream -> value -> {
+                final long position = sharedCount.getAndIncrement();
+                return position < count && downstream.push(value) && position + 1 < count;
+            });
+        }
+        return this.chainWithStateful(Pipe.limitStage(count));
     }
 
     public final Pipe<T> skip(long count) {
-        return new Pipe<>(new Iterator<T>() {
+        return this.chainWithStateful(downstream -> new Pipe.Sink<T>() {
             private long currentCount = 0;
 
-            @Override public boolean hasNext() {
-                while (this.currentCount < count && source.hasNext()) {
+            @Override public boolean push(T value) {
+                if (this.currentCount < count) {
                     ++this.currentCount;
-                    source.next();
+                    return true;
                 }
-                return source.hasNext();
-            }
-
-            @Override public T next() {
-                if (this.hasNext())
-                    return source.next();
-                throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                return downstream.push(value);
             }
         });
     }
 
     public final <$Key> Pipe<T> distinct(Function<? super T,? extends $Key> keyExtractor) {
-        return new Pipe<>(new Iterator<T>() {
-            private final HashSet<$Key> observedKeys = new HashSet<>();
-            private T buffer;
-            private boolean isValidBuffer = false;
+        if (this.execution == Pipe.Execution.PARALLEL_UNORDERED) {
+            // ConcurrentHashMap reject null, substitute null key with sentinel
+            final var sentinelNullKey = new Object();
+            final var observedKeys    = ConcurrentHashMap.<Object>newKeySet();
+            return this.chainWith(downstream -> value -> {
+                final $Key key = keyExtractor.apply(value);
+                return !observedKeys.add(key != null ? key : sentinelNullKey) || downstream.push(value);
+            });
+        }
+        return this.chainWithStateful(downstream -> {
+            final HashSet<$Key> observedKeys = new HashSet<>();
+            return value -> !observedKeys.add(keyExtractor.apply(value)) || downstream.push(value);
+        });
+    }
 
-            @Override public boolean hasNext() {
-                if (this.isValidBuffer)
-                    return true;
-                while (!this.isValidBuffer && source.hasNext()) {
-                    this.buffer    = source.next();
-                    final $Key key = keyExtractor.apply(this.buffer);
-                    if (!this.observedKeys.contains(key)) {
-                        this.observedKeys.add(key);
-                        this.isValidBuffer = true;
-                    }
-                }
-                return this.isValidBuffer;
-            }
+    /** Memory-compact {@link #distinct(Function)}: {@code int} keys in open-addressing primitive set, ~5.3 bytes per key right before a resize, ~10.7 right after doubling. */
+    public final Pipe<T> distinctInt(ToIntFunction<? super T> keyExtractor) {
+        return this.chainWithStateful(downstream -> {
+            final var observedKeys = new OpenAddressing.IntSet();
+            return value -> !observedKeys.add(keyExtractor.applyAsInt(value)) || downstream.push(value);
+        });
+    }
 
-            @Override public T next() {
-                if (this.isValidBuffer || this.hasNext())
-                    return this.buffer;
-                throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
-            }
+    /** Memory-compact {@link #distinct(Function)}: {@code long} keys in open-addressing primitive set, ~10.7 bytes per key right before a resize, ~21.3 right after doubling.<br/>
+      * Also works with 64-bit key hash (ex: {@link Sketch#hash64(CharSequence)}), which has negligible collision chance until billions of keys. */
+    public final Pipe<T> distinctLong(ToLongFunction<? super T> keyExtractor) {
+        return this.chainWithStateful(downstream -> {
+            final var observedKeys = new OpenAddressing.LongSet();
+            return value -> !observedKeys.add(keyExtractor.applyAsLong(value)) || downstream.push(value);
+        });
+    }
+
+    /** Bounded-memory {@link #distinct(Function)} backed by {@link Sketch.BloomFilter}: Never emit duplicate, but may drop up to {@code falsePositiveRate} of distinct elements.<br/>
+      * Memory is fixed upfront at ~{@code -1.44 log2(falsePositiveRate)} bits per expected key (ex: ~9.6 bits for 1%), exceeding {@code expectedDistinctCount} raises the drop rate instead of memory usage.
+      * @param keyHasher 64-bit key hash, see {@link Sketch#hash64(CharSequence)}
+      * @param expectedDistinctCount Expected distinct key count
+      * @param falsePositiveRate Target rate of distinct element mistakenly dropped
+      * @return Approximately distinct {@link Pipe} */
+    public final Pipe<T> distinctApproximately(ToLongFunction<? super T> keyHasher, long expectedDistinctCount, double falsePositiveRate) {
+        return this.chainWithStateful(downstream -> {
+            final var observedKeys = Sketch.BloomFilter.of(expectedDistinctCount, falsePositiveRate);
+            return value -> !observedKeys.put(keyHasher.applyAsLong(value)) || downstream.push(value);
         });
     }
 
+    /** Bounded-memory {@link #distinct(Function)} over sliding window: Drop element if its key is among the last {@code windowSize} emitted keys.<br/>
+      * Oldest key get evicted in FIFO order, so duplicates far apart will be emitted again.
+      * @param windowSize Number of recently emitted keys to remember
+      * @param keyExtractor {@code long} key or 64-bit key hash
+      * @return Locally distinct {@link Pipe} */
+    public final Pipe<T> distinctWithinLast(int windowSize, ToLongFunction<? super T> keyExtractor) {
+        return this.chainWithStateful(downstream -> {
+            final var recentKeys = new OpenAddressing.LongWindow(windowSize);
+            return value -> !recentKeys.admit(keyExtractor.applyAsLong(value)) || downstream.push(value);
+        });
+    }
+
+    /** I/O-bound {@link #map(Function)}: Each {@code mapper} invocation runs on its own virtual thread, at most {@code maxConcurrency} in-flight.<br/>
+      * Upstream is pulled lazily on consumer thread, only to refill freed in-flight slot. Result keeps encounter order, slow element blocks the ones after it (see {@link #mapConcurrentUnordered(int, Function)}).<br/>
+      * Stopping early (ex: {@link #limit(long)}, {@link #close()}, or abandoned {@link #iterator()}) interrupts all in-flight mapper.
+      * @param maxConcurrency Max in-flight {@code mapper} invocation
+      * @param mapper Might throws {@link RuntimeException}, captured as {@link Faulty.Error} instead of aborting the whole {@link Pipe}
+      * @return {@link Pipe} of {@link Faulty} result, 1 per upstream element */
+    public final <R> Pipe<Faulty<R,RuntimeException>> mapConcurrent(int maxConcurrency, Function<? super T,? extends R> mapper) {
+        return this.chainFrom(new Pipe.ConcurrentMapSource<>(this.chain, maxConcurrency, mapper, true));
+    }
+
+    /** Completion-order variant of {@link #mapConcurrent(int, Function)}: Yield whichever result finishes first, no head-of-line blocking. */
+    public final <R> Pipe<Faulty<R,RuntimeException>> mapConcurrentUnordered(int maxConcurrency, Function<? super T,? extends R> mapper) {
+        return this.chainFrom(new Pipe.ConcurrentMapSource<>(this.chain, maxConcurrency, mapper, false));
+    }
+
+    /** Decouple producer &amp; consumer: Upstream runs on its own (virtual) thread, filling a bounded lock-free single-producer single-consumer ring buffer.<br/>
+      * Upstream exception (including {@link BuggyCodeException}) is rethrown on consumer side once all elements before it are consumed.<br/>
+      * Consumer stopping early (ex: {@link #limit(long)}, {@link #close()}, or abandoned {@link #iterator()}) cancels the producer, waking it up if parked on a full buffer.
+      * @param capacity Max buffered element, rounded up to power of 2
+      * @return Same elements, same order */
+    public final Pipe<T> buffered(int capacity) {
+        return this.chainFrom(new Pipe.BufferedSource<>(this.chain, capacity));
+    }
+
+    /** Group elements into consecutive fixed-size chunks, only the last one might be smaller.
+      * @param chunkSize Element count per chunk
+      * @return {@link Pipe} of independent unmodifiable {@link List} chunk, {@code null} element allowed */
+    public final Pipe<List<T>> chunk(int chunkSize) {
+        return this.chainFrom(new Pipe.ChunkSource<>(this.chain, chunkSize, false));
+    }
+
+    /** Allocation-free variant of {@link #chunk(int)}: Every chunk is the same {@link List} instance over 1 reused backing array.<br/>
+      * Each chunk is only valid until the next one is requested, copy it (ex: {@link List#copyOf(java.util.Collection)}) to retain it.
+      * @param chunkSize Element count per chunk
+      * @return {@link Pipe} of reused unmodifiable {@link List} view */
+    public final Pipe<List<T>> chunkReusing(int chunkSize) {
+        return this.chainFrom(new Pipe.ChunkSource<>(this.chain, chunkSize, true));
+    }
+
+    /** Lazy stable sort: Upstream is drained on the 1st pull or push, not on invocation.<br/>
+      * Directly followed by {@link #limit(long)}, this fuses into bounded top-K selection. */
     public final Pipe<T> sorted(Comparator<T> comparator) {
-        final var intermediateQueue = new PriorityQueue<T>(comparator);
-        while (source.hasNext())
-            intermediateQueue.add(source.next());
-        return new Pipe<>(intermediateQueue.iterator());
+        return this.chainFrom(new Pipe.SortedSource<>(this.chain, comparator, Long.MAX_VALUE, Nilable.empty()));
+    }
+
+    /** External merge sort variant of {@link #sorted(Comparator)} for larger-than-heap upstream.<br/>
+      * Every {@link Spill.Policy#maxElementsInMemory()} elements get sorted &amp; written as 1 run file, then all runs are k-way merged lazily on read.
+      * Run files are deleted as soon as each of them is fully merged. */
+    public final Pipe<T> sorted(Comparator<T> comparator, Spill.Policy<T> spillPolicy) {
+        return this.chainFrom(new Pipe.SortedSource<>(this.chain, comparator, Long.MAX_VALUE, Nilable.of(spillPolicy)));
+    }
+
+    /** Opt-in metrics: End stage segment {@code name}, covering stages since the previous {@link #instrumented(String)} (or since the source, or since the last barrier like {@link #sorted(Comparator)}).<br/>
+      * Records elements in/out &amp; exclusive nanoseconds, read it with {@link PipeMetrics#snapshot()}. Returns this same {@link Pipe} while {@link PipeMetrics#isEnabled()} is {@code false}.
+      * @param name Stage segment name, same name across {@link Pipe} runs accumulates into 1 record */
+    public final Pipe<T> instrumented(String name) {
+        if (!PipeMetrics.isEnabled())
+            return this;
+        final Pipe.Chain<?,T> chain = this.chain.lastMarker().isHasValue() ? this.chain : this.chain.withSourceMarker();
+        @SuppressWarnings("deprecation") // Guaranteed right above
+        final PipeMetrics.Marker previous = chain.lastMarker().zDangerouslyUnwrap("Source marker placed");
+        final PipeMetrics.Marker marker   = PipeMetrics.Marker.ofSegmentEnd(previous, name);
+        final Pipe.Stage<T,T> markerStage = marker::wrap;
+        return new Pipe<>(chain.andThen(markerStage, true).withLastMarker(marker), this.execution);
     }
 
     public final <R> Pipe<R> intermediate(Function<? super Iterator<T>,? extends Iterator<R>> mapper) {
-        return new Pipe<>(mapper.apply(this.source));
+        return Pipe.from(mapper.apply(this.chain.pull()));
+    }
+
+    /** Switch to parallel execution on {@link ForkJoinPool#commonPool()}, preserving encounter order.<br/>
+      * Only array-backed &amp; {@link Spliterator}-backed sources followed by stateless stages ({@link #map(Function)}, {@link #keepIf(Predicate)}, {@link #removeIf(Predicate)}, {@link #peek(Consumer)}) get split.
+      * Anything else (ex: {@link #limit(long)}, {@link #flatMap(Function)}) silently fallback to sequential execution.
+      * @return Parallel {@link Pipe} */
+    public final Pipe<T> parallel() {
+        return new Pipe<>(this.chain, Pipe.Execution.PARALLEL_ORDERED);
+    }
+
+    /** Variant of {@link #parallel()} that drop encounter order guarantee.<br/>
+      * Subsequent {@link #limit(long)} &amp; {@link #distinct(Function)} share concurrent state across splits instead of forcing sequential execution.
+      * @return Parallel {@link Pipe} without encounter order */
+    public final Pipe<T> parallelUnordered() {
+        return new Pipe<>(this.chain, Pipe.Execution.PARALLEL_UNORDERED);
+    }
+
+    public final Pipe<T> sequential() {
+        return new Pipe<>(this.chain, Pipe.Execution.SEQUENTIAL);
     }
 
 
 
     // ---------------------------------------- Terminal Methods ----------------------------------------
-    /** Consume this {@link Pipe}. */
+    /** Idempotent: Release resource held by source (ex: {@link #fromFileLines(Path)}), also valid after consumption.<br/>
+      * Push-mode terminal &amp; exhausted {@link #iterator()} release it on their own, only abandoned {@link #iterator()} needs this. */
+    @Override public final void close() {
+        this.chain.source().close();
+    }
+
+    /** Consume this {@link Pipe} in pull-mode. Prefer any {@code end-} method, as those drive the fused push-mode loop instead. */
     @Override
     public final Iterator<T> iterator() {
-        if (!this.consumed) {
-            this.consumed = true;
-            return this.source;
-        } else
-            throw new BuggyCodeException("Invoking Pipe.iterator() more than 1");
+        return this.consume().pull();
     }
 
     public final boolean endByMatchAll(Predicate<? super T> predicate) {
-        for (final T value: this)
-            if (!predicate.test(value))
-                return false;
-        return true;
+        return !this.isAnyMatched(predicate.negate());
     }
 
     public final boolean endByMatchNone(Predicate<? super T> predicate) {
-        for (final T value: this)
-            if (!predicate.test(value))
-                return false;
-        return true;
+        return !this.isAnyMatched(predicate);
     }
 
     public final boolean endByMatchAny(Predicate<? super T> predicate) {
-        for (final T value: this)
-            if (predicate.test(value))
-                return true;
-        return false;
+        return this.isAnyMatched(predicate);
     }
 
     public final Nilable<T> endByTakeFirst() {
-        for (final T value: this)
-            return Nilable.of(value);
-        return Nilable.empty();
+        final var accumulator = new ArrayList<T>(1);
+        this.consume().pushAll(value -> !accumulator.add(value));
+        return accumulator.isEmpty() ? Nilable.empty() : Nilable.of(accumulator.get(0));
     }
 
     public final List<T> endByToList() {
-        final List<T> accumulator = new ArrayList<>();
-        for (final T value: this)
-            accumulator.add(value);
-        return accumulator;
+        return this.end(Pipe.<T>constructListAccumulator());
     }
 
     public final <K,V> Map<K,V> endByToMap(Function<? super T,? extends K> keyExtractor, Function<? super T,? extends V> valueExtractor) {
-        final var accumulator = new HashMap<K,V>();
-        for (final T value: this)
-            accumulator.put(keyExtractor.apply(value), valueExtractor.apply(value));
-        return accumulator;
+        return this.end(Terminal.Accumulator.<T,Map<K,V>,Map<K,V>>of(
+            HashMap::new,
+            (accumulator, value) -> accumulator.put(keyExtractor.apply(value), valueExtractor.apply(value)),
+            (left, right) -> { left.putAll(right); return left; },
+            Function.identity()
+        ));
     }
 
+    /** Parallel {@link Pipe} only combine partial results with {@link Terminal.Accumulator}.
+      * Other {@link Terminal} still get its stages executed in parallel, but reduction happen sequentially in encounter order. */
     public final <R> R end(Terminal<T,? extends R> reducer) {
-        return reducer.performMutableReduction((Iterable<T>) () -> this.iterator());
+        final Pipe.Chain<?,T> chain = this.consume();
+        try {
+            if (this.execution == Pipe.Execution.SEQUENTIAL || !chain.isParallelizable())
+                return reducer.performMutableReduction(new Pipe.OneTimeProducer<>(chain));
+            if (reducer instanceof final Terminal.Accumulator<T,?,? extends R> accumulator)
+                return Pipe.reduceInParallel(chain, accumulator);
+            return reducer.performMutableReduction(Pipe.reduceInParallel(chain, Pipe.constructListAccumulator()));
+        } finally {
+            chain.close(); // Terminal might stop pulling early, release source right away instead of waiting for Cleaner
+        }
     }
 
     public final <R> R end(Supplier<? extends Terminal<T,? extends R>> reducer) {
@@ -298,33 +725,155 @@ public final class Pipe<T> implements Iterable<T>, Transmutable<Pipe<T>> {
     // ---------------------------------------- Static Functions ----------------------------------------
     @SafeVarargs // Read-only on values
     public static <T> Pipe<T> of(T... values) {
-        final Iterator<T> iterator = values == null || values.length == 0
-            ? Pipe.constructEmptyIterator()
-            : new Iterator<T>() {
-            private int idx = 0;
+        if (values == null || values.length == 0)
+            return Pipe.from(Pipe.<T>constructEmptyIterator());
+        return Pipe.fromSource(new Pipe.Source<T>() {
+            @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+                for (final T value: values)
+                    if (!sink.push(value))
+                        return false;
+                return true;
+            }
 
-            @Override public boolean hasNext() {
-                return idx < values.length;
+            @Override public Iterator<T> pull() {
+                return new Iterator<T>() {
+                    private int idx = 0;
+
+                    @Override public boolean hasNext() {
+                        return idx < values.length;
+                    }
+
+                    @Override public T next() {
+                        return values[idx++];
+                    }
+                };
             }
 
-            @Override public T next() {
-                return values[idx++];
+            @Override public boolean isSplittable() {
+                return true;
             }
-        };
-        return new Pipe<>(iterator);
+
+            @Override public Nilable<Spliterator<T>> toSpliterator() {
+                return Nilable.of(Spliterators.spliterator(values, Spliterator.ORDERED));
+            }
+        });
     }
 
+    /** Note: {@link Iterable#iterator()} or {@link Iterable#spliterator()} is invoked lazily, on consumption. */
     public static <T> Pipe<T> from(Iterable<T> source) {
-        return new Pipe<>(source.iterator());
+        return Pipe.fromSource(new Pipe.Source<T>() {
+            @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+                for (final T value: source)
+                    if (!sink.push(value))
+                        return false;
+                return true;
+            }
+
+            @Override public Iterator<T> pull() {
+                return source.iterator();
+            }
+
+            @Override public boolean isSplittable() {
+                return true;
+            }
+
+            @Override public Nilable<Spliterator<T>> toSpliterator() {
+                return Nilable.of(source.spliterator());
+            }
+        });
+    }
+
+    public static <T> Pipe<T> from(Spliterator<T> source) {
+        return Pipe.fromSource(new Pipe.Source<T>() {
+            @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+                return Pipe.pushAllFrom(source, sink);
+            }
+
+            @Override public Iterator<T> pull() {
+                return Spliterators.iterator(source);
+            }
+
+            @Override public boolean isSplittable() {
+                return true;
+            }
+
+            @Override public Nilable<Spliterator<T>> toSpliterator() {
+                return Nilable.of(source);
+            }
+        });
     }
 
     public static <T> Pipe<T> from(Iterator<T> source) {
-        return new Pipe<>(source);
+        return Pipe.fromSource(new Pipe.Source<T>() {
+            @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+                while (source.hasNext())
+                    if (!sink.push(source.next()))
+                        return false;
+                return true;
+            }
+
+            @Override public Iterator<T> pull() {
+                return source;
+            }
+        });
+    }
+
+    /** Lazy k-way merge of already sorted {@code sources}: O(log N) per element, holding only 1 element per source. Ties keep source order (stable).<br/>
+      * Each source must be sorted by {@code comparator}, unsorted source yields unspecified order instead of failing.
+      * @param comparator Order all {@code sources} are sorted by
+      * @param sources Sorted {@link Pipe}, consumed in pull-mode
+      * @return Merged sorted {@link Pipe} */
+    @SafeVarargs // Read-only on sources
+    public static <T> Pipe<T> mergeSorted(Comparator<? super T> comparator, Pipe<T>... sources) {
+        final var sourceList = new ArrayList<Pipe<T>>(sources.length); // Element-wise copy: Handing generic varargs array to another method is what could pollute heap
+        for (final Pipe<T> source: sources)
+            sourceList.add(source);
+        return Pipe.fromSource(new Pipe.MergeSortedSource<>(sourceList, comparator, false));
+    }
+
+    /** Dedup-on-equal {@link #mergeSorted(Comparator, Pipe[])}: Of consecutive elements comparing equal, only the first (lowest source index) is kept. */
+    @SafeVarargs // Read-only on sources
+    public static <T> Pipe<T> mergeSortedDistinct(Comparator<? super T> comparator, Pipe<T>... sources) {
+        final var sourceList = new ArrayList<Pipe<T>>(sources.length);
+        for (final Pipe<T> source: sources)
+            sourceList.add(source);
+        return Pipe.fromSource(new Pipe.MergeSortedSource<>(sourceList, comparator, true));
+    }
+
+    /** Memory-mapped line source, file is mapped in sliding windows so multi-GB file never get copied into heap.<br/>
+      * Pure-ASCII line is a zero-copy {@link CharSequence} view over the mapping, other line is decoded as UTF-8 {@link String}. Line terminator ({@code \n} or {@code \r\n}) is excluded.<br/>
+      * Unlike {@link java.io.BufferedReader#readLine()}, a lone {@code \r} is not a terminator (kept as part of the line), so classic Mac OS file is a single line.<br/>
+      * View is equal only to another view of same content, hash code matches {@link String#hashCode()} of same content.
+      * Call {@link CharSequence#toString()} to retain the content independent of the mapping or to compare against {@link String}.
+      * @param file File path, opened lazily on consumption
+      * @return {@link Pipe} of line, {@link UncheckedIOException} on I/O failure */
+    public static Pipe<CharSequence> fromFileLines(Path file) {
+        return Pipe.fromSource(new Pipe.MappedFileSource<>(file, (byte) '\n', 0, Pipe.MappedFileSource::toLine));
+    }
+
+    /** Memory-mapped delimited record source, yielding read-only {@link ByteBuffer} slice of the mapping (delimiter excluded), no byte is copied.
+      * @param file File path, opened lazily on consumption
+      * @param delimiter Record separator byte, trailing delimiter at file end doesn't produce empty record
+      * @return {@link Pipe} of record view, {@link UncheckedIOException} on I/O failure */
+    public static Pipe<ByteBuffer> fromFileRecords(Path file, byte delimiter) {
+        return Pipe.fromSource(new Pipe.MappedFileSource<>(file, delimiter, 0, Function.identity()));
+    }
+
+    /** Memory-mapped fixed-width record source, yielding read-only {@link ByteBuffer} slice of the mapping, no byte is copied.
+      * @param file File path, its size must be a multiple of {@code recordWidth}
+      * @param recordWidth Byte count per record
+      * @return {@link Pipe} of record view, {@link UncheckedIOException} on I/O failure or truncated last record */
+    public static Pipe<ByteBuffer> fromFixedWidthRecords(Path file, int recordWidth) {
+        if (recordWidth <= 0)
+            throw new BuggyCodeException(String.format("[%s] Record width must be positive: %d", Pipe.class.getName(), recordWidth));
+        return Pipe.fromSource(new Pipe.MappedFileSource<>(file, (byte) 0, recordWidth, Function.identity()));
     }
 
 
 
     // ---------------------------------------- Fold/Reduce Operator ----------------------------------------
+    /** Note: {@link Pipe#end(Terminal)} provides {@link Iterable} where {@link Iterable#forEach(Consumer)} drives fused push-mode loop.
+      *       Prefer {@link Iterable#forEach(Consumer)} over {@code for}-statement, which falls back to pull-mode {@link Iterator}. */
     @FunctionalInterface
     public interface Terminal<T,R> {
         R performMutableReduction(Iterable<T> oneTimeProducer);
@@ -333,62 +882,488 @@ public final class Pipe<T> implements Iterable<T>, Transmutable<Pipe<T>> {
             return source -> mapper.apply(this.performMutableReduction(source));
         }
 
-        public enum Utils { ;
-            public static <T> Terminal<T,Void> forEach(Consumer<? super T> consumer) {
-                return producer -> {
-                    for (final T value: producer)
-                        consumer.accept(value);
-                    return null;
-                };
+        /** Accumulator-style {@link Terminal}: Push-based &amp; mergeable partial state, allowing parallel {@link Pipe} to reduce each split independently.<br/>
+          * Same shape as {@link Collector}, {@link #combine(Object, Object)} always receive {@code left} as the earlier split in encounter order.<br/>
+          * Short-circuit: Once {@link #isDone(Object)} holds, upstream stops producing immediately (expensive stage &amp; I/O source included), parallel split stops its own leaf.
+          * @param <T> Element type
+          * @param <A> Mutable partial state type
+          * @param <R> Result type */
+        public interface Accumulator<T,A,R> extends Terminal<T,R> {
+            A initialize();
+            void accumulate(A accumulator, T value);
+            A combine(A left, A right);
+            R finish(A accumulator);
+
+            /** @return {@code true} once further element can't change the result, requesting upstream to stop */
+            default boolean isDone(A accumulator) {
+                return false;
             }
 
-            public static <T> Terminal<T,Nilable<T>> fold(BinaryOperator<T> reducer) {
-                return producer -> {
-                    final Iterator<T> iterator = producer.iterator();
-                    if (!iterator.hasNext())
-                        return Nilable.empty();
-                    T accumulator = iterator.next();
-                    while (iterator.hasNext())
-                        accumulator = reducer.apply(accumulator, iterator.next());
-                    return Nilable.of(accumulator);
-                };
+            /** Shared-state accumulator: Parallel {@link Pipe} invokes {@link #initialize()} once per {@link Pipe#end(Terminal)} &amp; every split accumulates into that 1 thread-safe state.<br/>
+              * {@link #combine(Object, Object)} must still merge distinct states, used when nested in another {@link Accumulator}. */
+            default boolean isConcurrent() {
+                return false;
             }
 
-            public static <T> Terminal<T,T> fold(T initial, BinaryOperator<T> reducer) {
-                return producer -> {
-                    T accumulator = initial;
-                    for (final T value: producer)
-                        accumulator = reducer.apply(accumulator, value);
-                    return accumulator;
-                };
+            @Override
+            default R performMutableReduction(Iterable<T> oneTimeProducer) {
+                final A accumulator = this.initialize();
+                if (this.isDone(accumulator))
+                    return this.finish(accumulator);
+                if (oneTimeProducer instanceof final Pipe.OneTimeProducer<T> producer)
+                    producer.chain().pushAll(value -> {
+                        this.accumulate(accumulator, value);
+                        return !this.isDone(accumulator);
+                    });
+                else
+                    for (final Iterator<T> iterator = oneTimeProducer.iterator(); iterator.hasNext() && !this.isDone(accumulator); )
+                        this.accumulate(accumulator, iterator.next());
+                return this.finish(accumulator);
             }
 
-            public static <T,$Accumulator,R> Terminal<T,R> fold(Collector<? super T,$Accumulator,? extends R> reducer) {
-                return producer -> {
-                    final $Accumulator accumulator = reducer.supplier().get();
-                    for (final T value: producer)
-                        reducer.accumulator().accept(accumulator, value);
-                    return reducer.finisher().apply(accumulator);
-                };
+            @Override
+            default <$NextR> Accumulator<T,A,$NextR> andThen(Function<? super R,? extends $NextR> mapper) {
+                final Accumulator<T,A,$NextR> mapped = Accumulator.of(this::initialize, this::accumulate, this::combine, accumulator -> mapper.apply(this.finish(accumulator)), this::isDone);
+                return this.isConcurrent() ? Pipe.markConcurrent(mapped) : mapped;
             }
 
-            public static <T,K,V> Terminal<T,Map<K,List<V>>> groupingBy(Function<? super T,? extends K> keyExtractor, Function<? super T,? extends V> valueExtractor) {
+            public static <T,A,R> Accumulator<T,A,R> of(Supplier<? extends A> initializer, BiConsumer<? super A,? super T> accumulator, BinaryOperator<A> combiner, Function<? super A,? extends R> finisher) {
+                return Accumulator.of(initializer, accumulator, combiner, finisher, __ -> false);
+            }
+
+            /** Short-circuiting factory, see {@link #isDone(Object)}. */
+            public static <T,A,R> Accumulator<T,A,R> of(Supplier<? extends A> initializer, BiConsumer<? super A,? super T> accumulator, BinaryOperator<A> combiner, Function<? super A,? extends R> finisher, Predicate<? super A> doneChecker) {
+                return new Accumulator<T,A,R>() {
+                    @Override public A initialize() { return initializer.get(); }
+                    @Override public void accumulate(A partial, T value) { accumulator.accept(partial, value); }
+                    @Override public A combine(A left, A right) { return combiner.apply(left, right); }
+                    @Override public R finish(A partial) { return finisher.apply(partial); }
+                    @Override public boolean isDone(A partial) { return doneChecker.test(partial); }
+                };
+            }
+        }
+
+        public enum Utils { ;
+            public static <T> Terminal<T,Void> forEach(Consumer<? super T> consumer) {
                 return producer -> {
-                    final var accumulator = new HashMap<K,List<V>>();
-                    for (final T value: producer) {
-                        final K key            = keyExtractor.apply(value);
-                        final V extractedValue = valueExtractor.apply(value);
-                        if (accumulator.containsKey(key))
-                            accumulator.get(key).add(extractedValue);
-                        else {
-                            final var groupAccumulator = new ArrayList<V>();
-                            groupAccumulator.add(extractedValue);
-                            accumulator.put(key, groupAccumulator);
+                    producer.forEach(consumer);
+                    return null;
+                };
+            }
+
+            /** Batch-consuming {@link Terminal}: Feed {@code chunkConsumer} with fixed-size chunks (ex: JDBC batch insert), only the last one might be smaller.<br/>
+              * The chunk {@link List} &amp; its backing array are reused, each chunk is only valid during its {@code chunkConsumer} invocation. */
+            public static <T> Terminal<T,Void> forEachChunk(int chunkSize, Consumer<? super List<T>> chunkConsumer) {
+                return producer -> {
+                    final var chunk = new Pipe.Chunk<T>(chunkSize);
+                    producer.forEach(value -> {
+                        if (chunk.addAndCheckFull(value)) {
+                            chunkConsumer.accept(chunk);
+                            chunk.reset();
                         }
-                    }
-                    return accumulator;
+                    });
+                    if (!chunk.isEmpty())
+                        chunkConsumer.accept(chunk);
+                    return null;
                 };
             }
+
+            public static <T> Accumulator<T,?,Nilable<T>> fold(BinaryOperator<T> reducer) {
+                return Accumulator.<T,Pipe.Box<T>,Nilable<T>>of(
+                    Pipe.Box::new,
+                    (accumulator, value) -> accumulator.set(accumulator.isEmpty ? value : reducer.apply(accumulator.value, value)),
+                    (left, right) -> left.isEmpty ? right : right.isEmpty ? left : left.set(reducer.apply(left.value, right.value)),
+                    accumulator -> accumulator.isEmpty ? Nilable.empty() : Nilable.of(accumulator.value)
+                );
+            }
+
+            /** Parallel {@link Pipe} apply {@code reducer} to each split starting from {@code initial}, so it must be identity value of {@code reducer}. */
+            public static <T> Accumulator<T,?,T> fold(T initial, BinaryOperator<T> reducer) {
+                return Accumulator.<T,Pipe.Box<T>,T>of(
+                    () -> new Pipe.Box<T>().set(initial),
+                    (accumulator, value) -> accumulator.set(reducer.apply(accumulator.value, value)),
+                    (left, right) -> left.set(reducer.apply(left.value, right.value)),
+                    accumulator -> accumulator.value
+                );
+            }
+
+            /** Short-circuiting {@link #fold(Object, BinaryOperator)}: Stop consuming once the folded value satisfies {@code doneChecker} (ex: size cap, saturation).<br/>
+              * Exact stop point is sequential-only: Parallel {@link Pipe} stops each split on its own &amp; a done left partial drops the rest,
+              * but a right split (folded without knowing its prefix) is still combined whole, so the result might go past where sequential fold stops.
+              * Call {@link Pipe#sequential()} first if the exact stop point matters. */
+            public static <T> Accumulator<T,?,T> foldUntil(T initial, BinaryOperator<T> reducer, Predicate<? super T> doneChecker) {
+                return Accumulator.<T,Pipe.Box<T>,T>of(
+                    () -> new Pipe.Box<T>().set(initial),
+                    (accumulator, value) -> accumulator.set(reducer.apply(accumulator.value, value)),
+                    (left, right) -> doneChecker.test(left.value) ? left : left.set(reducer.apply(left.value, right.value)),
+                    accumulator -> accumulator.value,
+                    accumulator -> doneChecker.test(accumulator.value)
+                );
+            }
+
+            /** Short-circuiting: First {@code count} elements in encounter order, upstream stops right after the last one. */
+            public static <T> Accumulator<T,?,List<T>> takeFirstN(int count) {
+                if (count < 0)
+                    throw new BuggyCodeException(String.format("[%s] Take count must be non-negative: %d", Terminal.Utils.class.getName(), count));
+                return Accumulator.<T,List<T>,List<T>>of(
+                    ArrayList::new,
+                    List::add,
+                    (left, right) -> {
+                        left.addAll(right.subList(0, Math.max(0, Math.min(right.size(), count - left.size()))));
+                        return left;
+                    },
+                    Function.identity(),
+                    accumulator -> accumulator.size() >= count
+                );
+            }
+
+            /** Short-circuiting: Stop at the first element matching {@code predicate}. */
+            public static <T> Accumulator<T,?,Boolean> anyMatchBy(Predicate<? super T> predicate) {
+                return Accumulator.<T,Pipe.Box<Boolean>,Boolean>of(
+                    () -> new Pipe.Box<Boolean>().set(false),
+                    (accumulator, value) -> accumulator.set(predicate.test(value)),
+                    (left, right) -> left.value ? left : right,
+                    accumulator -> accumulator.value,
+                    accumulator -> accumulator.value
+                );
+            }
+
+            public static <T,$Accumulator,R> Accumulator<T,?,R> fold(Collector<? super T,$Accumulator,? extends R> reducer) {
+                return Accumulator.<T,$Accumulator,R>of(reducer.supplier(), reducer.accumulator(), reducer.combiner(), reducer.finisher());
+            }
+
+            public static <T,K,V> Accumulator<T,?,Map<K,List<V>>> groupingBy(Function<? super T,? extends K> keyExtractor, Function<? super T,? extends V> valueExtractor) {
+                return Accumulator.<T,Map<K,List<V>>,Map<K,List<V>>>of(
+                    HashMap::new,
+                    (accumulator, value) -> accumulator.computeIfAbsent(keyExtractor.apply(value), __ -> new ArrayList<>()).add(valueExtractor.apply(value)),
+                    (left, right) -> {
+                        right.forEach((key, rightGroup) -> left.merge(key, rightGroup, (leftGroup, __) -> { leftGroup.addAll(rightGroup); return leftGroup; }));
+                        return left;
+                    },
+                    Function.identity()
+                );
+            }
+
+            /** Incremental per-key aggregation: Each group only holds {@code downstream} partial state (ex: count, sum, first N), never the raw elements.<br/>
+              * 1 hash lookup per element, parallel {@link Pipe} combine groups key by key with {@code downstream} combiner. */
+            public static <T,K,R> Accumulator<T,?,Map<K,R>> groupingBy(Function<? super T,? extends K> keyExtractor, Accumulator<T,?,? extends R> downstream) {
+                return Utils.groupingByCaptured(keyExtractor, downstream);
+            }
+
+            /** Primitive specialization of {@link #groupingBy(Function, Accumulator)}: Count per key inside open-addressing {@code long} slot, no per-element boxing. */
+            public static <T,K> Accumulator<T,?,Map<K,Long>> countingBy(Function<? super T,? extends K> keyExtractor) {
+                return Utils.summingLongBy(keyExtractor, __ -> 1L);
+            }
+
+            /** Primitive specialization of {@link #groupingBy(Function, Accumulator)}: Sum per key inside open-addressing {@code long} slot, no per-element boxing. */
+            public static <T,K> Accumulator<T,?,Map<K,Long>> summingLongBy(Function<? super T,? extends K> keyExtractor, ToLongFunction<? super T> valueExtractor) {
+                return Accumulator.<T,OpenAddressing.ObjectLongMap<K>,Map<K,Long>>of(
+                    OpenAddressing.ObjectLongMap::new,
+                    (accumulator, value) -> accumulator.addTo(keyExtractor.apply(value), valueExtractor.applyAsLong(value)),
+                    (left, right) -> {
+                        if (left.size() < right.size()) {
+                            right.addAll(left);
+                            return right;
+                        }
+                        left.addAll(right);
+                        return left;
+                    },
+                    Utils::toBoxedMap
+                );
+            }
+
+            /** Concurrent {@link #countingBy(Function)}, see {@link #summingLongByConcurrent(Function, ToLongFunction)}. */
+            public static <T,K> Accumulator<T,?,Map<K,Long>> countingByConcurrent(Function<? super T,? extends K> keyExtractor) {
+                return Utils.summingLongByConcurrent(keyExtractor, __ -> 1L);
+            }
+
+            /** Concurrent {@link #summingLongBy(Function, ToLongFunction)}: All splits of 1 parallel {@link Pipe#end(Terminal)} share 1 lock-striped table, nothing to merge on combine.<br/>
+              * Each {@link Pipe#end(Terminal)} starts from a fresh table, so the returned instance is reusable. */
+            public static <T,K> Accumulator<T,?,Map<K,Long>> summingLongByConcurrent(Function<? super T,? extends K> keyExtractor, ToLongFunction<? super T> valueExtractor) {
+                return Pipe.markConcurrent(Accumulator.<T,OpenAddressing.StripedObjectLongMap<K>,Map<K,Long>>of(
+                    () -> new OpenAddressing.StripedObjectLongMap<>(4 * Runtime.getRuntime().availableProcessors()),
+                    (accumulator, value) -> accumulator.addTo(keyExtractor.apply(value), valueExtractor.applyAsLong(value)),
+                    (left, right) -> {
+                        if (left != right)
+                            right.forEach(left::addTo);
+                        return left;
+                    },
+                    accumulator -> {
+                        final var snapshot = new HashMap<K,Long>();
+                        accumulator.forEach(snapshot::put);
+                        return snapshot;
+                    }
+                ));
+            }
+
+            private static <T,K,A,R> Accumulator<T,?,Map<K,R>> groupingByCaptured(Function<? super T,? extends K> keyExtractor, Accumulator<T,A,? extends R> downstream) {
+                final Function<K,A> groupInitializer = __ -> downstream.initialize();
+                return Accumulator.<T,Map<K,A>,Map<K,R>>of(
+                    HashMap::new,
+                    (accumulator, value) -> {
+                        final A group = accumulator.computeIfAbsent(keyExtractor.apply(value), groupInitializer);
+                        if (!downstream.isDone(group)) // Short-circuited group ignores the rest of its elements
+                            downstream.accumulate(group, value);
+                    },
+                    (left, right) -> {
+                        right.forEach((key, rightGroup) -> left.merge(key, rightGroup, downstream::combine));
+                        return left;
+                    },
+                    accumulator -> {
+                        final var groups = new HashMap<K,R>(accumulator.size() * 4 / 3 + 1);
+                        accumulator.forEach((key, group) -> groups.put(key, downstream.finish(group)));
+                        return groups;
+                    }
+                );
+            }
+
+            private static <K> Map<K,Long> toBoxedMap(OpenAddressing.ObjectLongMap<K> accumulator) {
+                final var boxed = new HashMap<K,Long>(accumulator.size() * 4 / 3 + 1);
+                accumulator.forEach(boxed::put);
+                return boxed;
+            }
+
+            /** Single-pass fan-out: Each element is pushed into every downstream {@link Accumulator}, so the {@link Pipe} is produced once for all of them.<br/>
+              * Only {@link Accumulator} is accepted, a plain {@link Terminal} owns its loop &amp; can't share 1 pass. Result is still an {@link Accumulator}, usable by parallel {@link Pipe}. */
+            public static <T,R1,R2,R> Accumulator<T,?,R> teeing(Accumulator<T,?,? extends R1> first, Accumulator<T,?,? extends R2> second, BiFunction<? super R1,? super R2,? extends R> merger) {
+                return Utils.all(first, second).andThen(results -> merger.apply(results.t1(), results.t2()));
+            }
+
+            @SuppressWarnings("unchecked") // Slot i holds the result of downstream i
+            public static <T,R1,R2> Accumulator<T,?,FunctionalDatas.TupleOf2<R1,R2>> all(Accumulator<T,?,? extends R1> first, Accumulator<T,?,? extends R2> second) {
+                return new Pipe.TeeAccumulator<T>(List.of(first, second)).andThen(results -> new FunctionalDatas.TupleOf2<>((R1) results[0], (R2) results[1]));
+            }
+
+            @SuppressWarnings("unchecked") // Slot i holds the result of downstream i
+            public static <T,R1,R2,R3> Accumulator<T,?,FunctionalDatas.TupleOf3<R1,R2,R3>> all(Accumulator<T,?,? extends R1> first, Accumulator<T,?,? extends R2> second, Accumulator<T,?,? extends R3> third) {
+                return new Pipe.TeeAccumulator<T>(List.of(first, second, third)).andThen(results -> new FunctionalDatas.TupleOf3<>((R1) results[0], (R2) results[1], (R3) results[2]));
+            }
+
+            @SuppressWarnings("unchecked") // Slot i holds the result of downstream i
+            public static <T,R1,R2,R3,R4> Accumulator<T,?,FunctionalDatas.TupleOf4<R1,R2,R3,R4>> all(Accumulator<T,?,? extends R1> first, Accumulator<T,?,? extends R2> second, Accumulator<T,?,? extends R3> third, Accumulator<T,?,? extends R4> fourth) {
+                return new Pipe.TeeAccumulator<T>(List.of(first, second, third, fourth)).andThen(results -> new FunctionalDatas.TupleOf4<>((R1) results[0], (R2) results[1], (R3) results[2], (R4) results[3]));
+            }
+
+            @SuppressWarnings("unchecked") // Slot i holds the result of downstream i
+            public static <T,R1,R2,R3,R4,R5> Accumulator<T,?,FunctionalDatas.TupleOf5<R1,R2,R3,R4,R5>> all(Accumulator<T,?,? extends R1> first, Accumulator<T,?,? extends R2> second, Accumulator<T,?,? extends R3> third, Accumulator<T,?,? extends R4> fourth, Accumulator<T,?,? extends R5> fifth) {
+                return new Pipe.TeeAccumulator<T>(List.of(first, second, third, fourth, fifth)).andThen(results -> new FunctionalDatas.TupleOf5<>((R1) results[0], (R2) results[1], (R3) results[2], (R4) results[3], (R5) results[4]));
+            }
+        }
+    }
+
+
+
+    // ---------------------------------------- Join ----------------------------------------
+    /** Hash join configuration.
+      * @param <L> Left ({@code this}) side element type
+      * @param <R> Right ({@code otherPipe}) side element type
+      * @param leftSizeHint Expected left side element count, negative if unknown
+      * @param rightSizeHint Expected right side element count, negative if unknown. Inner join hashes the smaller hinted side, right side by default
+      * @param spillPolicies Left &amp; right spill policy. Once the build side exceeds its memory budget, both sides get hash-partitioned into run files
+      *                      (grace hash join) &amp; joined 1 partition at a time, output order then follows partition order */
+    public record JoinPolicy<L,R>(long leftSizeHint, long rightSizeHint, Nilable<FunctionalDatas.TupleOf2<Spill.Policy<L>,Spill.Policy<R>>> spillPolicies) {
+        /** Unknown size, fully in-memory. */
+        public static <L,R> Pipe.JoinPolicy<L,R> of() {
+            return new Pipe.JoinPolicy<>(-1, -1, Nilable.empty());
+        }
+
+        public static <L,R> Pipe.JoinPolicy<L,R> ofSizeHint(long leftSizeHint, long rightSizeHint) {
+            return new Pipe.JoinPolicy<>(leftSizeHint, rightSizeHint, Nilable.empty());
+        }
+
+        public Pipe.JoinPolicy<L,R> withSpill(Spill.Policy<L> leftSpillPolicy, Spill.Policy<R> rightSpillPolicy) {
+            return new Pipe.JoinPolicy<>(this.leftSizeHint, this.rightSizeHint, Nilable.of(new FunctionalDatas.TupleOf2<>(leftSpillPolicy, rightSpillPolicy)));
+        }
+
+        private boolean isLeftSmaller() {
+            return this.leftSizeHint >= 0 && this.rightSizeHint >= 0 && this.leftSizeHint < this.rightSizeHint;
+        }
+
+        private Pipe.JoinPolicy<R,L> swapped() {
+            return new Pipe.JoinPolicy<>(this.rightSizeHint, this.leftSizeHint, this.spillPolicies.map(policies -> new FunctionalDatas.TupleOf2<>(policies.t2(), policies.t1())));
+        }
+    }
+
+    /** Probe-side emission of hash join, {@code matches} is empty for unmatched element. Return {@code false} once {@code downstream} stops. */
+    @FunctionalInterface
+    private interface JoinEmitter<P,B,R> {
+        boolean emit(P probe, List<B> matches, Pipe.Sink<? super R> downstream);
+    }
+
+    private <$Right,K,R> Pipe<R> hashJoin(Pipe<$Right> buildPipe, Function<? super T,? extends K> probeKey, Function<? super $Right,? extends K> buildKey, Pipe.JoinPolicy<T,$Right> policy, Pipe.JoinEmitter<T,$Right,R> emitter) {
+        if (policy.spillPolicies().isHasValue()) {
+            @SuppressWarnings("deprecation") // Checked right above
+            final var spillPolicies = policy.spillPolicies().zDangerouslyUnwrap("isHasValue() checked");
+            return this.chainFrom(new Pipe.GraceJoinSource<>(this.chain, buildPipe, probeKey, buildKey, spillPolicies.t1(), spillPolicies.t2(), emitter));
+        }
+        // Stateless fused stage: Table is built once on first wrap, shared by every parallel split
+        final var table = new Pipe.Memo<Map<K,List<$Right>>>(() -> buildPipe.end(Terminal.Utils.groupingBy(buildKey, Function.identity())));
+        return this.alsoClosing(buildPipe).chainWith(downstream -> {
+            final Map<K,List<$Right>> builtTable = table.get();
+            return value -> emitter.emit(value, builtTable.getOrDefault(probeKey.apply(value), List.of()), downstream);
+        });
+    }
+
+    private <$Right,K> Pipe<T> keepByKeyPresence(Pipe<$Right> otherPipe, Function<? super T,? extends K> leftKey, Function<? super $Right,? extends K> rightKey, boolean isPresenceKept) {
+        final var keys = new Pipe.Memo<Set<K>>(() -> {
+            final Set<K> builtKeys = new HashSet<>();
+            otherPipe.consume().pushAll(value -> { builtKeys.add(rightKey.apply(value)); return true; });
+            return builtKeys;
+        });
+        return this.alsoClosing(otherPipe).chainWith(downstream -> {
+            final Set<K> builtKeys = keys.get();
+            return value -> builtKeys.contains(leftKey.apply(value)) != isPresenceKept || downstream.push(value);
+        });
+    }
+
+    /** Thread-safe lazily computed value, computed at most once. */
+    private static final class Memo<T> {
+        private Supplier<? extends T> supplier;
+        private T value;
+
+        private Memo(Supplier<? extends T> supplier) {
+            this.supplier = supplier;
+        }
+
+        private synchronized T get() {
+            if (this.supplier != null) {
+                this.value    = this.supplier.get();
+                this.supplier = null;
+            }
+            return this.value;
+        }
+    }
+
+    /** Barrier source for spillable hash join: In-memory hash join while the build side fits its budget, grace hash join otherwise. */
+    private record GraceJoinSource<P,B,K,R>(
+        Pipe.Chain<?,P> probe,
+        Pipe<B> build,
+        Function<? super P,? extends K> probeKey,
+        Function<? super B,? extends K> buildKey,
+        Spill.Policy<P> probeSpillPolicy,
+        Spill.Policy<B> buildSpillPolicy,
+        Pipe.JoinEmitter<P,B,R> emitter
+    ) implements Pipe.Source<R> {
+        /** Fan-out of grace partitioning, each partition is expected to fit in memory after splitting. */
+        private static final int PARTITION_COUNT = 16;
+
+        /** Table &amp; its probe elements, 1 phase when in-memory, 1 phase per partition when spilled. */
+        private record Phase<P,B,K>(Map<K,List<B>> table, Pipe<P> probes) {}
+
+        @Override public boolean pushAll(Pipe.Sink<? super R> sink) {
+            final List<Spill.Run<?>> runs = new ArrayList<>();
+            try {
+                final Iterator<Pipe.GraceJoinSource.Phase<P,B,K>> phases = this.phases(runs);
+                while (phases.hasNext()) {
+                    final var phase = phases.next();
+                    if (!phase.probes().consume().pushAll(value -> this.emitter.emit(value, phase.table().getOrDefault(this.probeKey.apply(value), List.of()), sink)))
+                        return false;
+                }
+                return true;
+            } finally {
+                Spill.closeAll(runs);
+            }
+        }
+
+        @Override public Iterator<R> pull() {
+            final List<Spill.Run<?>> runs = new ArrayList<>();
+            final Iterator<R> joined = new Iterator<R>() {
+                private Iterator<Pipe.GraceJoinSource.Phase<P,B,K>> phases;
+                private Pipe.GraceJoinSource.Phase<P,B,K> phase;
+                private Iterator<P> probes = Pipe.constructEmptyIterator();
+                private final ArrayList<R> buffer = new ArrayList<>();
+                private int bufferIdx             = 0;
+
+                @Override public boolean hasNext() {
+                    if (this.phases == null)
+                        this.phases = GraceJoinSource.this.phases(runs);
+                    while (this.bufferIdx == this.buffer.size()) {
+                        this.buffer.clear();
+                        this.bufferIdx = 0;
+                        while (!this.probes.hasNext()) {
+                            if (!this.phases.hasNext())
+                                return false;
+                            this.phase  = this.phases.next();
+                            this.probes = this.phase.probes().iterator();
+                        }
+                        final P value = this.probes.next();
+                        GraceJoinSource.this.emitter.emit(value, this.phase.table().getOrDefault(GraceJoinSource.this.probeKey.apply(value), List.of()), this.buffer::add);
+                    }
+                    return true;
+                }
+
+                @Override public R next() {
+                    if (!this.hasNext())
+                        throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                    return this.buffer.get(this.bufferIdx++);
+                }
+            };
+            Pipe.registerCleanup(joined, () -> Spill.closeAll(runs));
+            return joined;
+        }
+
+        @Override public void close() {
+            this.probe.close();
+            this.build.close();
+        }
+
+        private Iterator<Pipe.GraceJoinSource.Phase<P,B,K>> phases(List<Spill.Run<?>> runs) {
+            final Iterator<B> builds = this.build.iterator();
+            final Map<K,List<B>> table = new HashMap<>();
+            for (long count = 0; count < this.buildSpillPolicy.maxElementsInMemory() && builds.hasNext(); ++count) {
+                final B value = builds.next();
+                table.computeIfAbsent(this.buildKey.apply(value), __ -> new ArrayList<>()).add(value);
+            }
+            if (!builds.hasNext())
+                return List.of(new Pipe.GraceJoinSource.Phase<P,B,K>(table, new Pipe<>(this.probe, Pipe.Execution.SEQUENTIAL))).iterator();
+
+            // Over budget: Hash-partition both sides, so matching keys always land in the same partition pair
+            final List<Spill.Run<B>> buildRuns = this.partition(Pipe.from(table.values()).flatMap(Pipe::from).iterator(), builds, this.buildKey, this.buildSpillPolicy, runs);
+            table.clear();
+            final List<Spill.Run<P>> probeRuns = this.partition(Pipe.<P>constructEmptyIterator(), this.probe.pull(), this.probeKey, this.probeSpillPolicy, runs);
+            return new Iterator<Pipe.GraceJoinSource.Phase<P,B,K>>() {
+                private int partitionIdx = 0;
+
+                @Override public boolean hasNext() {
+                    return this.partitionIdx < GraceJoinSource.PARTITION_COUNT;
+                }
+
+                @Override public Pipe.GraceJoinSource.Phase<P,B,K> next() {
+                    if (!this.hasNext())
+                        throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                    final Map<K,List<B>> partitionTable = new HashMap<>();
+                    final Iterator<B> partitionBuilds   = buildRuns.get(this.partitionIdx).read();
+                    while (partitionBuilds.hasNext()) {
+                        final B value = partitionBuilds.next();
+                        partitionTable.computeIfAbsent(GraceJoinSource.this.buildKey.apply(value), __ -> new ArrayList<>()).add(value);
+                    }
+                    return new Pipe.GraceJoinSource.Phase<>(partitionTable, Pipe.from(probeRuns.get(this.partitionIdx++).read()));
+                }
+            };
+        }
+
+        private <E> List<Spill.Run<E>> partition(Iterator<E> buffered, Iterator<E> remaining, Function<? super E,? extends K> keyExtractor, Spill.Policy<E> policy, List<Spill.Run<?>> runs) {
+            final List<Spill.RunWriter<E>> writers = new ArrayList<>(GraceJoinSource.PARTITION_COUNT);
+            try {
+                for (int i = 0; i < GraceJoinSource.PARTITION_COUNT; ++i)
+                    writers.add(new Spill.RunWriter<>(policy));
+                for (final Iterator<E> source: List.of(buffered, remaining))
+                    while (source.hasNext()) {
+                        final E value = source.next();
+                        writers.get((int) (OpenAddressing.mix(Objects.hashCode(keyExtractor.apply(value))) >>> 32) & (GraceJoinSource.PARTITION_COUNT - 1)).append(value);
+                    }
+                final List<Spill.Run<E>> partitionRuns = new ArrayList<>(GraceJoinSource.PARTITION_COUNT);
+                for (final Spill.RunWriter<E> writer: writers) {
+                    final Spill.Run<E> run = writer.finish();
+                    partitionRuns.add(run);
+                    runs.add(run);
+                }
+                return partitionRuns;
+            } catch (RuntimeException e) {
+                for (final Spill.RunWriter<E> writer: writers)
+                    writer.abort();
+                throw e;
+            }
         }
     }
 
@@ -406,37 +1381,1194 @@ public final class Pipe<T> implements Iterable<T>, Transmutable<Pipe<T>> {
         return (Iterator<T>) Local.EMPTY_ITERATOR;
     }
 
-    /** Contract: {@link Consumer} downstream must be called <b>at most once</b>. */
+    /** Run {@code cleanup} once {@code owner} becomes unreachable, safety net for resource held by abandoned pull-mode {@link Iterator}.<br/>
+      * {@code cleanup} must not reference {@code owner}, otherwise it will never become unreachable. */
+    static Cleaner.Cleanable registerCleanup(Object owner, Runnable cleanup) {
+        enum Local { ;
+            static final Cleaner CLEANER = Cleaner.create();
+        }
+        return Local.CLEANER.register(owner, cleanup);
+    }
+
+    private Pipe.Chain<?,T> consume() {
+        if (this.consumed)
+            throw new BuggyCodeException("Consuming Pipe more than 1");
+        this.consumed = true;
+        return this.chain;
+    }
+
+    /** Match state kept in the sink: Upstream stopping early (ex: {@link #limit(long)}) must not read as a match. */
+    private boolean isAnyMatched(Predicate<? super T> predicate) {
+        final var state = new Object() { boolean isMatched = false; };
+        this.consume().pushAll(value -> {
+            state.isMatched = predicate.test(value);
+            return !state.isMatched;
+        });
+        return state.isMatched;
+    }
+
+    /** For stateless stage, safe to be wrapped once per parallel split. */
+    private <R> Pipe<R> chainWith(Pipe.Stage<T,R> stage) {
+        return new Pipe<>(this.chain.andThen(stage, true), this.execution);
+    }
+
+    /** For stage requiring to observe all elements in encounter order, forcing sequential execution. */
+    private <R> Pipe<R> chainWithStateful(Pipe.Stage<T,R> stage) {
+        return new Pipe<>(this.chain.andThen(stage, false), this.execution);
+    }
+
+    private <R> Pipe<R> chainFrom(Pipe.Source<R> source) {
+        return new Pipe<>(Pipe.Chain.of(source), this.execution);
+    }
+
+    /** Same chain, but {@link #close()} also closes {@code other} (ex: build side captured by a fused stage, which might never get consumed). */
+    private Pipe<T> alsoClosing(Pipe<?> other) {
+        return new Pipe<>(this.chain.alsoClosing(other), this.execution);
+    }
+
+    /** Package-private: Bridge for primitive sibling pipes ({@link IntPipe}, {@link LongPipe}, {@link DoublePipe}). */
+    static <T> Pipe<T> fromSource(Pipe.Source<T> source) {
+        return new Pipe<>(Pipe.Chain.of(source), Pipe.Execution.SEQUENTIAL);
+    }
+
+    /** Split reduction for primitive bridges ({@link #mapToInt(ToIntFunction)}, ...): 1 partial state &amp; its fused primitive sink per split. */
+    private static <T,A,S> Nilable<A> accumulatePrimitiveInParallel(Pipe.Chain<?,T> upstream, Pipe.Execution execution, Supplier<A> initialize, Function<? super A,S> sinkOf, BiPredicate<S,T> pusher, BinaryOperator<A> combine) {
+        if (execution == Pipe.Execution.SEQUENTIAL || !upstream.isParallelizable())
+            return Nilable.empty();
+        record Split<A,S>(A state, S sink) {}
+        try {
+            return Nilable.of(Pipe.reduceInParallel(upstream, Terminal.Accumulator.<T,Split<A,S>,A>of(
+                () -> {
+                    final A state = initialize.get();
+                    return new Split<>(state, sinkOf.apply(state));
+                },
+                (split, value) -> pusher.test(split.sink(), value),
+                (left, right) -> new Split<>(combine.apply(left.state(), right.state()), left.sink()), // Combined split never receives element again
+                Split::state
+            )));
+        } finally {
+            upstream.close();
+        }
+    }
+
+    private static <T> boolean pushAllFrom(Spliterator<T> source, Pipe.Sink<? super T> sink) {
+        final var isOpen = new Object() { boolean value = true; };
+        while (isOpen.value && source.tryAdvance(value -> isOpen.value = sink.push(value)))
+            ;
+        return isOpen.value;
+    }
+
+    private static <T,A,R> R reduceInParallel(Pipe.Chain<?,T> chain, Terminal.Accumulator<T,A,R> accumulator) {
+        if (!accumulator.isConcurrent())
+            return accumulator.finish(chain.accumulateInParallel(accumulator));
+        final A shared = accumulator.initialize();
+        chain.accumulateInParallel(Terminal.Accumulator.<T,A,A>of(() -> shared, accumulator::accumulate, (left, __) -> left, Function.identity(), accumulator::isDone));
+        return accumulator.finish(shared);
+    }
+
+    /** See {@link Terminal.Accumulator#isConcurrent()}. */
+    private static <T,A,R> Terminal.Accumulator<T,A,R> markConcurrent(Terminal.Accumulator<T,A,R> accumulator) {
+        return new Terminal.Accumulator<T,A,R>() {
+            @Override public A initialize() { return accumulator.initialize(); }
+            @Override public void accumulate(A partial, T value) { accumulator.accumulate(partial, value); }
+            @Override public A combine(A left, A right) { return accumulator.combine(left, right); }
+            @Override public R finish(A partial) { return accumulator.finish(partial); }
+            @Override public boolean isDone(A partial) { return accumulator.isDone(partial); }
+            @Override public boolean isConcurrent() { return true; }
+        };
+    }
+
+    private static <T> Terminal.Accumulator<T,?,List<T>> constructListAccumulator() {
+        return Terminal.Accumulator.<T,List<T>,List<T>>of(
+            ArrayList::new,
+            List::add,
+            (left, right) -> { left.addAll(right); return left; },
+            Function.identity()
+        );
+    }
+
+    private enum Execution { SEQUENTIAL, PARALLEL_ORDERED, PARALLEL_UNORDERED }
+
+    /** Mutable single-slot accumulator. */
+    private static final class Box<T> {
+        private T value;
+        private boolean isEmpty = true;
+
+        private Pipe.Box<T> set(T value) {
+            this.value   = value;
+            this.isEmpty = false;
+            return this;
+        }
+    }
+
+    /** Flat fan-out state for {@link Terminal.Utils#all(Terminal.Accumulator, Terminal.Accumulator)}: 1 array slot per downstream partial state, no nested tuple. */
+    private static final class TeeAccumulator<T> implements Terminal.Accumulator<T,Object[],Object[]> {
+        private final Terminal.Accumulator<T,Object,?>[] downstreams;
+
+        @SuppressWarnings({"unchecked", "rawtypes"}) // Each partial state only ever flows back into the downstream that initialized it
+        private TeeAccumulator(List<Terminal.Accumulator<T,?,?>> downstreams) {
+            this.downstreams = downstreams.toArray(Terminal.Accumulator[]::new);
+        }
+
+        @Override public Object[] initialize() {
+            final Object[] states = new Object[this.downstreams.length];
+            for (int i = 0; i < states.length; ++i)
+                states[i] = this.downstreams[i].initialize();
+            return states;
+        }
+
+        @Override public void accumulate(Object[] states, T value) {
+            for (int i = 0; i < states.length; ++i)
+                if (!this.downstreams[i].isDone(states[i])) // Done downstream stops receiving, while the shared pass continues for the others
+                    this.downstreams[i].accumulate(states[i], value);
+        }
+
+        @Override public Object[] combine(Object[] left, Object[] right) {
+            for (int i = 0; i < left.length; ++i)
+                left[i] = this.downstreams[i].combine(left[i], right[i]);
+            return left;
+        }
+
+        @Override public Object[] finish(Object[] states) {
+            final Object[] results = new Object[states.length];
+            for (int i = 0; i < results.length; ++i)
+                results[i] = this.downstreams[i].finish(states[i]);
+            return results;
+        }
+
+        /** Shared pass only stops once every downstream is done. */
+        @Override public boolean isDone(Object[] states) {
+            for (int i = 0; i < states.length; ++i)
+                if (!this.downstreams[i].isDone(states[i]))
+                    return false;
+            return true;
+        }
+    }
+
+    /** Push-mode element receiver. Contract: Return {@code false} to request upstream to stop pushing, all subsequent {@link #push(Object)} are undefined behavior. */
     @FunctionalInterface
-    private interface MapperOf0Or1<T,R> {
-        void consumeAndProduce(T upstreamValue, Consumer<? super R> downstream);
+    interface Sink<T> {
+        boolean push(T value);
     }
 
-    private static <T,R> Iterator<R> applyMapperOf0Or1(Iterator<T> source, MapperOf0Or1<T,R> mapper) {
-        // Because of [0, 1], source.hasNext() does not necessarily implies this.hasNext()
-        return new Iterator<R>() {
-            private R buffer;
-            private boolean isValidBuffer = false;
+    /** Fusible intermediate operation: Wraps downstream {@link Sink} into upstream {@link Sink}. Stateful stage must allocate its state per {@link #wrap(Sink)}. */
+    @FunctionalInterface
+    private interface Stage<T,R> {
+        Pipe.Sink<T> wrap(Pipe.Sink<? super R> downstream);
+
+        default <$NextR> Pipe.Stage<T,$NextR> andThen(Pipe.Stage<R,$NextR> next) {
+            return downstream -> this.wrap(next.wrap(downstream));
+        }
 
-            private void performStoreBuffer(R value) {
-                this.buffer        = value;
-                this.isValidBuffer = true;
+        @SuppressWarnings("unchecked") // Identity stage never change element type
+        static <T> Pipe.Stage<T,T> identity() {
+            enum Local { ;
+                static final Pipe.Stage<?,?> IDENTITY = downstream -> downstream;
             }
+            return (Pipe.Stage<T,T>) Local.IDENTITY;
+        }
+    }
+
+    /** Element producer with both push-mode &amp; pull-mode. Only 1 of the mode will ever get invoked, at most once. */
+    interface Source<T> {
+        /** @return {@code true} if all elements get pushed, {@code false} if stopped by {@link Sink} */
+        boolean pushAll(Pipe.Sink<? super T> sink);
+        Iterator<T> pull();
+
+        /** Whether {@link #toSpliterator()} has value, checked without creating it so one-shot source (ex: {@link Iterable} over a {@link java.util.stream.Stream}) isn't consumed. */
+        default boolean isSplittable() {
+            return false;
+        }
+
+        /** Splittable view for parallel execution, invoked at most once instead of push-mode &amp; pull-mode. */
+        default Nilable<Spliterator<T>> toSpliterator() {
+            return Nilable.empty();
+        }
+
+        /** Idempotent resource release, invoked by {@link Pipe#close()} at any time. Barrier source must forward it to its upstream. */
+        default void close() {}
+    }
+
+    /** Transparent {@link Source} wrapper whose {@link #close()} also closes a side {@link Pipe} owned by the chain. */
+    private record ClosingSource<T>(Pipe.Source<T> source, Pipe<?> other) implements Pipe.Source<T> {
+        @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+            return this.source.pushAll(sink);
+        }
+
+        @Override public Iterator<T> pull() {
+            return this.source.pull();
+        }
+
+        @Override public boolean isSplittable() {
+            return this.source.isSplittable();
+        }
+
+        @Override public Nilable<Spliterator<T>> toSpliterator() {
+            return this.source.toSpliterator();
+        }
+
+        @Override public void close() {
+            try {
+                this.source.close();
+            } finally {
+                this.other.close();
+            }
+        }
+    }
+
+    /** Source + fused stages from source element {@code S} into {@code T}. */
+    private record Chain<S,T>(Pipe.Source<S> source, Pipe.Stage<S,T> stage, boolean isStateless, Nilable<PipeMetrics.Marker> lastMarker) {
+        static <T> Pipe.Chain<T,T> of(Pipe.Source<T> source) {
+            return new Pipe.Chain<>(source, Pipe.Stage.identity(), true, Nilable.empty());
+        }
+
+        <R> Pipe.Chain<S,R> andThen(Pipe.Stage<T,R> next, boolean isNextStateless) {
+            return new Pipe.Chain<>(this.source, this.stage.andThen(next), this.isStateless && isNextStateless, this.lastMarker);
+        }
+
+        Pipe.Chain<S,T> alsoClosing(Pipe<?> other) {
+            return new Pipe.Chain<>(new Pipe.ClosingSource<>(this.source, other), this.stage, this.isStateless, this.lastMarker);
+        }
+
+        Pipe.Chain<S,T> withLastMarker(PipeMetrics.Marker marker) {
+            return new Pipe.Chain<>(this.source, this.stage, this.isStateless, Nilable.of(marker));
+        }
+
+        /** Prepend source boundary marker, so the first instrumented segment starts right at the source. */
+        Pipe.Chain<S,T> withSourceMarker() {
+            final PipeMetrics.Marker marker = PipeMetrics.Marker.ofSource();
+            final Pipe.Stage<S,S> sourceStage = marker::wrap;
+            return new Pipe.Chain<>(this.source, sourceStage.andThen(this.stage), this.isStateless, Nilable.of(marker));
+        }
+
+        boolean pushAll(Pipe.Sink<? super T> sink) {
+            return this.source.pushAll(this.stage.wrap(sink));
+        }
+
+        void close() {
+            this.source.close();
+        }
+
+        boolean isParallelizable() {
+            return this.isStateless && this.source.isSplittable();
+        }
+
+        <A> A accumulateInParallel(Terminal.Accumulator<T,A,?> accumulator) {
+            @SuppressWarnings("deprecation") // Guarded by isParallelizable()
+            final Spliterator<S> spliterator = this.source.toSpliterator().zDangerouslyUnwrap("Chain.isParallelizable() checked beforehand");
+            final long leafSize = spliterator.hasCharacteristics(Spliterator.SIZED)
+                ? Math.max(1, spliterator.estimateSize() / (4L * ForkJoinPool.getCommonPoolParallelism()))
+                : 1;
+            return ForkJoinPool.commonPool().invoke(new Pipe.SplitTask<>(spliterator, this.stage, accumulator, leafSize));
+        }
+
+        @SuppressWarnings("unchecked") // Identity stage: S == T
+        Iterator<T> pull() {
+            final Iterator<S> upstream = this.source.pull();
+            if (this.stage == Pipe.Stage.identity())
+                return (Iterator<T>) upstream;
+            // Pull-mode adapter: Feed fused sink 1 element at a time until it produces something
+            return new Iterator<T>() {
+                private final ArrayList<T> buffer = new ArrayList<>(1);
+                private final Pipe.Sink<S> sink   = Chain.this.stage.wrap(this.buffer::add);
+                private int bufferIdx             = 0;
+                private boolean isUpstreamOpen    = true;
+
+                @Override public boolean hasNext() {
+                    if (this.bufferIdx < this.buffer.size())
+                        return true;
+                    this.buffer.clear();
+                    this.bufferIdx = 0;
+                    while (this.buffer.isEmpty() && this.isUpstreamOpen && upstream.hasNext())
+                        this.isUpstreamOpen = this.sink.push(upstream.next());
+                    return !this.buffer.isEmpty();
+                }
+
+                @Override public T next() {
+                    if (this.hasNext())
+                        return this.buffer.get(this.bufferIdx++);
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                }
+            };
+        }
+    }
+
+    private static <T> Pipe.Stage<T,T> limitStage(long count) {
+        return downstream -> new Pipe.Sink<T>() {
+            private long currentCount = 0;
+
+            @Override public boolean push(T value) {
+                // Stop right at the last element instead of pulling 1 extra element from upstream
+                return downstream.push(value) && ++this.currentCount < count;
+            }
+        };
+    }
+
+    /** K-way merge of sorted {@link Iterator}: O(log N) per element, holding only 1 element per source. Ties are resolved by source index, keeping it stable. */
+    private static <T> Iterator<T> mergeSortedIterators(List<? extends Iterator<T>> sources, Comparator<? super T> comparator) {
+        final class Head {
+            private T value;
+            private final int index;
+
+            private Head(T value, int index) {
+                this.value = value;
+                this.index = index;
+            }
+        }
+        final Comparator<Head> ordering = (left, right) -> {
+            final int comparison = comparator.compare(left.value, right.value);
+            return comparison != 0 ? comparison : Integer.compare(left.index, right.index);
+        };
+        return new Iterator<T>() {
+            private PriorityQueue<Head> heap;
 
             @Override public boolean hasNext() {
-                while (!this.isValidBuffer && source.hasNext())
-                    mapper.consumeAndProduce(source.next(), this::performStoreBuffer);
-                return this.isValidBuffer;
+                if (this.heap == null) {
+                    this.heap = new PriorityQueue<>(Math.max(1, sources.size()), ordering);
+                    for (int i = 0; i < sources.size(); ++i)
+                        if (sources.get(i).hasNext())
+                            this.heap.add(new Head(sources.get(i).next(), i));
+                }
+                return !this.heap.isEmpty();
             }
 
-            @Override public R next() {
-                if (this.hasNext()) {
-                    this.isValidBuffer = false;
-                    return this.buffer;
+            @Override public T next() {
+                if (!this.hasNext())
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                final Head head            = this.heap.poll();
+                final T value              = head.value;
+                final Iterator<T> source   = sources.get(head.index);
+                if (source.hasNext()) {
+                    head.value = source.next();
+                    this.heap.add(head);
                 }
-                throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                return value;
             }
         };
     }
-}
 
+    /** Source for {@link Pipe#mergeSorted(Comparator, Pipe[])} &amp; {@link Pipe#mergeSortedDistinct(Comparator, Pipe[])}. */
+    private record MergeSortedSource<T>(List<Pipe<T>> sources, Comparator<? super T> comparator, boolean isDistinct) implements Pipe.Source<T> {
+        @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+            final Iterator<T> merged = this.pull();
+            while (merged.hasNext())
+                if (!sink.push(merged.next()))
+                    return false;
+            return true;
+        }
+
+        @Override public Iterator<T> pull() {
+            final List<Iterator<T>> iterators = new ArrayList<>(this.sources.size());
+            for (final Pipe<T> source: this.sources)
+                iterators.add(source.iterator());
+            final Iterator<T> merged = Pipe.mergeSortedIterators(iterators, this.comparator);
+            if (!this.isDistinct)
+                return merged;
+            return new Iterator<T>() {
+                private T previous;
+                private boolean isPreviousSet = false;
+                private boolean isPending     = false;
+
+                @Override public boolean hasNext() {
+                    while (!this.isPending && merged.hasNext()) {
+                        final T value = merged.next();
+                        if (this.isPreviousSet && MergeSortedSource.this.comparator.compare(this.previous, value) == 0)
+                            continue;
+                        this.previous      = value;
+                        this.isPreviousSet = true;
+                        this.isPending     = true;
+                    }
+                    return this.isPending;
+                }
+
+                @Override public T next() {
+                    if (!this.hasNext())
+                        throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                    this.isPending = false;
+                    return this.previous;
+                }
+            };
+        }
+
+        @Override public void close() {
+            for (final Pipe<T> source: this.sources)
+                source.close();
+        }
+    }
+
+    /** Fixed-capacity unmodifiable {@link List} view over array, filled by {@link #addAndCheckFull(Object)} &amp; reset by {@link #clear()}. */
+    private static final class Chunk<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] elements;
+        private int size = 0;
+
+        private Chunk(int capacity) {
+            if (capacity <= 0)
+                throw new BuggyCodeException(String.format("[%s] Chunk size must be positive: %d", Pipe.Chunk.class.getName(), capacity));
+            this.elements = new Object[capacity];
+        }
+
+        private boolean addAndCheckFull(T value) {
+            this.elements[this.size++] = value;
+            return this.size == this.elements.length;
+        }
+
+        /** Internal reuse only, the public {@link #clear()} stays unsupported like the other {@link AbstractList} mutators. */
+        private void reset() {
+            Arrays.fill(this.elements, 0, this.size, null); // Don't retain consumed elements
+            this.size = 0;
+        }
+
+        @Override public void clear() {
+            throw new UnsupportedOperationException("Chunk is unmodifiable");
+        }
+
+        @SuppressWarnings("unchecked") // Only T is ever stored
+        @Override public T get(int index) {
+            if (index < 0 || index >= this.size)
+                throw new IndexOutOfBoundsException(String.format("Chunk index %d out of bounds for size %d", index, this.size));
+            return (T) this.elements[index];
+        }
+
+        @Override public int size() {
+            return this.size;
+        }
+    }
+
+    /** Barrier source for {@link Pipe#chunk(int)} &amp; {@link Pipe#chunkReusing(int)}, flushing the last partial chunk at upstream end. */
+    private record ChunkSource<T>(Pipe.Chain<?,T> upstream, int chunkSize, boolean isReusing) implements Pipe.Source<List<T>> {
+        @Override public boolean pushAll(Pipe.Sink<? super List<T>> sink) {
+            final var state = new Object() { Pipe.Chunk<T> chunk = new Pipe.Chunk<>(ChunkSource.this.chunkSize); boolean isDownstreamOpen = true; };
+            final boolean isUpstreamExhausted = this.upstream.pushAll(value -> {
+                if (!state.chunk.addAndCheckFull(value))
+                    return true;
+                state.isDownstreamOpen = sink.push(state.chunk);
+                state.chunk            = this.nextChunk(state.chunk);
+                return state.isDownstreamOpen;
+            });
+            // Upstream stopped by its own limit()/keepWhile() still ends normally here, only downstream stopping drops the partial chunk
+            if (!state.isDownstreamOpen || state.chunk.isEmpty())
+                return isUpstreamExhausted;
+            return sink.push(state.chunk) && isUpstreamExhausted;
+        }
+
+        @Override public void close() {
+            this.upstream.close();
+        }
+
+        @Override public Iterator<List<T>> pull() {
+            final Iterator<T> source = this.upstream.pull();
+            return new Iterator<List<T>>() {
+                private Pipe.Chunk<T> chunk = new Pipe.Chunk<>(ChunkSource.this.chunkSize);
+
+                @Override public boolean hasNext() {
+                    return source.hasNext();
+                }
+
+                @Override public List<T> next() {
+                    if (!this.hasNext())
+                        throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                    this.chunk = ChunkSource.this.nextChunk(this.chunk);
+                    while (source.hasNext() && !this.chunk.addAndCheckFull(source.next()))
+                        continue;
+                    return this.chunk;
+                }
+            };
+        }
+
+        private Pipe.Chunk<T> nextChunk(Pipe.Chunk<T> previous) {
+            if (!this.isReusing)
+                return previous.isEmpty() ? previous : new Pipe.Chunk<>(this.chunkSize);
+            previous.reset();
+            return previous;
+        }
+    }
+
+    /** Barrier source for {@link Pipe#mapConcurrent(int, Function)} &amp; {@link Pipe#mapConcurrentUnordered(int, Function)}. */
+    private static final class ConcurrentMapSource<T,R> implements Pipe.Source<Faulty<R,RuntimeException>> {
+        private final Pipe.Chain<?,T> upstream;
+        private final int maxConcurrency;
+        private final Function<? super T,? extends R> mapper;
+        private final boolean isOrdered;
+        private final Set<FutureTask<?>> running = ConcurrentHashMap.newKeySet(); // Shared with close() & Cleaner, unlike consumer-owned InFlight
+        private volatile boolean isCancelled     = false;
+
+        private ConcurrentMapSource(Pipe.Chain<?,T> upstream, int maxConcurrency, Function<? super T,? extends R> mapper, boolean isOrdered) {
+            if (maxConcurrency <= 0)
+                throw new BuggyCodeException(String.format("[%s] Max concurrency must be positive: %d", Pipe.ConcurrentMapSource.class.getName(), maxConcurrency));
+            this.upstream       = upstream;
+            this.maxConcurrency = maxConcurrency;
+            this.mapper         = mapper;
+            this.isOrdered      = isOrdered;
+        }
+
+        @Override public boolean pushAll(Pipe.Sink<? super Faulty<R,RuntimeException>> sink) {
+            final var results = new InFlight();
+            try {
+                while (results.hasNext())
+                    if (!sink.push(results.next()))
+                        return false;
+                return true;
+            } finally {
+                results.cancel();
+            }
+        }
+
+        /** Interrupt all in-flight mapper before releasing upstream. */
+        @Override public void close() {
+            this.cancelAll();
+            this.upstream.close();
+        }
+
+        @Override public Iterator<Faulty<R,RuntimeException>> pull() {
+            final var results = new InFlight();
+            Pipe.registerCleanup(results, this::cancelAll); // Abandoned iterator: Interrupt in-flight mapper
+            return results;
+        }
+
+        /** Static context on purpose: Task must not reference {@link InFlight}, otherwise {@link #running} (reachable from {@link Cleaner}) keeps an abandoned iterator alive forever. */
+        private static <V> FutureTask<V> newTask(Callable<V> work, Set<FutureTask<?>> running, Nilable<Queue<FutureTask<V>>> completions) {
+            final var task = new FutureTask<V>(work) {
+                @Override protected void done() {
+                    running.remove(this);
+                    completions.peek(queue -> queue.add(this));
+                }
+            };
+            running.add(task);
+            return task;
+        }
+
+        /** Idempotent, callable from any thread. Task submitted afterward is cancelled right away. */
+        private void cancelAll() {
+            this.isCancelled = true;
+            for (final FutureTask<?> task: this.running)
+                task.cancel(true);
+        }
+
+        /** Bounded in-flight window. Ordered mode awaits the oldest task, unordered mode awaits whichever task completes first. */
+        private final class InFlight implements Iterator<Faulty<R,RuntimeException>> {
+            private final Iterator<T> source = ConcurrentMapSource.this.upstream.pull();
+            private final ArrayDeque<FutureTask<Faulty<R,RuntimeException>>> tasks                 = new ArrayDeque<>();
+            private final LinkedBlockingQueue<FutureTask<Faulty<R,RuntimeException>>> completions = new LinkedBlockingQueue<>();
+
+            @Override public boolean hasNext() {
+                if (ConcurrentMapSource.this.isCancelled)
+                    return false;
+                while (this.tasks.size() < ConcurrentMapSource.this.maxConcurrency && this.source.hasNext())
+                    this.submit(this.source.next());
+                return !this.tasks.isEmpty();
+            }
+
+            @Override public Faulty<R,RuntimeException> next() {
+                if (!this.hasNext())
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                try {
+                    final FutureTask<Faulty<R,RuntimeException>> task = ConcurrentMapSource.this.isOrdered ? this.tasks.poll() : this.completions.take();
+                    if (!ConcurrentMapSource.this.isOrdered)
+                        this.tasks.remove(task);
+                    return task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.cancel();
+                    throw (CancellationException) new CancellationException("Interrupted while awaiting Pipe.mapConcurrent() result").initCause(e);
+                } catch (ExecutionException e) {
+                    this.cancel();
+                    // Mapper RuntimeException is already captured as Faulty, only Error can reach here
+                    if (e.getCause() instanceof Error error)
+                        throw error;
+                    throw new BuggyCodeException("Pipe.mapConcurrent() task failed outside Faulty capture", e.getCause());
+                }
+            }
+
+            private void submit(T value) {
+                final Function<? super T,? extends R> mapper = ConcurrentMapSource.this.mapper;
+                final FutureTask<Faulty<R,RuntimeException>> task = ConcurrentMapSource.newTask(
+                    () -> Faulty.<R>fromCatch(() -> mapper.apply(value)),
+                    ConcurrentMapSource.this.running,
+                    ConcurrentMapSource.this.isOrdered ? Nilable.empty() : Nilable.of(this.completions)
+                );
+                this.tasks.add(task);
+                if (ConcurrentMapSource.this.isCancelled) // Raced with cancelAll(), which might have missed this task
+                    task.cancel(true);
+                Thread.ofVirtual().name("pipe-map-concurrent").start(task);
+            }
+
+            private void cancel() {
+                ConcurrentMapSource.this.cancelAll();
+                this.tasks.clear();
+            }
+        }
+    }
+
+    /** Barrier source for {@link Pipe#buffered(int)}. */
+    private static final class BufferedSource<T> implements Pipe.Source<T> {
+        private final Pipe.Chain<?,T> upstream;
+        private final int capacity;
+        private volatile Pipe.SpscRing<T> startedRing = null;
+
+        private BufferedSource(Pipe.Chain<?,T> upstream, int capacity) {
+            if (capacity <= 0 || capacity > (1 << 30))
+                throw new BuggyCodeException(String.format("[%s] Buffer capacity must be within (0, 2^30]: %d", Pipe.BufferedSource.class.getName(), capacity));
+            this.upstream = upstream;
+            this.capacity = capacity;
+        }
+
+        @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+            final var ring = this.startProducer();
+            try {
+                while (ring.awaitAvailable())
+                    if (!sink.push(ring.take()))
+                        return false;
+                return true;
+            } finally {
+                ring.cancel();
+            }
+        }
+
+        /** Stop the producer thread (if started) before releasing upstream. */
+        @Override public void close() {
+            final Pipe.SpscRing<T> ring = this.startedRing;
+            if (ring != null)
+                ring.cancel();
+            this.upstream.close();
+        }
+
+        @Override public Iterator<T> pull() {
+            return new Iterator<T>() {
+                private Pipe.SpscRing<T> ring;
+
+                @Override public boolean hasNext() {
+                    if (this.ring == null) {
+                        this.ring = BufferedSource.this.startProducer();
+                        Pipe.registerCleanup(this, this.ring::cancel); // Abandoned iterator: Wake & stop the parked producer
+                    }
+                    return this.ring.awaitAvailable();
+                }
+
+                @Override public T next() {
+                    if (!this.hasNext())
+                        throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                    return this.ring.take();
+                }
+            };
+        }
+
+        private Pipe.SpscRing<T> startProducer() {
+            final var ring = new Pipe.SpscRing<T>(this.capacity);
+            this.startedRing = ring;
+            Thread.ofVirtual().name("pipe-buffered-producer").start(() -> {
+                try {
+                    this.upstream.pushAll(ring::offerUnlessCancelled);
+                } catch (Throwable e) {
+                    ring.failure = e;
+                } finally {
+                    ring.finishProducer();
+                }
+            });
+            return ring;
+        }
+    }
+
+    /** Bounded lock-free single-producer single-consumer ring buffer: Each index is written by only 1 side, published with volatile write.<br/>
+      * Waiting side spins, then yields, then parks until the other side signals (publish, consume, cancel or producer done), so an idle side costs no CPU. */
+    private static final class SpscRing<T> {
+        private static final int SPIN_LIMIT  = 128;
+        private static final int YIELD_LIMIT = 256;
+
+        private final Object[] slots;
+        private final int mask;
+        private final AtomicLong head = new AtomicLong(); // Next read index, written by consumer only
+        private final AtomicLong tail = new AtomicLong(); // Next write index, written by producer only
+        private volatile boolean isProducerDone = false;
+        private volatile boolean isCancelled    = false;
+        private volatile Throwable failure      = null;
+        private volatile Thread parkedProducer  = null;
+        private volatile Thread parkedConsumer  = null;
+
+        private SpscRing(int capacity) {
+            this.slots = new Object[1 << (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1))];
+            this.mask  = this.slots.length - 1;
+        }
+
+        /** Producer side. @return {@code false} once consumer cancelled */
+        private boolean offerUnlessCancelled(T value) {
+            final long currentTail = this.tail.getPlain();
+            for (int attempt = 0; this.isFull(currentTail); ++attempt) {
+                if (this.isCancelled)
+                    return false;
+                if (attempt < SpscRing.YIELD_LIMIT) {
+                    Pipe.SpscRing.backoff(attempt);
+                    continue;
+                }
+                this.parkedProducer = Thread.currentThread();
+                if (this.isFull(currentTail) && !this.isCancelled) // Re-check after announcing, consumer reads parkedProducer after its volatile head write
+                    LockSupport.park(this);
+                this.parkedProducer = null;
+            }
+            this.slots[(int) currentTail & this.mask] = value;
+            this.tail.set(currentTail + 1); // Volatile, ordered before reading parkedConsumer
+            SpscRing.unpark(this.parkedConsumer);
+            return !this.isCancelled;
+        }
+
+        private void finishProducer() {
+            this.isProducerDone = true;
+            SpscRing.unpark(this.parkedConsumer);
+        }
+
+        /** Consumer side: Block until an element is available or producer is done. Rethrow producer failure after the last buffered element. */
+        private boolean awaitAvailable() {
+            for (int attempt = 0; ; ++attempt) {
+                if (this.head.getPlain() != this.tail.get())
+                    return true;
+                if (this.isProducerDone) {
+                    if (this.head.getPlain() != this.tail.get()) // Published right before done flag
+                        return true;
+                    final Throwable failure = this.failure;
+                    if (failure instanceof RuntimeException e)
+                        throw e;
+                    if (failure instanceof Error e)
+                        throw e;
+                    if (failure != null)
+                        throw new BuggyCodeException("Pipe.buffered() upstream throws undeclared checked exception", failure);
+                    return false;
+                }
+                if (attempt < SpscRing.YIELD_LIMIT) {
+                    Pipe.SpscRing.backoff(attempt);
+                    continue;
+                }
+                this.parkedConsumer = Thread.currentThread();
+                if (this.head.getPlain() == this.tail.get() && !this.isProducerDone) // Re-check after announcing, producer reads parkedConsumer after its volatile tail write
+                    LockSupport.park(this);
+                this.parkedConsumer = null;
+            }
+        }
+
+        @SuppressWarnings("unchecked") // Only T is ever offered
+        private T take() {
+            final long currentHead = this.head.getPlain();
+            final int idx          = (int) currentHead & this.mask;
+            final T value          = (T) this.slots[idx];
+            this.slots[idx] = null;
+            this.head.set(currentHead + 1); // Volatile, ordered before reading parkedProducer
+            SpscRing.unpark(this.parkedProducer);
+            return value;
+        }
+
+        /** Idempotent, callable from any thread (including {@link Cleaner}). */
+        private void cancel() {
+            this.isCancelled = true;
+            SpscRing.unpark(this.parkedProducer);
+        }
+
+        private boolean isFull(long currentTail) {
+            return currentTail - this.head.get() == this.slots.length;
+        }
+
+        private static void unpark(Thread parked) {
+            if (parked != null)
+                LockSupport.unpark(parked);
+        }
+
+        private static void backoff(int attempt) {
+            if (attempt < SpscRing.SPIN_LIMIT)
+                Thread.onSpinWait();
+            else
+                Thread.yield();
+        }
+    }
+
+    /** Source for {@link Pipe#fromFileLines(Path)}, {@link Pipe#fromFileRecords(Path, byte)} &amp; {@link Pipe#fromFixedWidthRecords(Path, int)}.<br/>
+      * Record view is a slice of the current window, window slides forward (remapped at record start) once exhausted. Record larger than window grows the window.<br/>
+      * Views stay valid after sliding since each mapping lives until its last view is collected, {@link FileChannel} is closed on exhaustion, push-mode end, {@link #close()} or abandonment. */
+    private static final class MappedFileSource<T> implements Pipe.Source<T> {
+        private static final long WINDOW_SIZE = 1L << 26; // 64 MiB, bounds address space per window instead of mapping whole file
+        private final Path file;
+        private final byte delimiter;
+        private final int recordWidth; // 0 for delimited record
+        private final Function<ByteBuffer,? extends T> viewer;
+        private final Pipe.MappedFileSource.Handle handle = new Pipe.MappedFileSource.Handle();
+
+        private MappedFileSource(Path file, byte delimiter, int recordWidth, Function<ByteBuffer,? extends T> viewer) {
+            this.file        = file;
+            this.delimiter   = delimiter;
+            this.recordWidth = recordWidth;
+            this.viewer      = viewer;
+        }
+
+        @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+            try {
+                final var records = new Pipe.MappedFileSource<T>.RecordReader();
+                while (records.hasNext())
+                    if (!sink.push(this.viewer.apply(records.next())))
+                        return false;
+                return true;
+            } finally {
+                this.handle.close();
+            }
+        }
+
+        @Override public Iterator<T> pull() {
+            final var records = new Pipe.MappedFileSource<T>.RecordReader();
+            Pipe.registerCleanup(records, this.handle::close);
+            return new Iterator<T>() {
+                @Override public boolean hasNext() {
+                    return records.hasNext();
+                }
+
+                @Override public T next() {
+                    return MappedFileSource.this.viewer.apply(records.next());
+                }
+            };
+        }
+
+        @Override public void close() {
+            this.handle.close();
+        }
+
+        private static CharSequence toLine(ByteBuffer record) {
+            int length = record.limit();
+            if (length > 0 && record.get(length - 1) == '\r')
+                --length;
+            for (int i = 0; i < length; ++i)
+                if (record.get(i) < 0) // Non-ASCII byte: Multi-byte UTF-8 sequence can't be viewed 1 byte per char
+                    return StandardCharsets.UTF_8.decode(record.slice(0, length)).toString();
+            return new Pipe.AsciiView(record.slice(0, length));
+        }
+
+        /** Opened channel holder, separated from the source so {@link Cleaner} action doesn't keep the reader reachable. */
+        private static final class Handle {
+            private FileChannel channel;
+            private boolean isClosed = false;
+
+            private synchronized FileChannel open(Path file) throws IOException {
+                if (this.isClosed)
+                    throw new IOException("Mapped file source is already closed: " + file);
+                if (this.channel == null)
+                    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+                return this.channel;
+            }
+
+            private synchronized void close() {
+                this.isClosed = true;
+                if (this.channel == null)
+                    return;
+                try {
+                    this.channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to close mapped file", e);
+                } finally {
+                    this.channel = null;
+                }
+            }
+        }
+
+        private final class RecordReader implements Iterator<ByteBuffer> {
+            private FileChannel channel;
+            private long fileSize;
+            private long position = 0;
+            private MappedByteBuffer window;
+            private long windowStart = 0;
+            private ByteBuffer pending;
+
+            @Override public boolean hasNext() {
+                if (this.pending != null)
+                    return true;
+                try {
+                    if (this.channel == null) {
+                        this.channel  = MappedFileSource.this.handle.open(MappedFileSource.this.file);
+                        this.fileSize = this.channel.size();
+                        if (MappedFileSource.this.recordWidth > 0 && this.fileSize % MappedFileSource.this.recordWidth != 0)
+                            throw new IOException(String.format("File size %d is not a multiple of record width %d: %s", this.fileSize, MappedFileSource.this.recordWidth, MappedFileSource.this.file));
+                    }
+                    if (this.position >= this.fileSize) {
+                        MappedFileSource.this.handle.close();
+                        return false;
+                    }
+                    this.pending = MappedFileSource.this.recordWidth > 0 ? this.readFixedWidth() : this.readDelimited();
+                    return true;
+                } catch (IOException e) {
+                    MappedFileSource.this.handle.close();
+                    throw new UncheckedIOException("Failed to read mapped file", e);
+                }
+            }
+
+            @Override public ByteBuffer next() {
+                if (!this.hasNext())
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                final ByteBuffer record = this.pending;
+                this.pending = null;
+                return record;
+            }
+
+            private ByteBuffer readFixedWidth() throws IOException {
+                final int width = MappedFileSource.this.recordWidth;
+                if (this.window == null || this.position >= this.windowStart + this.window.limit())
+                    this.map(Math.max(1, MappedFileSource.WINDOW_SIZE / width) * width);
+                final int from = (int) (this.position - this.windowStart);
+                this.position += width;
+                return this.window.slice(from, width);
+            }
+
+            private ByteBuffer readDelimited() throws IOException {
+                long windowSize = MappedFileSource.WINDOW_SIZE;
+                if (this.window == null || this.position >= this.windowStart + this.window.limit())
+                    this.map(windowSize);
+                for (;;) {
+                    final int from  = (int) (this.position - this.windowStart);
+                    final int limit = this.window.limit();
+                    int end = from;
+                    while (end < limit && this.window.get(end) != MappedFileSource.this.delimiter)
+                        ++end;
+                    if (end < limit || this.windowStart + limit == this.fileSize) {
+                        this.position = this.windowStart + end + 1; // Past delimiter, or past file end for unterminated last record
+                        return this.window.slice(from, end - from);
+                    }
+                    // Record crosses window end: Remap at record start, growing only if the record alone exceeds the window
+                    if (from == 0)
+                        windowSize <<= 1;
+                    if (windowSize > Integer.MAX_VALUE)
+                        throw new IOException("Record exceeds 2 GiB mapping limit at offset " + this.position + ": " + MappedFileSource.this.file);
+                    this.map(windowSize);
+                }
+            }
+
+            private void map(long windowSize) throws IOException {
+                this.windowStart = this.position;
+                this.window      = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, Math.min(windowSize, this.fileSize - this.position));
+            }
+        }
+    }
+
+    /** Zero-copy {@link CharSequence} over ASCII bytes, 1 byte per {@code char}. */
+    private static final class AsciiView implements CharSequence {
+        private final ByteBuffer bytes;
+
+        private AsciiView(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override public int length() {
+            return this.bytes.limit();
+        }
+
+        @Override public char charAt(int index) {
+            return (char) this.bytes.get(index);
+        }
+
+        @Override public CharSequence subSequence(int start, int end) {
+            return new Pipe.AsciiView(this.bytes.slice(start, end - start));
+        }
+
+        @Override public boolean equals(Object other) {
+            return other instanceof Pipe.AsciiView view && this.bytes.equals(view.bytes);
+        }
+
+        @Override public int hashCode() {
+            int hash = 0; // Same polynomial as String, 1 byte per char
+            for (int i = 0; i < this.bytes.limit(); ++i)
+                hash = 31*hash + this.bytes.get(i);
+            return hash;
+        }
+
+        @Override public String toString() {
+            final byte[] copy = new byte[this.bytes.limit()];
+            this.bytes.get(0, copy);
+            return new String(copy, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /** Barrier source for {@link Pipe#sorted(Comparator)}, optionally fused with {@link Pipe#limit(long)} or spilled to disk. */
+    private record SortedSource<T>(Pipe.Chain<?,T> upstream, Comparator<T> comparator, long limit, Nilable<Spill.Policy<T>> spillPolicy, Pipe.SortedSource.Spilled spilled) implements Pipe.Source<T> {
+        /** Upper bound of simultaneously opened run files, more runs than this get merged in multiple passes. */
+        private static final int MAX_MERGE_FAN_IN = 64;
+
+        private SortedSource(Pipe.Chain<?,T> upstream, Comparator<T> comparator, long limit, Nilable<Spill.Policy<T>> spillPolicy) {
+            this(upstream, comparator, limit, spillPolicy, new Pipe.SortedSource.Spilled());
+        }
+
+        @Override public boolean pushAll(Pipe.Sink<? super T> sink) {
+            try {
+                final Iterator<T> sorted = this.drainSorted();
+                while (sorted.hasNext())
+                    if (!sink.push(sorted.next()))
+                        return false;
+                return true;
+            } finally {
+                this.spilled.release();
+            }
+        }
+
+        /** Also releases run files still held by a partially pulled merge. */
+        @Override public void close() {
+            try {
+                this.spilled.release();
+            } finally {
+                this.upstream.close();
+            }
+        }
+
+        @Override public Iterator<T> pull() {
+            return new Iterator<T>() {
+                private Iterator<T> sorted;
+
+                @Override public boolean hasNext() {
+                    if (this.sorted == null) {
+                        this.sorted = SortedSource.this.drainSorted();
+                        Pipe.registerCleanup(this, SortedSource.this.spilled::release); // Abandoned iterator: Delete run files
+                    }
+                    return this.sorted.hasNext();
+                }
+
+                @Override public T next() {
+                    if (this.hasNext())
+                        return this.sorted.next();
+                    throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                }
+            };
+        }
+
+        private Iterator<T> drainSorted() {
+            if (this.limit != Long.MAX_VALUE)
+                return this.drainTopK().iterator();
+            if (this.spillPolicy instanceof Nilable.Has(final Spill.Policy<T> policy))
+                return this.drainExternalMergeSort(policy);
+            final var elements = new ArrayList<T>();
+            this.upstream.pushAll(elements::add);
+            elements.sort(this.comparator);
+            return elements.iterator();
+        }
+
+        private Iterator<T> drainExternalMergeSort(Spill.Policy<T> policy) {
+            final var runs   = new ArrayList<Spill.Run<T>>();
+            final var buffer = new ArrayList<T>();
+            try {
+                this.upstream.pushAll(value -> {
+                    buffer.add(value);
+                    if (buffer.size() >= policy.maxElementsInMemory()) {
+                        buffer.sort(this.comparator);
+                        runs.add(Spill.writeRun(policy, buffer.iterator()));
+                        buffer.clear();
+                    }
+                    return true;
+                });
+                buffer.sort(this.comparator);
+                if (runs.isEmpty())
+                    return buffer.iterator();
+
+                // Multi-pass: Merge consecutive groups of runs, consecutive grouping keeps tie order stable
+                while (runs.size() > SortedSource.MAX_MERGE_FAN_IN) {
+                    final var mergedRuns = new ArrayList<Spill.Run<T>>();
+                    try {
+                        for (int start = 0; start < runs.size(); start += SortedSource.MAX_MERGE_FAN_IN) {
+                            final List<Spill.Run<T>> group = runs.subList(start, Math.min(start + SortedSource.MAX_MERGE_FAN_IN, runs.size()));
+                            mergedRuns.add(Spill.writeRun(policy, Pipe.mergeSortedIterators(group.stream().map(Spill.Run::read).toList(), this.comparator)));
+                        }
+                    } catch (RuntimeException e) {
+                        Spill.closeAll(mergedRuns);
+                        throw e;
+                    }
+                    runs.clear();
+                    runs.addAll(mergedRuns);
+                }
+            } catch (RuntimeException e) {
+                Spill.closeAll(runs);
+                throw e;
+            }
+            final var sources = new ArrayList<Iterator<T>>(runs.size() + 1);
+            for (final Spill.Run<T> run: runs)
+                sources.add(run.read());
+            sources.add(buffer.iterator()); // In-memory tail is the latest run in encounter order
+            this.spilled.hold(runs);
+            return Pipe.mergeSortedIterators(sources, this.comparator);
+        }
+
+        /** Run files owned by a lazy merge, released early if downstream stops before exhaustion or the source gets closed.<br/>
+          * Separated from the pull iterator so {@link Cleaner} action doesn't keep it reachable. */
+        private static final class Spilled {
+            private List<? extends Spill.Run<?>> runs = List.of();
+
+            private synchronized void hold(List<? extends Spill.Run<?>> runs) {
+                this.runs = runs;
+            }
+
+            private synchronized void release() {
+                try {
+                    Spill.closeAll(this.runs);
+                } finally {
+                    this.runs = List.of();
+                }
+            }
+        }
+
+        private List<T> drainTopK() {
+            // Max-heap of current best k, root is the worst kept element. Arrival sequence keeps it stable on ties
+            record Ranked<T>(T value, long sequence) {}
+            final Comparator<Ranked<T>> ranking = Comparator.<Ranked<T>,T>comparing(Ranked::value, this.comparator).thenComparingLong(Ranked::sequence);
+            final var heap     = new PriorityQueue<Ranked<T>>((int) Math.min(this.limit, 1024), ranking.reversed());
+            final var sequence = new Object() { long value = 0; };
+            this.upstream.pushAll(value -> {
+                if (heap.size() < this.limit)
+                    heap.add(new Ranked<>(value, sequence.value));
+                else if (this.comparator.compare(value, heap.peek().value()) < 0) {
+                    heap.poll();
+                    heap.add(new Ranked<>(value, sequence.value));
+                }
+                ++sequence.value;
+                return true;
+            });
+            final var elements = new ArrayList<T>(heap.size());
+            while (!heap.isEmpty())
+                elements.add(heap.poll().value());
+            Collections.reverse(elements);
+            return elements;
+        }
+    }
+
+    /** Fork/join reduction: Split until {@code leafSize}, wrap fresh sink chain per leaf, then combine partial results in encounter order. */
+    @SuppressWarnings("serial") // Serializable only by inheritance from ForkJoinTask, never serialized
+    private static final class SplitTask<S,T,A> extends RecursiveTask<A> {
+        private final Spliterator<S> spliterator;
+        private final Pipe.Stage<S,T> stage;
+        private final Terminal.Accumulator<T,A,?> accumulator;
+        private final long leafSize;
+
+        private SplitTask(Spliterator<S> spliterator, Pipe.Stage<S,T> stage, Terminal.Accumulator<T,A,?> accumulator, long leafSize) {
+            this.spliterator = spliterator;
+            this.stage       = stage;
+            this.accumulator = accumulator;
+            this.leafSize    = leafSize;
+        }
+
+        @Override
+        protected A compute() {
+            final boolean isSplittable = !this.spliterator.hasCharacteristics(Spliterator.SIZED) || this.spliterator.estimateSize() > this.leafSize;
+            final Spliterator<S> prefix = isSplittable ? this.spliterator.trySplit() : null;
+            if (prefix != null) {
+                final var leftTask = new Pipe.SplitTask<>(prefix, this.stage, this.accumulator, this.leafSize).fork();
+                final A right      = new Pipe.SplitTask<>(this.spliterator, this.stage, this.accumulator, this.leafSize).compute();
+                return this.accumulator.combine(leftTask.join(), right);
+            }
+            final A partial = this.accumulator.initialize();
+            if (!this.accumulator.isDone(partial))
+                Pipe.pushAllFrom(this.spliterator, this.stage.wrap(value -> {
+                    this.accumulator.accumulate(partial, value);
+                    return !this.accumulator.isDone(partial);
+                }));
+            return partial;
+        }
+    }
+
+    /** {@link Iterable} handed to {@link Terminal}: {@link #forEach(Consumer)} drives push-mode, {@link #iterator()} falls back to pull-mode. */
+    private record OneTimeProducer<T>(Pipe.Chain<?,T> chain) implements Iterable<T> {
+        @Override public Iterator<T> iterator() {
+            return this.chain.pull();
+        }
+
+        @Override public void forEach(Consumer<? super T> action) {
+            this.chain.pushAll(value -> {
+                action.accept(value);
+                return true;
+            });
+        }
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+
+
+/** Namespace for opt-in {@link Pipe} stage metrics, recorded by {@link Pipe#instrumented(String)}.<br/>
+  * Disabled by default (enable with {@link #setEnabled(boolean)} or {@code -Dpipe.metrics=true}). While disabled, {@link Pipe#instrumented(String)} returns the same {@link Pipe}, adding no stage at all.<br/>
+  * Metrics are cumulative per stage name across all {@link Pipe} runs, readable through {@link #snapshot()} &amp; published as periodic JDK Flight Recorder event {@code functionals.PipeStage}. */
+public enum PipeMetrics { ;
+    private static volatile boolean isEnabled = Boolean.getBoolean("pipe.metrics");
+    private static final ConcurrentHashMap<String,PipeMetrics.Segment> SEGMENTS = new ConcurrentHashMap<>();
+
+    static {
+        FlightRecorder.addPeriodicEvent(PipeMetrics.StageEvent.class, PipeMetrics::emitStageEvents);
+    }
+
+    /** Cumulative metrics of 1 named stage segment.
+      * @param name Name given to {@link Pipe#instrumented(String)}
+      * @param elementsIn Element count entering the segment
+      * @param elementsOut Element count leaving the segment
+      * @param nanos Time spent inside the segment only, excluding stages after it */
+    public record StageSnapshot(String name, long elementsIn, long elementsOut, long nanos) {
+        /** @return Fraction of elements passing through, {@code NaN} if nothing entered */
+        public double selectivity() {
+            return this.elementsIn == 0 ? Double.NaN : (double) this.elementsOut / this.elementsIn;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return PipeMetrics.isEnabled;
+    }
+
+    /** Only affects {@link Pipe} built afterward, already built {@link Pipe} keeps its instrumentation. */
+    public static void setEnabled(boolean isEnabled) {
+        PipeMetrics.isEnabled = isEnabled;
+    }
+
+    /** @return All recorded stage segments, ordered by name */
+    public static List<PipeMetrics.StageSnapshot> snapshot() {
+        final List<PipeMetrics.StageSnapshot> snapshots = new ArrayList<>(PipeMetrics.SEGMENTS.size());
+        PipeMetrics.SEGMENTS.forEach((name, segment) -> snapshots.add(segment.snapshot(name)));
+        snapshots.sort(Comparator.comparing(PipeMetrics.StageSnapshot::name));
+        return snapshots;
+    }
+
+    public static Nilable<PipeMetrics.StageSnapshot> snapshot(String name) {
+        return Nilable.of(PipeMetrics.SEGMENTS.get(name)).map(segment -> segment.snapshot(name));
+    }
+
+    /** Forget all recorded metrics, stage running concurrently starts a fresh record. */
+    public static void reset() {
+        PipeMetrics.SEGMENTS.clear();
+    }
+
+
+
+    // ---------------------------------------- Internal ----------------------------------------
+    /** Package-private: Segment boundary created by {@link Pipe#instrumented(String)}, ending the segment before it &amp; starting the one after it.<br/>
+      * Segment exclusive time = boundary-to-end time measured at its start - boundary-to-end time measured at its end. */
+    static final class Marker {
+        private final PipeMetrics.Segment ending; // null for source boundary
+        private volatile PipeMetrics.Segment starting;
+
+        private Marker(PipeMetrics.Segment ending) {
+            this.ending = ending;
+        }
+
+        /** Source boundary, implicitly placed before the first instrumented segment of a chain. */
+        static PipeMetrics.Marker ofSource() {
+            return new PipeMetrics.Marker(null);
+        }
+
+        /** End boundary of segment {@code name}, linking it as the segment started by {@code previous}. */
+        static PipeMetrics.Marker ofSegmentEnd(PipeMetrics.Marker previous, String name) {
+            final var segment = PipeMetrics.SEGMENTS.computeIfAbsent(name, __ -> new PipeMetrics.Segment());
+            previous.starting = segment;
+            return new PipeMetrics.Marker(segment);
+        }
+
+        <T> Pipe.Sink<T> wrap(Pipe.Sink<? super T> downstream) {
+            final PipeMetrics.Segment starting = this.starting;
+            final PipeMetrics.Segment ending   = this.ending;
+            return value -> {
+                final long startNanos    = System.nanoTime();
+                final boolean isOpen     = downstream.push(value);
+                final long downstreamNanos = System.nanoTime() - startNanos;
+                if (ending != null) {
+                    ending.elementsOut.increment();
+                    ending.nanos.add(-downstreamNanos);
+                }
+                if (starting != null) {
+                    starting.elementsIn.increment();
+                    starting.nanos.add(downstreamNanos);
+                }
+                return isOpen;
+            };
+        }
+    }
+
+    private static final class Segment {
+        private final LongAdder elementsIn  = new LongAdder();
+        private final LongAdder elementsOut = new LongAdder();
+        private final LongAdder nanos       = new LongAdder();
+
+        private PipeMetrics.StageSnapshot snapshot(String name) {
+            return new PipeMetrics.StageSnapshot(name, this.elementsIn.sum(), this.elementsOut.sum(), Math.max(0, this.nanos.sum()));
+        }
+    }
+
+    private static void emitStageEvents() {
+        for (final PipeMetrics.StageSnapshot snapshot: PipeMetrics.snapshot()) {
+            final var event = new PipeMetrics.StageEvent();
+            event.stageName   = snapshot.name();
+            event.elementsIn  = snapshot.elementsIn();
+            event.elementsOut = snapshot.elementsOut();
+            event.nanos       = snapshot.nanos();
+            event.commit();
+        }
+    }
+
+    @Name("functionals.PipeStage")
+    @Label("Pipe Stage")
+    @Category({ "Functionals", "Pipe" })
+    @Description("Cumulative metrics of an instrumented Pipe stage segment")
+    @Period("1 s")
+    @StackTrace(false)
+    private static final class StageEvent extends Event {
+        @Label("Stage Name") String stageName;
+        @Label("Elements In") long elementsIn;
+        @Label("Elements Out") long elementsOut;
+        @Label("Exclusive Time") @Timespan(Timespan.NANOSECONDS) long nanos;
+    }
+}
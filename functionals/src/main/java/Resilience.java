@@ -0,0 +1,255 @@
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/** Namespace for hedged &amp; retried execution of {@link Faulty}-returning calls, built on {@link FaultyFuture} (every attempt runs on its own virtual thread).<br/>
+  * Hedging: If an attempt is still running after {@link Resilience.Hedge} delay, launch 1 backup attempt, take the first {@link Faulty.Ok} &amp; cancel the other.<br/>
+  * Retry: On {@link Faulty.Error}, sleep a full-jitter exponential backoff then try again, bounded by {@link Resilience.Policy#maxAttempts()} &amp; shared {@link Resilience.RetryBudget}.<br/><br/>
+  *
+  * Caller blocks until the final outcome, cheap on virtual thread. Interrupting the caller cancels in-flight attempts &amp; throws {@link CancellationException}. */
+public enum Resilience { ;
+    /** Outcome with attempt metadata, used on both {@link Faulty} sides.
+      * @param <V> Value or error type
+      * @param value Final value (or last error)
+      * @param attemptCount Number of retry rounds, 1 means no retry
+      * @param hedgeCount Number of backup attempts launched across all rounds
+      * @param isFromHedge Whether {@code value} came from a backup attempt
+      * @param elapsed Wall-clock duration including backoff sleep */
+    public record Attempted<V>(V value, int attemptCount, int hedgeCount, boolean isFromHedge, Duration elapsed) {}
+
+    /** Execution configuration, immutable &amp; shareable across calls.
+      * @param maxAttempts Maximum retry rounds, 1 disables retry
+      * @param baseBackoff Backoff cap of the 1st retry, doubled each retry
+      * @param maxBackoff Upper bound of backoff cap
+      * @param hedge Hedging trigger, {@link Nilable.Empty} disables hedging
+      * @param budget Shared retry budget, {@link Nilable.Empty} means only {@code maxAttempts} bounds retry */
+    public record Policy(int maxAttempts, Duration baseBackoff, Duration maxBackoff, Nilable<Resilience.Hedge> hedge, Nilable<Resilience.RetryBudget> budget) {
+        public Policy {
+            if (maxAttempts <= 0)
+                throw new BuggyCodeException(String.format("[%s] Attempt count must be positive: %d", Resilience.Policy.class.getName(), maxAttempts));
+            if (baseBackoff.isNegative() || maxBackoff.compareTo(baseBackoff) < 0)
+                throw new BuggyCodeException(String.format("[%s] Invalid backoff range: %s - %s", Resilience.Policy.class.getName(), baseBackoff, maxBackoff));
+        }
+
+        /** No retry, no hedging. Plain {@link FaultyFuture} is cheaper for this, mostly a base for {@code with...} methods. */
+        public static Resilience.Policy ofSingleAttempt() {
+            return new Resilience.Policy(1, Duration.ZERO, Duration.ZERO, Nilable.empty(), Nilable.empty());
+        }
+
+        public static Resilience.Policy ofRetry(int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+            return new Resilience.Policy(maxAttempts, baseBackoff, maxBackoff, Nilable.empty(), Nilable.empty());
+        }
+
+        public Resilience.Policy withHedge(Resilience.Hedge hedge) {
+            return new Resilience.Policy(this.maxAttempts, this.baseBackoff, this.maxBackoff, Nilable.of(hedge), this.budget);
+        }
+
+        public Resilience.Policy withBudget(Resilience.RetryBudget budget) {
+            return new Resilience.Policy(this.maxAttempts, this.baseBackoff, this.maxBackoff, this.hedge, Nilable.of(budget));
+        }
+    }
+
+    /** Hedging trigger: Fixed delay, or observed latency percentile of recent attempts. Thread-safe, share 1 instance per call site. */
+    public static final class Hedge {
+        private static final int WINDOW_SIZE        = 256;
+        private static final int MIN_SAMPLE         = 32;
+        private static final int RECOMPUTE_INTERVAL = 16;
+
+        private final double percentile;
+        private final long minDelayNanos;
+        private final long[] window;
+        private int windowNext = 0;
+        private int windowSize = 0;
+        private int staleCount = 0;
+        private volatile Duration cachedDelay;
+
+        private Hedge(Duration initialDelay, double percentile, Duration minDelay) {
+            this.percentile    = percentile;
+            this.minDelayNanos = minDelay.toNanos();
+            this.window        = new long[percentile > 0 ? Resilience.Hedge.WINDOW_SIZE : 0];
+            this.cachedDelay   = initialDelay;
+        }
+
+        public static Resilience.Hedge afterDelay(Duration delay) {
+            return new Resilience.Hedge(delay, 0, Duration.ZERO);
+        }
+
+        /** Hedge after {@code percentile} (ex: 95.0) of the last 256 completed attempt latencies, {@code warmupDelay} until 32 samples observed.<br/>
+          * Percentile is recomputed every 16 samples &amp; never goes below {@code minDelay}, so fast &amp; stable call site doesn't hedge on noise. */
+        public static Resilience.Hedge afterPercentile(double percentile, Duration warmupDelay, Duration minDelay) {
+            if (!(percentile > 0 && percentile <= 100))
+                throw new BuggyCodeException(String.format("[%s] Percentile must be in (0, 100]: %s", Resilience.Hedge.class.getName(), percentile));
+            return new Resilience.Hedge(warmupDelay, percentile, minDelay);
+        }
+
+        /** Current hedging delay, cached between recomputations. */
+        public Duration delay() {
+            return this.cachedDelay;
+        }
+
+        private synchronized void observe(long latencyNanos) {
+            if (this.window.length == 0)
+                return;
+            this.window[this.windowNext] = latencyNanos;
+            this.windowNext = (this.windowNext + 1) % this.window.length;
+            this.windowSize = Math.min(this.windowSize + 1, this.window.length);
+            if (this.windowSize < Resilience.Hedge.MIN_SAMPLE || ++this.staleCount < Resilience.Hedge.RECOMPUTE_INTERVAL)
+                return;
+            this.staleCount = 0;
+            final long[] sorted = Arrays.copyOf(this.window, this.windowSize);
+            Arrays.sort(sorted);
+            final int rank = (int) Math.ceil(this.percentile / 100 * sorted.length) - 1;
+            this.cachedDelay = Duration.ofNanos(Math.max(sorted[Math.max(rank, 0)], this.minDelayNanos));
+        }
+    }
+
+    /** Token bucket shared across calls, bounding extra load from retries &amp; hedges to a ratio of call volume.<br/>
+      * Every call deposits {@code retryRatio} token, every retry or backup attempt withdraws 1. Starts full. */
+    public static final class RetryBudget {
+        private static final long MILLI = 1_000;
+
+        private final long depositMilli;
+        private final long capacityMilli;
+        private final AtomicLong balanceMilli;
+
+        private RetryBudget(double retryRatio, int maxTokens) {
+            this.depositMilli  = Math.round(retryRatio * RetryBudget.MILLI);
+            this.capacityMilli = maxTokens * RetryBudget.MILLI;
+            this.balanceMilli  = new AtomicLong(this.capacityMilli);
+        }
+
+        /** @param retryRatio Extra attempts per call in steady state, ex: 0.1 allows 10% extra load
+          * @param maxTokens Burst capacity */
+        public static Resilience.RetryBudget of(double retryRatio, int maxTokens) {
+            if (!(retryRatio >= 0) || maxTokens < 0)
+                throw new BuggyCodeException(String.format("[%s] Invalid budget: ratio %s, capacity %d", Resilience.RetryBudget.class.getName(), retryRatio, maxTokens));
+            return new Resilience.RetryBudget(retryRatio, maxTokens);
+        }
+
+        public double availableTokens() {
+            return (double) this.balanceMilli.get() / RetryBudget.MILLI;
+        }
+
+        private void deposit() {
+            this.balanceMilli.accumulateAndGet(this.depositMilli, (balance, deposit) -> Math.min(balance + deposit, this.capacityMilli));
+        }
+
+        private boolean tryWithdraw() {
+            return this.balanceMilli.getAndUpdate(balance -> balance >= RetryBudget.MILLI ? balance - RetryBudget.MILLI : balance) >= RetryBudget.MILLI;
+        }
+    }
+
+
+
+    // ---------------------------------------- Static Functions ----------------------------------------
+    /** Primary entry point: Hedged &amp; retried {@link Faulty#fromCheckedCatch(Class, FunctionalDatas.ThrowingSupplier)}.
+      * @param <T> Any type
+      * @param <E> Checked exception type
+      * @param policy Retry &amp; hedging configuration
+      * @param expectedThrowType Class of {@code E}
+      * @param supplier Idempotent side-effect producer lambda, may run concurrently with itself when hedged
+      * @return Final outcome with attempt metadata, error side carries the last round's error (primary attempt's error if that round got hedged)
+      * @throws CancellationException If the caller is interrupted */
+    public static <T,E extends Exception> Faulty<Resilience.Attempted<T>,Resilience.Attempted<E>> fromCheckedCatch(Resilience.Policy policy, Class<E> expectedThrowType, FunctionalDatas.ThrowingSupplier<T,E> supplier) {
+        final long startNanos = System.nanoTime();
+        final var  counter    = new Object() { int hedgeCount = 0; };
+        policy.budget().peek(Resilience.RetryBudget::deposit);
+        for (int attempt = 1;; ++attempt) {
+            final Faulty<Resilience.Won<T>,E> round = Resilience.runRound(policy, () -> FaultyFuture.fromCheckedCatch(expectedThrowType, supplier), () -> ++counter.hedgeCount);
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+            switch (round) {
+                case Faulty.Ok(Resilience.Won<T>(T value, boolean isFromHedge)) -> {
+                    return Faulty.of(new Resilience.Attempted<>(value, attempt, counter.hedgeCount, isFromHedge, elapsed));
+                }
+                case Faulty.Error(E error) -> {
+                    if (attempt >= policy.maxAttempts() || policy.budget().isHasValue(budget -> !budget.tryWithdraw()))
+                        return Faulty.ofError(new Resilience.Attempted<>(error, attempt, counter.hedgeCount, false, elapsed));
+                    Resilience.sleepBackoff(policy, attempt);
+                }
+            }
+        }
+    }
+
+    /** Unchecked counterpart of {@link #fromCheckedCatch(Resilience.Policy, Class, FunctionalDatas.ThrowingSupplier)}, see {@link Faulty#fromCatch(FunctionalDatas.ThrowingSupplier)}. */
+    public static <T> Faulty<Resilience.Attempted<T>,Resilience.Attempted<RuntimeException>> fromCatch(Resilience.Policy policy, FunctionalDatas.ThrowingSupplier<T,RuntimeException> supplier) {
+        return Resilience.fromCheckedCatch(policy, RuntimeException.class, supplier);
+    }
+
+
+
+    // ---------------------------------------- Internal ----------------------------------------
+    private record Won<T>(T value, boolean isFromHedge) {}
+
+    /** 1 retry round: Primary attempt, plus 1 backup attempt if the primary is still running after hedging delay &amp; budget allows. */
+    private static <T,E> Faulty<Resilience.Won<T>,E> runRound(Resilience.Policy policy, Supplier<FaultyFuture<T,E>> launcher, Runnable onHedge) {
+        final FaultyFuture<Resilience.Won<T>,E> primary = Resilience.launchObserved(policy, launcher, false);
+        if (policy.hedge().isEmpty())
+            return Resilience.await(primary);
+
+        @SuppressWarnings("deprecation") // Guarded by isEmpty() check above
+        final Resilience.Hedge hedge = policy.hedge().zDangerouslyUnwrap("Hedging enabled");
+        if (Resilience.awaitWithin(primary, hedge.delay()) || policy.budget().isHasValue(budget -> !budget.tryWithdraw()))
+            return Resilience.await(primary);
+
+        onHedge.run();
+        final FaultyFuture<Resilience.Won<T>,E> backup = Resilience.launchObserved(policy, launcher, true);
+        return Resilience.await(FaultyFuture.anyOf(List.of(primary, backup))).mapError(errors -> errors.get(0));
+    }
+
+    /** Launch 1 attempt, feeding its latency to percentile-based hedging once completed (cancelled loser isn't observed). */
+    private static <T,E> FaultyFuture<Resilience.Won<T>,E> launchObserved(Resilience.Policy policy, Supplier<FaultyFuture<T,E>> launcher, boolean isFromHedge) {
+        final long startNanos = System.nanoTime();
+        final FaultyFuture<T,E> attempt = launcher.get();
+        policy.hedge().peek(hedge -> attempt.toCompletableFuture().thenRun(() -> hedge.observe(System.nanoTime() - startNanos)));
+        return attempt.map(value -> new Resilience.Won<>(value, isFromHedge));
+    }
+
+    /** Interruptible {@link FaultyFuture#join()}: Interrupting the caller cancels {@code future}, which interrupts its attempt(s). */
+    private static <T,E> Faulty<T,E> await(FaultyFuture<T,E> future) {
+        try {
+            return future.toCompletableFuture().get();
+        } catch (ExecutionException | CancellationException e) {
+            return future.join(); // Rethrow as join() does
+        } catch (InterruptedException e) {
+            future.cancel();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for attempt");
+        }
+    }
+
+    /** @return Whether {@code future} completed within {@code timeout} */
+    private static boolean awaitWithin(FaultyFuture<?,?> future, Duration timeout) {
+        try {
+            future.toCompletableFuture().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            return true; // Rethrown by join()
+        } catch (InterruptedException e) {
+            future.cancel();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for hedging delay");
+        }
+    }
+
+    /** Full jitter: Uniform in [0, min(maxBackoff, baseBackoff * 2^(attempt - 1))]. */
+    private static void sleepBackoff(Resilience.Policy policy, int attempt) {
+        final int  shift    = Math.min(attempt - 1, 62);
+        final long maxNanos = policy.maxBackoff().toNanos();
+        final long capNanos = policy.baseBackoff().toNanos() > maxNanos >> shift ? maxNanos : policy.baseBackoff().toNanos() << shift;
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(capNanos + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while backing off");
+        }
+    }
+}
@@ -0,0 +1,496 @@
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/** Namespace for fixed-memory probabilistic data structures.<br/>
+  * Every structure here works on 64-bit key hashes, use {@link #hash64(long)} or {@link #hash64(CharSequence)} to derive them.<br/>
+  * Each sketch is mergeable, so the {@link Pipe.Terminal.Accumulator} factories below work with parallel {@link Pipe} as well. */
+public enum Sketch { ;
+    /** Well-spread 64-bit hash of {@code key}, ex: numeric IDs.
+      * @param key Any {@code long}
+      * @return MurmurHash3 64-bit finalizer result */
+    public static long hash64(long key) {
+        return OpenAddressing.mix(key);
+    }
+
+    /** 64-bit hash of {@code text} UTF-8 bytes, unlike 32-bit {@link String#hashCode()} which collides too often for sketches.
+      * @param text Any text
+      * @return FNV-1a 64-bit, finalized with MurmurHash3 finalizer */
+    public static long hash64(CharSequence text) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte octet: text.toString().getBytes(StandardCharsets.UTF_8))
+            hash = (hash ^ (octet & 0xff)) * 0x100000001b3L;
+        return OpenAddressing.mix(hash);
+    }
+
+
+
+    // ---------------------------------------- Terminal ----------------------------------------
+    /** Uniform random sample without replacement, at most {@code size} elements. */
+    public static <T> Pipe.Terminal.Accumulator<T,?,List<T>> sample(int size) {
+        return Sketch.weightedSample(size, __ -> 1.0);
+    }
+
+    /** Weighted random sample without replacement: Inclusion probability grows with {@code weigher} result, non-positive weight is never sampled. */
+    public static <T> Pipe.Terminal.Accumulator<T,?,List<T>> weightedSample(int size, ToDoubleFunction<? super T> weigher) {
+        return Pipe.Terminal.Accumulator.<T,Sketch.Reservoir<T>,List<T>>of(
+            () -> Sketch.Reservoir.of(size),
+            (reservoir, value) -> reservoir.offer(value, weigher.applyAsDouble(value)),
+            (left, right) -> { left.merge(right); return left; },
+            Sketch.Reservoir::toList
+        );
+    }
+
+    /** Approximate distinct count with {@link HyperLogLog}, relative standard error {@code 1.04 / sqrt(2^precision)}. */
+    public static <T> Pipe.Terminal.Accumulator<T,?,Long> distinctCount(int precision, ToLongFunction<? super T> keyHasher) {
+        return Pipe.Terminal.Accumulator.<T,Sketch.HyperLogLog,Long>of(
+            () -> Sketch.HyperLogLog.of(precision),
+            (sketch, value) -> sketch.add(keyHasher.applyAsLong(value)),
+            (left, right) -> { left.merge(right); return left; },
+            Sketch.HyperLogLog::estimate
+        );
+    }
+
+    /** Streaming quantiles with {@link QuantileSketch}, query the finished sketch for any number of quantiles. */
+    public static <T> Pipe.Terminal.Accumulator<T,?,Sketch.QuantileSketch> quantiles(int accuracy, ToDoubleFunction<? super T> valueExtractor) {
+        return Pipe.Terminal.Accumulator.<T,Sketch.QuantileSketch,Sketch.QuantileSketch>of(
+            () -> Sketch.QuantileSketch.of(accuracy),
+            (sketch, value) -> sketch.add(valueExtractor.applyAsDouble(value)),
+            (left, right) -> { left.merge(right); return left; },
+            sketch -> sketch
+        );
+    }
+
+    /** Approximate most frequent elements with {@link HeavyHitters}, descending by estimated count.
+      * @param topCount Tracked candidate count
+      * @param epsilon Count overestimation bound, as fraction of total count
+      * @param keyHasher 64-bit hash consistent with element equality */
+    public static <T> Pipe.Terminal.Accumulator<T,?,List<FunctionalDatas.TupleOf2<T,Long>>> heavyHitters(int topCount, double epsilon, ToLongFunction<? super T> keyHasher) {
+        return Pipe.Terminal.Accumulator.<T,Sketch.HeavyHitters<T>,List<FunctionalDatas.TupleOf2<T,Long>>>of(
+            () -> Sketch.HeavyHitters.of(topCount, epsilon, keyHasher),
+            Sketch.HeavyHitters::add,
+            (left, right) -> { left.merge(right); return left; },
+            Sketch.HeavyHitters::top
+        );
+    }
+
+
+
+    // ---------------------------------------- Structure ----------------------------------------
+    /** Bloom filter over 64-bit key hashes: No false negative, false positive rate bounded by construction parameter. */
+    public static final class BloomFilter {
+        private final long[] bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        private BloomFilter(long bitCount, int hashCount) {
+            this.bits      = new long[(int) ((bitCount + 63) >>> 6)];
+            this.bitCount  = (long) this.bits.length << 6;
+            this.hashCount = hashCount;
+        }
+
+        /** Optimal sizing: {@code m = -n ln(p) / ln(2)^2} bits &amp; {@code k = (m / n) ln(2)} hash functions.
+          * @param expectedInsertions Expected distinct key count {@code n}
+          * @param falsePositiveRate Target false positive rate {@code p}, within {@code (0, 1)}
+          * @return Empty {@link BloomFilter} */
+        public static Sketch.BloomFilter of(long expectedInsertions, double falsePositiveRate) {
+            if (expectedInsertions <= 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1))
+                throw new BuggyCodeException(String.format("[%s] Invalid sizing: n=%d, p=%f", Sketch.BloomFilter.class.getName(), expectedInsertions, falsePositiveRate));
+            final long bitCount = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            final int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            return new Sketch.BloomFilter(bitCount, hashCount);
+        }
+
+        /** Set all bits for {@code hash}.
+          * @param hash 64-bit key hash
+          * @return {@code true} if any bit changed, meaning {@code hash} was definitely never put before */
+        public boolean put(long hash) {
+            // Kirsch-Mitzenmacher double hashing: k probe positions from 2 hashes
+            final long secondHash = OpenAddressing.mix(hash) | 1;
+            boolean isChanged = false;
+            for (int i = 0; i < this.hashCount; ++i) {
+                final long bitIdx = Long.remainderUnsigned(hash + i * secondHash, this.bitCount);
+                final long mask   = 1L << bitIdx;
+                isChanged |= (this.bits[(int) (bitIdx >>> 6)] & mask) == 0;
+                this.bits[(int) (bitIdx >>> 6)] |= mask;
+            }
+            return isChanged;
+        }
+
+        /** @param hash 64-bit key hash
+          * @return {@code false} if {@code hash} definitely never put, {@code true} if probably put */
+        public boolean mightContain(long hash) {
+            final long secondHash = OpenAddressing.mix(hash) | 1;
+            for (int i = 0; i < this.hashCount; ++i) {
+                final long bitIdx = Long.remainderUnsigned(hash + i * secondHash, this.bitCount);
+                if ((this.bits[(int) (bitIdx >>> 6)] & (1L << bitIdx)) == 0)
+                    return false;
+            }
+            return true;
+        }
+
+        public long bitCount() {
+            return this.bitCount;
+        }
+    }
+
+    /** Mergeable reservoir: Each element draws key {@code Exp(1) / weight}, the {@code capacity} smallest keys are kept (Efraimidis-Spirakis weighted sampling).<br/>
+      * Merging keeps the smallest keys of the union, exactly the same distribution as sampling the concatenated input. */
+    public static final class Reservoir<T> {
+        private record Sample<T>(double key, T value) {}
+        private final int capacity;
+        private final PriorityQueue<Sketch.Reservoir.Sample<T>> samples; // Max-heap by key, head is the next eviction
+
+        private Reservoir(int capacity) {
+            this.capacity = capacity;
+            this.samples  = new PriorityQueue<>(Math.max(1, capacity), Comparator.comparingDouble((Sketch.Reservoir.Sample<T> sample) -> sample.key()).reversed());
+        }
+
+        public static <T> Sketch.Reservoir<T> of(int capacity) {
+            if (capacity < 0)
+                throw new BuggyCodeException(String.format("[%s] Capacity must be non-negative: %d", Sketch.Reservoir.class.getName(), capacity));
+            return new Sketch.Reservoir<>(capacity);
+        }
+
+        public void offer(T value) {
+            this.offer(value, 1.0);
+        }
+
+        public void offer(T value, double weight) {
+            if (weight > 0)
+                this.offerKey(-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) / weight, value);
+        }
+
+        public void merge(Sketch.Reservoir<T> other) {
+            for (final Sketch.Reservoir.Sample<T> sample: other.samples)
+                this.offerKey(sample.key(), sample.value());
+        }
+
+        /** @return Sampled elements, in no particular order */
+        public List<T> toList() {
+            final List<T> values = new ArrayList<>(this.samples.size());
+            for (final Sketch.Reservoir.Sample<T> sample: this.samples)
+                values.add(sample.value());
+            return values;
+        }
+
+        private void offerKey(double key, T value) {
+            if (this.samples.size() < this.capacity)
+                this.samples.add(new Sketch.Reservoir.Sample<>(key, value));
+            else if (this.capacity > 0 && key < this.samples.peek().key()) { // Rejected element allocates nothing
+                this.samples.poll();
+                this.samples.add(new Sketch.Reservoir.Sample<>(key, value));
+            }
+        }
+    }
+
+    /** HyperLogLog cardinality estimator: {@code 2^precision} 1-byte registers, each holding max leading-zero rank of the hashes routed to it. */
+    public static final class HyperLogLog {
+        private final int precision;
+        private final byte[] registers;
+
+        private HyperLogLog(int precision) {
+            this.precision = precision;
+            this.registers = new byte[1 << precision];
+        }
+
+        /** @param precision Within {@code [4, 18]}, ex: {@code 14} costs 16 KiB for ~0.81% standard error */
+        public static Sketch.HyperLogLog of(int precision) {
+            if (precision < 4 || precision > 18)
+                throw new BuggyCodeException(String.format("[%s] Precision must be within [4, 18]: %d", Sketch.HyperLogLog.class.getName(), precision));
+            return new Sketch.HyperLogLog(precision);
+        }
+
+        public void add(long hash) {
+            final int idx  = (int) (hash >>> (Long.SIZE - this.precision));
+            // Guard bit caps the rank, so the remaining bits being all-zero can't overflow it
+            final int rank = Long.numberOfLeadingZeros((hash << this.precision) | (1L << (this.precision - 1))) + 1;
+            if (rank > this.registers[idx])
+                this.registers[idx] = (byte) rank;
+        }
+
+        public void merge(Sketch.HyperLogLog other) {
+            if (other.precision != this.precision)
+                throw new BuggyCodeException(String.format("[%s] Merging different precision: %d and %d", Sketch.HyperLogLog.class.getName(), this.precision, other.precision));
+            for (int i = 0; i < this.registers.length; ++i)
+                if (other.registers[i] > this.registers[i])
+                    this.registers[i] = other.registers[i];
+        }
+
+        /** Harmonic mean estimate, with linear counting for small cardinality. 64-bit hash needs no large-range correction. */
+        public long estimate() {
+            final int m       = this.registers.length;
+            double inverseSum = 0;
+            int zeroCount     = 0;
+            for (final byte register: this.registers) {
+                inverseSum += Math.scalb(1.0, -register);
+                if (register == 0)
+                    ++zeroCount;
+            }
+            final double alpha = switch (m) {
+                case 16 -> 0.673;
+                case 32 -> 0.697;
+                case 64 -> 0.709;
+                default -> 0.7213 / (1 + 1.079 / m);
+            };
+            final double estimate = alpha * m * m / inverseSum;
+            if (estimate <= 2.5 * m && zeroCount > 0)
+                return Math.round(m * Math.log((double) m / zeroCount));
+            return Math.round(estimate);
+        }
+    }
+
+    /** KLL quantile sketch: Level {@code h} compactor holds items of weight {@code 2^h}. A full compactor sorts itself &amp; promotes every other item (random offset) to the next level.<br/>
+      * Capacity decays by 2/3 per level below the top, memory stays {@code O(accuracy)} regardless of count, rank error is roughly {@code 1.7 / accuracy}. */
+    public static final class QuantileSketch {
+        private static final int MIN_LEVEL_CAPACITY = 8;
+        private final int accuracy;
+        private final ArrayList<Sketch.QuantileSketch.Level> levels = new ArrayList<>();
+        private long count = 0;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        private static final class Level {
+            private double[] items = new double[Sketch.QuantileSketch.MIN_LEVEL_CAPACITY];
+            private int size       = 0;
+
+            private void add(double value) {
+                if (this.size == this.items.length)
+                    this.items = Arrays.copyOf(this.items, this.size << 1);
+                this.items[this.size++] = value;
+            }
+        }
+
+        private QuantileSketch(int accuracy) {
+            this.accuracy = accuracy;
+            this.levels.add(new Sketch.QuantileSketch.Level());
+        }
+
+        /** @param accuracy Top-level compactor capacity {@code k}, ex: {@code 200} */
+        public static Sketch.QuantileSketch of(int accuracy) {
+            if (accuracy < Sketch.QuantileSketch.MIN_LEVEL_CAPACITY)
+                throw new BuggyCodeException(String.format("[%s] Accuracy must be at least %d: %d", Sketch.QuantileSketch.class.getName(), Sketch.QuantileSketch.MIN_LEVEL_CAPACITY, accuracy));
+            return new Sketch.QuantileSketch(accuracy);
+        }
+
+        /** {@code NaN} is ignored, it has no rank. */
+        public void add(double value) {
+            if (Double.isNaN(value))
+                return;
+            final var bottom = this.levels.get(0);
+            bottom.add(value);
+            ++this.count;
+            this.min = Math.min(this.min, value);
+            this.max = Math.max(this.max, value);
+            if (bottom.size >= this.capacity(0))
+                this.compress();
+        }
+
+        public void merge(Sketch.QuantileSketch other) {
+            while (this.levels.size() < other.levels.size())
+                this.levels.add(new Sketch.QuantileSketch.Level());
+            for (int h = 0; h < other.levels.size(); ++h) {
+                final var otherLevel = other.levels.get(h);
+                for (int i = 0; i < otherLevel.size; ++i)
+                    this.levels.get(h).add(otherLevel.items[i]);
+            }
+            this.count += other.count;
+            this.min    = Math.min(this.min, other.min);
+            this.max    = Math.max(this.max, other.max);
+            this.compress();
+        }
+
+        public long count() {
+            return this.count;
+        }
+
+        /** @param fraction Within {@code [0, 1]}, ex: {@code 0.99} for p99. {@code 0} &amp; {@code 1} are exact min &amp; max
+          * @return Approximate value at {@code fraction} rank, {@link Nilable#empty()} if nothing was added */
+        public Nilable<Double> quantile(double fraction) {
+            if (!(fraction >= 0 && fraction <= 1))
+                throw new BuggyCodeException(String.format("[%s] Quantile fraction must be within [0, 1]: %f", Sketch.QuantileSketch.class.getName(), fraction));
+            if (this.count == 0)
+                return Nilable.empty();
+            if (fraction == 0)
+                return Nilable.of(this.min);
+            if (fraction == 1)
+                return Nilable.of(this.max);
+            long totalWeight = 0;
+            for (int h = 0; h < this.levels.size(); ++h) {
+                final var level = this.levels.get(h);
+                Arrays.sort(level.items, 0, level.size); // Compactor order doesn't matter, sorting in place is harmless
+                totalWeight += (long) level.size << h;
+            }
+            // Merge sorted levels by repeatedly taking the smallest head, level count is tiny
+            final int[] heads      = new int[this.levels.size()];
+            final double threshold = fraction * totalWeight;
+            long cumulativeWeight  = 0;
+            for (;;) {
+                int minLevel = -1;
+                for (int h = 0; h < heads.length; ++h)
+                    if (heads[h] < this.levels.get(h).size && (minLevel < 0 || this.levels.get(h).items[heads[h]] < this.levels.get(minLevel).items[heads[minLevel]]))
+                        minLevel = h;
+                if (minLevel < 0)
+                    return Nilable.of(this.max);
+                final double value = this.levels.get(minLevel).items[heads[minLevel]++];
+                cumulativeWeight  += 1L << minLevel;
+                if (cumulativeWeight >= threshold)
+                    return Nilable.of(value);
+            }
+        }
+
+        private int capacity(int level) {
+            return Math.max(Sketch.QuantileSketch.MIN_LEVEL_CAPACITY, (int) Math.ceil(this.accuracy * Math.pow(2.0 / 3.0, this.levels.size() - 1 - level)));
+        }
+
+        private void compress() {
+            for (int h = 0; h < this.levels.size(); ++h) {
+                final var level = this.levels.get(h);
+                if (level.size < this.capacity(h))
+                    continue;
+                if (h + 1 == this.levels.size())
+                    this.levels.add(new Sketch.QuantileSketch.Level());
+                final var next = this.levels.get(h + 1);
+                Arrays.sort(level.items, 0, level.size);
+                final int pairCount = level.size >>> 1;
+                final int offset    = ThreadLocalRandom.current().nextInt(2);
+                for (int i = 0; i < pairCount; ++i)
+                    next.add(level.items[(i << 1) + offset]);
+                // Odd item stays behind with its original weight
+                if ((level.size & 1) == 1)
+                    level.items[0] = level.items[level.size - 1];
+                level.size &= 1;
+            }
+        }
+    }
+
+    /** Count-min sketch over 64-bit key hashes: {@code depth} rows of {@code width} counters, estimate is the row minimum.<br/>
+      * Never underestimates, overestimates by at most {@code epsilon * totalCount} with probability {@code 1 - delta}. */
+    public static final class CountMinSketch {
+        private final long[] counters;
+        private final int width;
+        private final int depth;
+        private long totalCount = 0;
+
+        private CountMinSketch(int width, int depth) {
+            this.counters = new long[width * depth];
+            this.width    = width;
+            this.depth    = depth;
+        }
+
+        /** Optimal sizing: {@code width = e / epsilon}, {@code depth = ln(1 / delta)}. */
+        public static Sketch.CountMinSketch of(double epsilon, double delta) {
+            if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1))
+                throw new BuggyCodeException(String.format("[%s] Invalid sizing: epsilon=%f, delta=%f", Sketch.CountMinSketch.class.getName(), epsilon, delta));
+            return new Sketch.CountMinSketch((int) Math.ceil(Math.E / epsilon), (int) Math.ceil(Math.log(1 / delta)));
+        }
+
+        /** @return Estimated count of {@code hash} after adding */
+        public long add(long hash, long count) {
+            final long secondHash = OpenAddressing.mix(hash) | 1;
+            long estimate         = Long.MAX_VALUE;
+            for (int row = 0; row < this.depth; ++row) {
+                final int idx = row * this.width + (int) Long.remainderUnsigned(hash + row * secondHash, this.width);
+                this.counters[idx] += count;
+                estimate = Math.min(estimate, this.counters[idx]);
+            }
+            this.totalCount += count;
+            return estimate;
+        }
+
+        public long estimate(long hash) {
+            final long secondHash = OpenAddressing.mix(hash) | 1;
+            long estimate         = Long.MAX_VALUE;
+            for (int row = 0; row < this.depth; ++row)
+                estimate = Math.min(estimate, this.counters[row * this.width + (int) Long.remainderUnsigned(hash + row * secondHash, this.width)]);
+            return estimate;
+        }
+
+        public void merge(Sketch.CountMinSketch other) {
+            if (other.width != this.width || other.depth != this.depth)
+                throw new BuggyCodeException(String.format("[%s] Merging different dimension: %dx%d and %dx%d", Sketch.CountMinSketch.class.getName(), this.depth, this.width, other.depth, other.width));
+            for (int i = 0; i < this.counters.length; ++i)
+                this.counters[i] += other.counters[i];
+            this.totalCount += other.totalCount;
+        }
+
+        public long totalCount() {
+            return this.totalCount;
+        }
+    }
+
+    /** Heavy hitters: {@link CountMinSketch} counts every element, only the {@code capacity} candidates with highest estimate are kept as element. */
+    public static final class HeavyHitters<T> {
+        private final int capacity;
+        private final ToLongFunction<? super T> keyHasher;
+        private final Sketch.CountMinSketch counts;
+        private final HashMap<T,Long> candidates;
+        private long minCandidateEstimate = 0; // Lower bound: Candidate estimates only grow, rescanned only when beaten
+
+        private HeavyHitters(int capacity, double epsilon, ToLongFunction<? super T> keyHasher) {
+            this.capacity   = capacity;
+            this.keyHasher  = keyHasher;
+            this.counts     = Sketch.CountMinSketch.of(epsilon, 0.01);
+            this.candidates = new HashMap<>(capacity * 4 / 3 + 1);
+        }
+
+        public static <T> Sketch.HeavyHitters<T> of(int capacity, double epsilon, ToLongFunction<? super T> keyHasher) {
+            if (capacity <= 0)
+                throw new BuggyCodeException(String.format("[%s] Capacity must be positive: %d", Sketch.HeavyHitters.class.getName(), capacity));
+            return new Sketch.HeavyHitters<>(capacity, epsilon, keyHasher);
+        }
+
+        public void add(T value) {
+            final long estimate = this.counts.add(this.keyHasher.applyAsLong(value), 1);
+            this.offerCandidate(value, estimate);
+        }
+
+        public void merge(Sketch.HeavyHitters<T> other) {
+            this.counts.merge(other.counts);
+            final List<T> keys = new ArrayList<>(this.candidates.keySet());
+            keys.addAll(other.candidates.keySet());
+            this.candidates.clear();
+            this.minCandidateEstimate = 0;
+            for (final T key: keys)
+                this.offerCandidate(key, this.counts.estimate(this.keyHasher.applyAsLong(key)));
+        }
+
+        /** @return Candidates with estimated count, descending */
+        public List<FunctionalDatas.TupleOf2<T,Long>> top() {
+            final List<FunctionalDatas.TupleOf2<T,Long>> top = new ArrayList<>(this.candidates.size());
+            for (final Map.Entry<T,Long> candidate: this.candidates.entrySet())
+                top.add(new FunctionalDatas.TupleOf2<>(candidate.getKey(), this.counts.estimate(this.keyHasher.applyAsLong(candidate.getKey()))));
+            top.sort(Comparator.comparing((FunctionalDatas.TupleOf2<T,Long> candidate) -> candidate.t2()).reversed());
+            return top;
+        }
+
+        private void offerCandidate(T key, long estimate) {
+            if (this.candidates.containsKey(key) || this.candidates.size() < this.capacity) {
+                this.candidates.put(key, estimate);
+                return;
+            }
+            if (estimate <= this.minCandidateEstimate)
+                return;
+            T minKey = null;
+            long min = Long.MAX_VALUE;
+            for (final Map.Entry<T,Long> candidate: this.candidates.entrySet())
+                if (candidate.getValue() < min) {
+                    min    = candidate.getValue();
+                    minKey = candidate.getKey();
+                }
+            this.minCandidateEstimate = min;
+            if (estimate > min) {
+                this.candidates.remove(minKey);
+                this.candidates.put(key, estimate);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/** Namespace for spilling {@link Pipe} intermediate state to disk: element codec, spill policy &amp; run files.<br/>
+  * I/O failures during consumption are rethrown as {@link UncheckedIOException}, those are environment failures, not {@link BuggyCodeException}. */
+public enum Spill { ;
+    /** Binary element codec for run files. Contract: {@link #decode(DataInput)} must read exactly what {@link #encode(Object, DataOutput)} wrote, {@code null} is not supported.
+      * @param <T> Element type */
+    public interface Codec<T> {
+        void encode(T value, DataOutput output) throws IOException;
+        T decode(DataInput input) throws IOException;
+
+        public static Spill.Codec<String> ofString() {
+            return new Spill.Codec<>() {
+                @Override public void encode(String value, DataOutput output) throws IOException {
+                    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+
+                @Override public String decode(DataInput input) throws IOException {
+                    final byte[] bytes = new byte[input.readInt()];
+                    input.readFully(bytes);
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+            };
+        }
+
+        public static Spill.Codec<Integer> ofInteger() {
+            return Spill.Codec.of((value, output) -> output.writeInt(value), DataInput::readInt);
+        }
+
+        public static Spill.Codec<Long> ofLong() {
+            return Spill.Codec.of((value, output) -> output.writeLong(value), DataInput::readLong);
+        }
+
+        public static Spill.Codec<Double> ofDouble() {
+            return Spill.Codec.of((value, output) -> output.writeDouble(value), DataInput::readDouble);
+        }
+
+        public static <T> Spill.Codec<T> of(Spill.Encoder<T> encoder, Spill.Decoder<T> decoder) {
+            return new Spill.Codec<>() {
+                @Override public void encode(T value, DataOutput output) throws IOException { encoder.encode(value, output); }
+                @Override public T decode(DataInput input) throws IOException { return decoder.decode(input); }
+            };
+        }
+    }
+
+    @FunctionalInterface public interface Encoder<T> { void encode(T value, DataOutput output) throws IOException; }
+    @FunctionalInterface public interface Decoder<T> { T decode(DataInput input) throws IOException; }
+
+    /** Spill configuration.
+      * @param <T> Element type
+      * @param maxElementsInMemory Memory budget, in element count. Exceeding this writes the buffered elements as 1 run file
+      * @param codec Element codec for run files
+      * @param isCompressed Deflate run files, trading CPU for disk I/O
+      * @param directory Directory for run files */
+    public record Policy<T>(long maxElementsInMemory, Spill.Codec<T> codec, boolean isCompressed, Path directory) {
+        public Policy {
+            if (maxElementsInMemory <= 0)
+                throw new BuggyCodeException(String.format("[%s] Memory budget must be positive: %d", Spill.Policy.class.getName(), maxElementsInMemory));
+        }
+
+        /** Uncompressed run files inside {@code java.io.tmpdir}. */
+        public static <T> Spill.Policy<T> of(long maxElementsInMemory, Spill.Codec<T> codec) {
+            return new Spill.Policy<>(maxElementsInMemory, codec, false, Path.of(System.getProperty("java.io.tmpdir")));
+        }
+
+        public Spill.Policy<T> withCompression() {
+            return new Spill.Policy<>(this.maxElementsInMemory, this.codec, true, this.directory);
+        }
+
+        public Spill.Policy<T> withDirectory(Path directory) {
+            return new Spill.Policy<>(this.maxElementsInMemory, this.codec, this.isCompressed, directory);
+        }
+    }
+
+
+
+    // ---------------------------------------- Internal ----------------------------------------
+    /** Package-private: Write all remaining {@code elements} as 1 run file. */
+    static <T> Spill.Run<T> writeRun(Spill.Policy<T> policy, Iterator<T> elements) {
+        final var writer = new Spill.RunWriter<>(policy);
+        try {
+            while (elements.hasNext())
+                writer.append(elements.next());
+            return writer.finish();
+        } catch (RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+    }
+
+    /** Package-private: Close all {@code runs}, used for cleanup on failure &amp; abandonment. */
+    static void closeAll(List<? extends Spill.Run<?>> runs) {
+        for (final Spill.Run<?> run: runs)
+            run.close();
+    }
+
+    private static OutputStream wrapOutput(OutputStream output, Deflater deflater) {
+        return deflater != null ? new DeflaterOutputStream(output, deflater, 1 << 16) : output;
+    }
+
+    /** Package-private: Incremental run file writer, for producer that can't hand over an {@link Iterator} (ex: hash partitioning into many runs at once).
+      * @param <T> Element type */
+    static final class RunWriter<T> {
+        private final Spill.Policy<T> policy;
+        private final Path file;
+        private final Deflater deflater;
+        private final DataOutputStream output;
+        private long size = 0;
+
+        RunWriter(Spill.Policy<T> policy) {
+            this.policy = policy;
+            try {
+                this.file     = Files.createTempFile(policy.directory(), "pipe-spill-", ".run");
+                this.deflater = policy.isCompressed() ? new Deflater(Deflater.BEST_SPEED) : null;
+                this.output   = new DataOutputStream(new BufferedOutputStream(Spill.wrapOutput(Files.newOutputStream(this.file), this.deflater), 1 << 16));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create spill run file", e);
+            }
+        }
+
+        void append(T value) {
+            try {
+                this.policy.codec().encode(value, this.output);
+                ++this.size;
+            } catch (IOException e) {
+                this.abort();
+                throw new UncheckedIOException("Failed to write spill run file", e);
+            }
+        }
+
+        Spill.Run<T> finish() {
+            try {
+                this.output.close();
+                return new Spill.Run<>(this.file, this.size, this.policy);
+            } catch (IOException e) {
+                this.abort();
+                throw new UncheckedIOException("Failed to write spill run file", e);
+            } finally {
+                if (this.deflater != null)
+                    this.deflater.end();
+            }
+        }
+
+        /** Idempotent: Discard partially written run file. */
+        void abort() {
+            try {
+                this.output.close();
+            } catch (IOException ignored) {
+                // Discarding anyway, the original failure is more relevant
+            } finally {
+                if (this.deflater != null)
+                    this.deflater.end();
+            }
+            try {
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete spill run file", e);
+            }
+        }
+    }
+
+    /** Package-private: Sorted run file, deleted once fully read or on {@link #close()}.
+      * @param <T> Element type */
+    static final class Run<T> implements AutoCloseable {
+        private final Path file;
+        private final long size;
+        private final Spill.Policy<T> policy;
+        private InputStream openedInput;
+        private Inflater openedInflater;
+
+        private Run(Path file, long size, Spill.Policy<T> policy) {
+            this.file   = file;
+            this.size   = size;
+            this.policy = policy;
+        }
+
+        /** Lazy sequential reader, 1 element decoded per {@link Iterator#next()}. Can only be invoked once. */
+        Iterator<T> read() {
+            try {
+                final var inflater = this.policy.isCompressed() ? new Inflater() : null;
+                final InputStream rawInput = Files.newInputStream(this.file);
+                final var input = new DataInputStream(new BufferedInputStream(inflater != null ? new InflaterInputStream(rawInput, inflater, 1 << 16) : rawInput, 1 << 16));
+                this.openedInput    = input;
+                this.openedInflater = inflater;
+                return new Iterator<T>() {
+                    private long remaining = Run.this.size;
+
+                    @Override public boolean hasNext() {
+                        if (this.remaining > 0)
+                            return true;
+                        Run.this.close();
+                        return false;
+                    }
+
+                    @Override public T next() {
+                        if (!this.hasNext())
+                            throw new BuggyCodeException("Trying to invoke Iterator.next() when there's no element");
+                        try {
+                            --this.remaining;
+                            return Run.this.policy.codec().decode(input);
+                        } catch (EOFException e) {
+                            throw new UncheckedIOException("Spill run file truncated, codec decode() read more than encode() wrote", e);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("Failed to read spill run file", e);
+                        }
+                    }
+                };
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open spill run file", e);
+            }
+        }
+
+        /** Idempotent: Release opened reader (if any) &amp; delete the run file. */
+        @Override public void close() {
+            try {
+                if (this.openedInput != null)
+                    this.openedInput.close();
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to release spill run file", e);
+            } finally {
+                if (this.openedInflater != null)
+                    this.openedInflater.end();
+                this.openedInput    = null;
+                this.openedInflater = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Allocation regression guard: Measure heap bytes allocated per operation on hot paths, failing once it exceeds the budget.<br/>
+  * Budgets are upper bounds for a warmed-up JIT. Escape analysis may only lower the measured bytes, so they must hold even without it.<br/>
+  * Object size assumes compressed oops &amp; class pointers (default below 32 GiB heap): Single-field wrapper record costs 16 bytes. */
+final class AllocationBudgetTest {
+    private static final int OPERATION_RUN_COUNT = 200_000;
+    private static final int PIPE_RUN_COUNT      = 100;
+    private static final long WRAPPER_SIZE = 16;
+    /** Per-element budget for fused {@link Pipe} stages, allowing 1-time setup cost to amortize but no per-element object. */
+    private static final double PER_ELEMENT_NOISE = 1.0;
+
+    private static final Object SAMPLE = new Object();
+    private static Object blackhole; // Keep results reachable, so the measured work can't be dead-code eliminated
+
+    @Test
+    void nilable_Factory() {
+        AllocationBudgetTest.assertBudget("Nilable.empty()", 0, () -> Nilable.empty());
+        AllocationBudgetTest.assertBudget("Nilable.of(null)", 0, () -> Nilable.of(null));
+        AllocationBudgetTest.assertBudget("Nilable.of(value)", AllocationBudgetTest.WRAPPER_SIZE, () -> Nilable.of(AllocationBudgetTest.SAMPLE));
+    }
+
+    @Test
+    void nilable_Chain() {
+        final Function<Object,String> toText = Object::toString;
+        AllocationBudgetTest.assertBudget("Nilable.empty().map().keepIf().orElse()", 0, () -> Nilable.<Object>empty().map(toText).keepIf(text -> !text.isEmpty()).orElse("fallback"));
+        AllocationBudgetTest.assertBudget("Nilable.of().keepIf().map(identity).orElse()", 2 * AllocationBudgetTest.WRAPPER_SIZE, () -> Nilable.of(AllocationBudgetTest.SAMPLE).keepIf(value -> value != null).map(value -> value).orElse(AllocationBudgetTest.SAMPLE));
+    }
+
+    @Test
+    void nilable_Primitive_Chain() {
+        final long[] values = { 7L };
+        AllocationBudgetTest.assertBudget("NilableLong.of().map().keepIf().orElse()", 2 * (AllocationBudgetTest.WRAPPER_SIZE + Long.BYTES), () -> NilableLong.of(values[0]).map(n -> n * 31).keepIf(n -> n > 0).orElse(-1L));
+        AllocationBudgetTest.assertBudget("NilableLong.empty().map().orElse()", 0, () -> NilableLong.empty().map(n -> n * 31).orElse(-1L));
+    }
+
+    @Test
+    void faulty_Chain() {
+        final Faulty<Object,Exception> ok    = Faulty.of(AllocationBudgetTest.SAMPLE);
+        final Faulty<Object,Exception> error = Faulty.ofError(new Exception("Preallocated"));
+        AllocationBudgetTest.assertBudget("Faulty.Error.map().flatMap()", 0, () -> error.map(value -> value).flatMap(Faulty::of));
+        AllocationBudgetTest.assertBudget("Faulty.Ok.map()", AllocationBudgetTest.WRAPPER_SIZE, () -> ok.map(value -> value));
+        AllocationBudgetTest.assertBudget("Faulty.Ok.map().flatMap()", 2 * AllocationBudgetTest.WRAPPER_SIZE, () -> ok.map(value -> value).flatMap(Faulty::of));
+        AllocationBudgetTest.assertBudget("Faulty.Ok.mapError()", 0, () -> ok.mapError(e -> e));
+    }
+
+    @Test
+    void pipe_Stages_Per_Element() {
+        final Integer[] values = new Integer[10_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+        AllocationBudgetTest.assertPerElementBudget("Pipe keepIf/map/skip/limit/fold", values.length, () -> Pipe.of(values)
+            .keepIf(n -> n != null)
+            .map(n -> n)
+            .skip(1)
+            .limit(values.length)
+            .end(Pipe.Terminal.Utils.fold(0, (left, right) -> right))
+        );
+        AllocationBudgetTest.assertPerElementBudget("Pipe mapToLong/endBySum", values.length, () -> Pipe.of(values).mapToLong(Integer::longValue).endBySum());
+        AllocationBudgetTest.assertPerElementBudget("Pipe endByMatchAll", values.length, () -> Pipe.of(values).endByMatchAll(n -> n >= 0));
+    }
+
+    @Test
+    void primitive_Pipe_Terminals_Per_Element() {
+        final int[] values = new int[10_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+        AllocationBudgetTest.assertPerElementBudget("IntPipe map/keepIf/endBySum", values.length, () -> IntPipe.of(values).map(n -> n * 3).keepIf(n -> (n & 1) == 0).endBySum());
+        AllocationBudgetTest.assertPerElementBudget("IntPipe endByCount", values.length, () -> IntPipe.of(values).endByCount());
+        AllocationBudgetTest.assertPerElementBudget("IntPipe endByFold", values.length, () -> IntPipe.of(values).endByFold(0, Math::max));
+        AllocationBudgetTest.assertPerElementBudget("IntPipe.range mapToLong/endBySum", values.length, () -> IntPipe.range(0, values.length).mapToLong(n -> n).endBySum());
+    }
+
+
+
+    // ---------------------------------------- Harness ----------------------------------------
+    private static void assertBudget(String operationName, long maxBytesPerOperation, Supplier<?> operation) {
+        final double bytesPerOperation = AllocationBudgetTest.measureBytesPerRun(AllocationBudgetTest.OPERATION_RUN_COUNT, operation);
+        Assertions.assertTrue(
+            bytesPerOperation <= maxBytesPerOperation + 0.5,
+            String.format("%s allocates %.2f bytes/operation, budget: %d", operationName, bytesPerOperation, maxBytesPerOperation)
+        );
+    }
+
+    /** Whole-{@link Pipe} run, budget is spread across {@code elementCount}. */
+    private static void assertPerElementBudget(String operationName, int elementCount, Supplier<?> pipeRun) {
+        final double bytesPerElement = AllocationBudgetTest.measureBytesPerRun(AllocationBudgetTest.PIPE_RUN_COUNT, pipeRun) / elementCount;
+        Assertions.assertTrue(
+            bytesPerElement <= AllocationBudgetTest.PER_ELEMENT_NOISE,
+            String.format("%s allocates %.2f bytes/element, budget: %.2f", operationName, bytesPerElement, AllocationBudgetTest.PER_ELEMENT_NOISE)
+        );
+    }
+
+    /** Same run count for warmup &amp; measurement, enough to reach C2 before measuring. */
+    private static double measureBytesPerRun(int runCount, Supplier<?> operation) {
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assertions.assertTrue(threadBean.isThreadAllocatedMemorySupported(), "JVM must support per-thread allocation counter");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        for (int i = 0; i < runCount; ++i)
+            AllocationBudgetTest.blackhole = operation.get();
+        final long baseline = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < runCount; ++i)
+            AllocationBudgetTest.blackhole = operation.get();
+        return (double) (threadBean.getCurrentThreadAllocatedBytes() - baseline) / runCount;
+    }
+}
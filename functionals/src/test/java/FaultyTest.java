@@ -0,0 +1,197 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class FaultyTest {
+    @Test
+    void streams_Collect() {
+        final List<Faulty<Integer,String>> allOk = IntStream.range(0, 100_000).mapToObj(Faulty::<Integer,String>of).toList();
+        final List<Faulty<Integer,String>> mixed = IntStream.range(0, 100_000)
+            .mapToObj(n -> n % 1_000 == 999 ? Faulty.<Integer,String>ofError("#" + n) : Faulty.<Integer,String>of(n))
+            .toList();
+
+        Assertions.assertEquals(IntStream.range(0, 100_000).boxed().toList(), allOk.parallelStream().collect(Faulty.Streams.Collect.takeOk()).toList(), "Order preserved across parallel merge");
+        Assertions.assertEquals(100, mixed.parallelStream().collect(Faulty.Streams.Collect.takeError()).count());
+        Assertions.assertEquals(99_900, mixed.parallelStream().collect(Faulty.Streams.Collect.takeOk()).count());
+
+        final Faulty<Stream<Integer>,Stream<String>> deferredOk = allOk.parallelStream().collect(Faulty.Streams.Collect.failDeferredCollect());
+        Assertions.assertEquals(100_000L, deferredOk.map(Stream::count).unwrapOkOrElse(-1L));
+        final Faulty<Stream<Integer>,Stream<String>> deferredError = mixed.parallelStream().collect(Faulty.Streams.Collect.failDeferredCollect());
+        Assertions.assertEquals(List.of("#999", "#1999", "#2999"), deferredError.mapError(errors -> errors.limit(3).toList()).unwrapErrorOrElse(List.of()), "All errors in encounter order");
+
+        Assertions.assertEquals(Faulty.ofError("#999"), mixed.parallelStream().collect(Faulty.Streams.Collect.failFastCollect()).map(Stream::toList), "First error in encounter order");
+        Assertions.assertEquals(100_000L, allOk.parallelStream().collect(Faulty.Streams.Collect.failFastCollect()).map(Stream::count).unwrapOkOrElse(-1L));
+
+        final var sampled = mixed.parallelStream().collect(Faulty.Streams.Collect.failDeferredSampleCollect(3));
+        Assertions.assertEquals(Faulty.ofError(new Faulty.Streams.Collect.ErrorSample<>(List.of("#999", "#1999", "#2999"), 100)), sampled.map(Stream::toList));
+        Assertions.assertEquals(List.of(1, 2), Stream.of(Faulty.<Integer,String>of(1), Faulty.<Integer,String>of(2)).collect(Faulty.Streams.Collect.failDeferredSampleCollect(3)).map(Stream::toList).unwrapOkOrElse(List.of()));
+    }
+
+    @Test
+    void static_Traverse_Sequence() {
+        final List<String> visited = Collections.synchronizedList(new ArrayList<>());
+        final Faulty<List<Integer>,String> failed = Faulty.traverse(List.of("1", "x", "3", "y"), text -> {
+            visited.add(text);
+            return FaultyTest.parse(text);
+        });
+        Assertions.assertEquals(Faulty.ofError("Not a number: x"), failed);
+        Assertions.assertEquals(List.of("1", "x"), visited, "Fail-fast stops at the first error");
+
+        Assertions.assertEquals(Faulty.of(List.of(1, 2, 3)), Faulty.traverse(new String[] { "1", "2", "3" }, FaultyTest::parse));
+        Assertions.assertEquals(Faulty.of(List.of()), Faulty.sequence(List.<Faulty<Integer,String>>of()));
+        Assertions.assertEquals(Faulty.ofError("b"), Faulty.sequence(Faulty.<Integer,String>of(1), Faulty.ofError("b"), Faulty.ofError("c")));
+        Assertions.assertEquals(
+            Faulty.ofError(List.of("Not a number: x", "Not a number: y")),
+            Faulty.traverseAll(List.of("1", "x", "3", "y"), FaultyTest::parse),
+            "Accumulate-all keeps every error"
+        );
+        Assertions.assertEquals(Faulty.of(List.of(1, 3)), Faulty.sequenceAll(List.of(Faulty.<Integer,String>of(1), Faulty.of(3))));
+
+        final String[] numbers = new String[10_000];
+        for (int i = 0; i < numbers.length; ++i)
+            numbers[i] = i == 7_777 || i == 8_888 ? "bad" + i : Integer.toString(i);
+        Assertions.assertEquals(Faulty.ofError("Not a number: bad7777"), Faulty.traverse(Pipe.of(numbers).parallel(), FaultyTest::parse), "Leftmost error under parallel Pipe");
+        Assertions.assertEquals(2, Faulty.traverseAll(Pipe.of(numbers).parallel(), FaultyTest::parse).mapError(List::size).unwrapErrorOrElse(-1));
+        Assertions.assertEquals(10_000, Faulty.sequence(Pipe.of(numbers).skip(8_889).map(FaultyTest::parse)).map(List::size).unwrapOkOrElse(-1) + 8_889);
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<String> valid = Pipe.of(numbers).keepIf(text -> !text.startsWith("bad")).endByToList();
+            Assertions.assertEquals(Faulty.traverse(valid, FaultyTest::parse), Faulty.traverseParallel(valid, FaultyTest::parse, executor), "Parallel keeps encounter order");
+            Assertions.assertTrue(Faulty.traverseParallel(List.of(numbers), FaultyTest::parse, executor).isError(error -> error.startsWith("Not a number: bad")));
+            Assertions.assertThrows(IllegalStateException.class, () -> Faulty.traverseParallel(List.of(1, 2), n -> { throw new IllegalStateException("boom"); }, executor));
+        }
+    }
+
+    @Test
+    void class_FaultyFuture() throws InterruptedException {
+        final long startNanos = System.nanoTime();
+        final FaultyFuture<Integer,InterruptedException> first  = FaultyFuture.fromCheckedCatch(InterruptedException.class, () -> { Thread.sleep(200); return 1; });
+        final FaultyFuture<Integer,InterruptedException> second = FaultyFuture.fromCheckedCatch(InterruptedException.class, () -> { Thread.sleep(200); return 2; });
+        Assertions.assertEquals(Faulty.of(List.of(1, 2)), FaultyFuture.allOf(List.of(first, second)).join());
+        Assertions.assertTrue(System.nanoTime() - startNanos < 390_000_000L, "Independent calls overlap");
+
+        Assertions.assertEquals(Faulty.of("6"), FaultyFuture.<Integer,String>of(Faulty.of(2)).map(n -> n * 3).flatMap(n -> FaultyFuture.of(Faulty.of(Integer.toString(n)))).join());
+        Assertions.assertEquals(Faulty.ofError(3), FaultyFuture.<Integer,String>of(Faulty.ofError("boo")).flatMap(n -> { throw new AssertionError("Skipped on error"); }).mapError(String::length).join());
+        Assertions.assertEquals(Faulty.ofError("boom"), FaultyFuture.fromCatch(() -> { throw new IllegalStateException("boom"); }).mapError(Throwable::getMessage).join());
+        Assertions.assertEquals(Faulty.of(new FunctionalDatas.TupleOf2<>(1, "a")), FaultyFuture.allOf(FaultyFuture.<Integer,String>of(Faulty.of(1)), FaultyFuture.<String,String>of(Faulty.of("a"))).join());
+
+        final var loserStarted     = new CountDownLatch(1);
+        final var loserInterrupted = new CountDownLatch(1);
+        final FaultyFuture<Integer,String> loser = FaultyFuture.fromCatch(() -> {
+            loserStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                loserInterrupted.countDown();
+            }
+            return -1;
+        }).mapError(Throwable::getMessage);
+        loserStarted.await();
+        Assertions.assertEquals(Faulty.ofError("fail fast"), FaultyFuture.allOf(List.of(loser, FaultyFuture.of(Faulty.ofError("fail fast")))).join());
+        Assertions.assertTrue(loserInterrupted.await(5, TimeUnit.SECONDS), "Loser cancelled & interrupted");
+
+        final FaultyFuture<Integer,InterruptedException> slow = FaultyFuture.fromCheckedCatch(InterruptedException.class, () -> { Thread.sleep(10_000); return 1; });
+        final FaultyFuture<Integer,InterruptedException> fast = FaultyFuture.fromCheckedCatch(InterruptedException.class, () -> 2);
+        Assertions.assertEquals(Faulty.of(2), FaultyFuture.anyOf(List.of(slow, FaultyFuture.of(Faulty.ofError(new InterruptedException())), fast)).join().mapError(List::size));
+        Assertions.assertEquals(Faulty.ofError(List.of("a", "b")), FaultyFuture.anyOf(List.of(FaultyFuture.<Integer,String>of(Faulty.ofError("a")), FaultyFuture.of(Faulty.ofError("b")))).join(), "All errors in input order");
+
+        final FaultyFuture<Integer,String> hanging = FaultyFuture.fromCheckedCatch(InterruptedException.class, () -> { Thread.sleep(10_000); return 1; }).mapError(Throwable::toString);
+        Assertions.assertEquals(Faulty.ofError("timeout"), hanging.withDeadline(Duration.ofMillis(50), () -> "timeout").join());
+        Assertions.assertTrue(hanging.isDone(), "Deadline cancels the source");
+        Assertions.assertEquals(Faulty.of(1), FaultyFuture.<Integer,String>of(Faulty.of(1)).withDeadline(Duration.ofMillis(50), () -> "timeout").join());
+        Assertions.assertThrows(BuggyCodeException.class, () -> FaultyFuture.fromCheckedCatch(InterruptedException.class, () -> { throw new IllegalStateException(); }).join());
+    }
+
+    @Test
+    void resilience_Retry_Hedge() throws InterruptedException {
+        final var calls = new AtomicInteger();
+        final var retried = Resilience.fromCatch(Resilience.Policy.ofRetry(5, Duration.ofMillis(1), Duration.ofMillis(5)), () -> {
+            if (calls.incrementAndGet() < 3)
+                throw new IllegalStateException("flaky #" + calls.get());
+            return "ok";
+        });
+        Assertions.assertEquals(Faulty.of(List.of("ok", 3, 0)), retried.map(ok -> List.<Object>of(ok.value(), ok.attemptCount(), ok.hedgeCount())));
+
+        final var exhausted = Resilience.fromCatch(Resilience.Policy.ofRetry(3, Duration.ZERO, Duration.ZERO), () -> { throw new IllegalStateException("down #" + calls.incrementAndGet()); });
+        Assertions.assertEquals(Faulty.ofError(List.of("down #6", 3)), exhausted.mapError(error -> List.<Object>of(error.value().getMessage(), error.attemptCount())), "Last error kept");
+
+        final Resilience.Policy budgeted = Resilience.Policy.ofRetry(5, Duration.ZERO, Duration.ZERO).withBudget(Resilience.RetryBudget.of(0, 1));
+        Assertions.assertTrue(Resilience.fromCatch(budgeted, () -> { throw new IllegalStateException(); }).isError(error -> error.attemptCount() == 2), "1 token, 1 retry");
+        Assertions.assertTrue(Resilience.fromCatch(budgeted, () -> { throw new IllegalStateException(); }).isError(error -> error.attemptCount() == 1), "Budget exhausted");
+
+        final var primaryInterrupted = new CountDownLatch(1);
+        final var invocations        = new AtomicInteger();
+        final var hedged = Resilience.fromCheckedCatch(Resilience.Policy.ofSingleAttempt().withHedge(Resilience.Hedge.afterDelay(Duration.ofMillis(20))), InterruptedException.class, () -> {
+            if (invocations.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                    throw e;
+                }
+            }
+            return invocations.get();
+        });
+        Assertions.assertTrue(hedged.isOk(ok -> ok.value() == 2 && ok.isFromHedge() && ok.hedgeCount() == 1 && ok.elapsed().toMillis() < 5_000), "Backup wins");
+        Assertions.assertTrue(primaryInterrupted.await(5, TimeUnit.SECONDS), "Slow primary cancelled");
+
+        final Resilience.Hedge percentile = Resilience.Hedge.afterPercentile(95, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        final Resilience.Policy adaptive  = Resilience.Policy.ofSingleAttempt().withHedge(percentile);
+        Assertions.assertEquals(Duration.ofSeconds(5), percentile.delay(), "Warmup delay before enough samples");
+        for (int i = 0; i < 64; ++i)
+            Assertions.assertTrue(Resilience.fromCheckedCatch(adaptive, InterruptedException.class, () -> { Thread.sleep(1); return 1; }).isOk(ok -> ok.hedgeCount() == 0), "1 ms attempt never reaches 1 s floor");
+        Assertions.assertEquals(Duration.ofSeconds(1), percentile.delay(), "Observed ~1 ms percentile clamped to floor");
+
+        Assertions.assertThrows(BuggyCodeException.class, () -> Resilience.Policy.ofRetry(0, Duration.ZERO, Duration.ZERO));
+        Assertions.assertThrows(BuggyCodeException.class, () -> Resilience.Hedge.afterPercentile(0, Duration.ZERO, Duration.ZERO));
+    }
+
+    @Test
+    void resilience_Interrupt() throws InterruptedException {
+        for (final Resilience.Policy policy: List.of(Resilience.Policy.ofSingleAttempt(), Resilience.Policy.ofSingleAttempt().withHedge(Resilience.Hedge.afterDelay(Duration.ofMillis(1))))) {
+            final var started     = new CountDownLatch(1);
+            final var interrupted = new CountDownLatch(1);
+            final var thrown      = new AtomicReference<Throwable>();
+            final Thread caller = Thread.ofVirtual().start(() -> {
+                try {
+                    Resilience.fromCheckedCatch(policy, InterruptedException.class, () -> {
+                        started.countDown();
+                        try {
+                            Thread.sleep(10_000);
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            throw e;
+                        }
+                        return 1;
+                    });
+                } catch (Throwable e) {
+                    thrown.set(e);
+                }
+            });
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(20); // Let the caller reach the blocking wait
+            caller.interrupt();
+            caller.join(5_000);
+            Assertions.assertFalse(caller.isAlive(), "Interrupted caller returns promptly");
+            Assertions.assertTrue(thrown.get() instanceof CancellationException, "Interrupted caller throws CancellationException");
+            Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS), "In-flight attempt cancelled");
+        }
+    }
+
+    private static Faulty<Integer,String> parse(String text) {
+        return !text.isEmpty() && text.chars().allMatch(Character::isDigit) ? Faulty.of(Integer.parseInt(text)) : Faulty.ofError("Not a number: " + text);
+    }
+}
@@ -1,3 +1,6 @@
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Assertions;
@@ -29,6 +32,61 @@ final class NilableTest {
         Assertions.assertTrue(mapOrElseResult.equals(Nilable.of(new Exception()).to(NilableTest::fun)), "Functional interface vs static function produces equals()");
     }
 
+    @Test
+    void primitive_Variants() {
+        Assertions.assertEquals(NilableInt.of(42), NilableInt.from(Nilable.of(42)), "Unbox from Nilable");
+        Assertions.assertEquals(Nilable.of(42), NilableInt.of(42).toNilable(), "Box into Nilable");
+        Assertions.assertSame(NilableLong.empty(), NilableLong.from(Nilable.<Long>empty()));
+        Assertions.assertEquals(NilableLong.of(7L), NilableLong.from(OptionalLong.of(7L)));
+        Assertions.assertEquals(OptionalLong.empty(), NilableLong.empty().toOptional());
+
+        final long mapped = NilableInt.of(20)
+            .keepIf(n -> n > 10)
+            .mapToLong(n -> n * 1_000_000_000L)
+            .map(n -> n + 1)
+            .orElse(-1L);
+        Assertions.assertEquals(20_000_000_001L, mapped);
+        Assertions.assertEquals(-1.0, NilableDouble.of(0.5).removeIf(n -> n < 1).orElse(() -> -1.0));
+        Assertions.assertEquals(Nilable.of("3"), NilableInt.of(3).mapToObj(Integer::toString));
+        Assertions.assertEquals(NilableDouble.of(4.0), Nilable.of("four").mapToDouble(String::length));
+
+        final String described = switch (NilableLong.of(9L)) {
+            case NilableLong.Has(long value) -> "Has " + value;
+            case NilableLong.Empty __        -> "Empty";
+        };
+        Assertions.assertEquals("Has 9", described, "Exhaustive pattern matching");
+
+        Assertions.assertEquals(NilableInt.of(4), IntPipe.of(3, 4, 5).keepIf(n -> n % 2 == 0).endByTakeFirst());
+        Assertions.assertSame(DoublePipe.of().endByTakeFirst(), NilableDouble.empty());
+        Assertions.assertEquals(9L, NilableInt.of(9).toPipe().endBySum());
+        final List<String> rawNumbers = List.of("1", "x", "30", "", "200");
+        Assertions.assertEquals(231L, Pipe.from(rawNumbers).flatMapToInt(NilableTest::parseInt).endBySum(), "Push-mode drops Empty");
+        final var pulled = Pipe.from(rawNumbers).flatMapToLong(text -> NilableTest.parseInt(text).mapToLong(n -> n)).iterator();
+        Assertions.assertEquals(1L, pulled.nextLong());
+        Assertions.assertEquals(30L, pulled.nextLong());
+        Assertions.assertEquals(200L, pulled.nextLong());
+        Assertions.assertFalse(pulled.hasNext(), "Pull-mode drops Empty");
+    }
+
+    @Test
+    void static_Traverse_Sequence() {
+        final Function<String,Nilable<Integer>> parse = text -> NilableTest.parseInt(text).toNilable();
+        Assertions.assertEquals(Nilable.of(List.of(1, 2)), Nilable.traverse(List.of("1", "2"), parse));
+        Assertions.assertEquals(Nilable.empty(), Nilable.traverse(new String[] { "1", "x" }, parse));
+        Assertions.assertEquals(Nilable.empty(), Nilable.sequence(Nilable.of(1), Nilable.empty()));
+        Assertions.assertEquals(Nilable.of(List.of(1, 2)), Nilable.sequence(List.of(Nilable.of(1), Nilable.of(2))));
+        Assertions.assertEquals(Nilable.of(List.of(1, 2, 3)), Nilable.sequence(Pipe.of(1, 2, 3).map(Nilable::of)));
+        Assertions.assertEquals(Nilable.empty(), Nilable.traverse(Pipe.of("1", "", "3").parallel(), parse));
+        try (final var executor = Executors.newFixedThreadPool(4)) {
+            Assertions.assertEquals(Nilable.of(List.of(10, 20, 30)), Nilable.traverseParallel(List.of("10", "20", "30"), parse, executor));
+            Assertions.assertEquals(Nilable.empty(), Nilable.traverseParallel(List.of("10", "?", "30"), parse, executor));
+        }
+    }
+
+    private static NilableInt parseInt(String text) {
+        return !text.isEmpty() && text.chars().allMatch(Character::isDigit) ? NilableInt.of(Integer.parseInt(text)) : NilableInt.empty();
+    }
+
     private static <T extends Exception> String fun(Nilable<T> e) {
         return e.map(Exception::getMessage).orElse("10");
     }
@@ -0,0 +1,695 @@
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class PipeTest {
+    @Test
+    void method_Push_And_Pull_Equivalence() {
+        final List<Integer> pushed = PipeTest.sampleStages(Pipe.of(1, 2, null, 3, 4, 5, 6, 7, 8, 9, 10)).endByToList();
+        final List<Integer> pulled = new ArrayList<>();
+        for (final Integer value: PipeTest.sampleStages(Pipe.of(1, 2, null, 3, 4, 5, 6, 7, 8, 9, 10)))
+            pulled.add(value);
+        Assertions.assertEquals(List.of(30, 50, 70), pushed, "Fused push-mode result");
+        Assertions.assertEquals(pushed, pulled, "Pull-mode Iterator yield identical elements");
+    }
+
+    @Test
+    void method_Limit_Short_Circuit() {
+        final var pulledCount = new int[]{ 0 };
+        final List<Integer> result = Pipe.of(1, 2, 3, 4, 5)
+            .peek(__ -> ++pulledCount[0])
+            .limit(2)
+            .endByToList();
+        Assertions.assertEquals(List.of(1, 2), result);
+        Assertions.assertEquals(2, pulledCount[0], "limit() must not pull extra element from upstream");
+        Assertions.assertTrue(Pipe.of(1, 2, 3).peek(__ -> ++pulledCount[0]).limit(0).endByToList().isEmpty());
+        Assertions.assertTrue(Pipe.of(1, 2, 3).peek(__ -> ++pulledCount[0]).parallel().limit(-1).endByToList().isEmpty());
+        Assertions.assertEquals(2, pulledCount[0], "limit(0) must not evaluate upstream");
+    }
+
+    @Test
+    void method_While_And_RemoveIf() {
+        Assertions.assertEquals(List.of(1, 2), Pipe.of(1, 2, 3, 1).keepWhile(n -> n < 3).endByToList());
+        Assertions.assertEquals(List.of(3, 1), Pipe.of(1, 2, 3, 1).removeWhile(n -> n < 3).endByToList());
+        Assertions.assertEquals(List.of(1, 3), Pipe.of(1, 2, 3, 4).removeIf(n -> n % 2 == 0).endByToList());
+        Assertions.assertEquals(List.of(1, 2, 3), Pipe.of(1, 2, 1, 3, 2).distinct(n -> n).endByToList());
+    }
+
+    @Test
+    void method_EndByMatch() {
+        Assertions.assertTrue(Pipe.of(1, 2, 3).endByMatchAll(n -> n > 0));
+        Assertions.assertFalse(Pipe.of(1, 2, 3).endByMatchAll(n -> n > 1));
+        Assertions.assertTrue(Pipe.of(1, 2, 3).endByMatchAny(n -> n == 2));
+        Assertions.assertTrue(Pipe.of(1, 2, 3).endByMatchNone(n -> n > 3));
+        Assertions.assertFalse(Pipe.of(1, 2, 3).endByMatchNone(n -> n == 3));
+        Assertions.assertEquals(Nilable.of(2), Pipe.of(1, 2, 3).skip(1).endByTakeFirst());
+
+        Assertions.assertTrue(Pipe.of(1, 2, 3).limit(1).endByMatchAll(n -> true), "Upstream stopped by limit() is not a mismatch");
+        Assertions.assertFalse(Pipe.of(1, 2, 3).limit(1).endByMatchAny(n -> false), "Upstream stopped by limit() is not a match");
+        Assertions.assertTrue(Pipe.of(1, 2, 3).keepWhile(n -> n < 2).endByMatchNone(n -> n > 5), "Upstream stopped by keepWhile() is not a match");
+        Assertions.assertTrue(IntPipe.of(1, 2, 3).limit(1).endByMatchAll(n -> true));
+        Assertions.assertFalse(LongPipe.of(1, 2, 3).keepWhile(n -> n < 2).endByMatchAny(n -> n > 5));
+        Assertions.assertTrue(DoublePipe.of(1, 2, 3).limit(2).endByMatchNone(n -> n > 2));
+    }
+
+    @Test
+    void method_FlatMap_And_Zip() {
+        final Iterator<Integer> lazyFlatMap = Pipe.of(1, 2, 3).flatMap(n -> Pipe.of(n, n * 10)).iterator();
+        Assertions.assertEquals(1, lazyFlatMap.next());
+        Assertions.assertEquals(10, lazyFlatMap.next());
+        Assertions.assertEquals(List.of(1, 10, 2, 20), Pipe.of(1, 2).flatMap(n -> Pipe.of(n, n * 10)).endByToList());
+        Assertions.assertEquals(List.of(1, 10, 2, 20, 3, 30), Pipe.of(1, 2, 3).flatMap(n -> Pipe.of(n, n * 10, n * 100).limit(2)).endByToList(), "Inner limit() only ends that inner pipe");
+        Assertions.assertEquals(List.of(1, 10, 2), Pipe.of(1, 2, 3).flatMap(n -> Pipe.of(n, n * 10)).limit(3).endByToList());
+
+        final Map<Integer,String> zipped = Pipe.of(1, 2, 3)
+            .zip(Pipe.of("a", "b"))
+            .endByToMap(FunctionalDatas.TupleOf2::t1, FunctionalDatas.TupleOf2::t2);
+        Assertions.assertEquals(Map.of(1, "a", 2, "b"), zipped);
+    }
+
+    @Test
+    void method_End_Terminal() {
+        Assertions.assertEquals(15, Pipe.of(1, 2, 3, 4, 5).end(Pipe.Terminal.Utils.fold(0, Integer::sum)));
+        Assertions.assertEquals(Nilable.of(6), Pipe.of(1, 2, 3).end(Pipe.Terminal.Utils.fold(Integer::sum)));
+        Assertions.assertEquals(Nilable.empty(), Pipe.<Integer>of().end(Pipe.Terminal.Utils.fold(Integer::sum)));
+        Assertions.assertThrows(BuggyCodeException.class, () -> {
+            final Pipe<Integer> pipe = Pipe.of(1);
+            pipe.endByToList();
+            pipe.endByToList();
+        }, "Pipe is one-time consumable");
+    }
+
+    @Test
+    void method_Parallel() {
+        final Integer[] values = new Integer[100_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+
+        final List<Integer> sequential = Pipe.of(values).map(n -> n * 2).keepIf(n -> n % 3 == 0).endByToList();
+        final List<Integer> parallel   = Pipe.of(values).parallel().map(n -> n * 2).keepIf(n -> n % 3 == 0).endByToList();
+        final Stream<Integer> oneShot  = Stream.of(values);
+        Assertions.assertEquals(sequential, Pipe.from(oneShot::iterator).parallel().map(n -> n * 2).keepIf(n -> n % 3 == 0).endByToList(), "One-shot Iterable split only once");
+        Assertions.assertEquals(sequential, parallel, "Parallel Pipe preserve encounter order");
+
+        final Map<Integer,List<Integer>> groups = Pipe.from(List.of(values)).parallel().end(Pipe.Terminal.Utils.groupingBy(n -> n % 10, n -> n));
+        Assertions.assertEquals(10_000, groups.get(7).size());
+        Assertions.assertEquals(Pipe.of(values).keepIf(n -> n % 10 == 7).endByToList(), groups.get(7), "Group content in encounter order");
+
+        Assertions.assertEquals(4_999_950_000L, Pipe.of(values).parallel().map(Integer::longValue).end(Pipe.Terminal.Utils.fold(0L, Long::sum)));
+        Assertions.assertEquals(10, Pipe.of(values).parallelUnordered().distinct(n -> n % 10).endByToList().size());
+        Assertions.assertEquals(5, Pipe.of(values).parallelUnordered().limit(5).endByToList().size());
+        Assertions.assertEquals(List.of(0, 1, 2), Pipe.of(values).parallel().limit(3).endByToList(), "Stateful stage fallback to sequential");
+
+        final List<Integer> forEachResult = new ArrayList<>();
+        Pipe.of(values).parallel().map(n -> n + 1).end(Pipe.Terminal.Utils.forEach(forEachResult::add));
+        Assertions.assertEquals(Pipe.of(values).map(n -> n + 1).endByToList(), forEachResult, "Non-Accumulator Terminal reduce sequentially in encounter order");
+    }
+
+    @Test
+    void method_Primitive_Pipes() {
+        Assertions.assertEquals(4950L, IntPipe.range(0, 100).endBySum());
+        Assertions.assertArrayEquals(new int[]{ 2147483646, 2147483647 }, IntPipe.rangeClosed(Integer.MAX_VALUE - 1, Integer.MAX_VALUE).endByToArray());
+        Assertions.assertArrayEquals(new long[]{ 1, 2, 4, 8 }, LongPipe.iterate(1, n -> n * 2).limit(4).endByToArray());
+        Assertions.assertEquals(NilableInt.of(9), IntPipe.of(3, 9, 1).endByMax());
+        Assertions.assertEquals(NilableDouble.empty(), DoublePipe.of().endByMin());
+        Assertions.assertEquals(2.5, Pipe.of("a", "bb", "ccc", "dddd").mapToDouble(String::length).endBySummaryStatistics().getAverage(), 0.0);
+
+        final PrimitiveIterator.OfInt pulled = IntPipe.range(0, 10).keepIf(n -> n % 3 == 0).skip(1).iterator();
+        Assertions.assertEquals(3, pulled.nextInt());
+        Assertions.assertEquals(6, pulled.nextInt());
+        Assertions.assertEquals(List.of("0", "5"), IntPipe.range(0, 10).keepIf(n -> n % 5 == 0).mapToObj(String::valueOf).endByToList());
+        Assertions.assertEquals(3L, Pipe.of(1, 2, 3).mapToLong(Integer::longValue).mapToInt(n -> (int) n).endByCount());
+
+        final Integer[] values = new Integer[200_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+        final Set<Thread> mapperThreads = ConcurrentHashMap.newKeySet();
+        final long parallelSum = Pipe.of(values).parallel().mapToLong(n -> {
+            mapperThreads.add(Thread.currentThread());
+            return n;
+        }).endBySum();
+        Assertions.assertEquals(19_999_900_000L, parallelSum);
+        Assertions.assertTrue(mapperThreads.size() > 1 || ForkJoinPool.getCommonPoolParallelism() == 1, "Execution mode carried into primitive pipe");
+        Assertions.assertArrayEquals(Pipe.of(values).mapToInt(n -> n * 3).keepIf(n -> n % 2 == 0).endByToArray(), Pipe.of(values).parallel().mapToInt(n -> n * 3).keepIf(n -> n % 2 == 0).endByToArray(), "Encounter order kept");
+        Assertions.assertEquals(NilableLong.of(199_999L), Pipe.of(values).parallel().mapToLong(Integer::longValue).mapToDouble(n -> n).mapToLong(n -> (long) n).endByMax());
+        Assertions.assertEquals(List.of(0, 1, 2), Pipe.of(values).parallel().mapToInt(n -> n).limit(3).mapToObj(n -> n).endByToList(), "Stateful stage fallback to sequential");
+    }
+
+    @Test
+    void method_Sorted() {
+        final var drainedCount = new int[]{ 0 };
+        final Pipe<Integer> lazySorted = Pipe.of(5, 3, 9, 1, 7, 2, 8).peek(__ -> ++drainedCount[0]).sorted(Comparator.naturalOrder());
+        Assertions.assertEquals(0, drainedCount[0], "sorted() must not drain upstream before consumption");
+        Assertions.assertEquals(List.of(1, 2, 3, 5, 7, 8, 9), lazySorted.endByToList());
+
+        final Iterator<Integer> pulled = Pipe.of(5, 3, 9, 1).sorted(Comparator.reverseOrder()).iterator();
+        Assertions.assertEquals(9, pulled.next());
+        Assertions.assertEquals(5, pulled.next());
+
+        Assertions.assertEquals(List.of(1, 2, 3), Pipe.of(5, 3, 9, 1, 7, 2, 8).sorted(Comparator.naturalOrder()).limit(3).endByToList(), "Top-K fusion");
+        Assertions.assertEquals(List.of(9, 8), Pipe.of(5, 3, 9, 1, 7, 2, 8).sorted(Comparator.reverseOrder()).limit(5).limit(2).endByToList());
+        final List<String> stableTopK = Pipe.of("b1", "a1", "b2", "a2", "a3")
+            .sorted(Comparator.comparing((String text) -> text.charAt(0)))
+            .limit(3)
+            .endByToList();
+        Assertions.assertEquals(List.of("a1", "a2", "a3"), stableTopK, "Top-K keep encounter order on ties");
+    }
+
+    @Test
+    void method_Sorted_Spill() throws Exception {
+        final Path spillDirectory = Files.createTempDirectory("pipe-test-spill");
+        final Integer[] values = new Integer[2_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = (i * 7919) % values.length;
+
+        final List<Integer> expected = Pipe.of(values).sorted(Comparator.naturalOrder()).endByToList();
+        final Spill.Policy<Integer> policy = Spill.Policy.of(16, Spill.Codec.ofInteger()).withDirectory(spillDirectory);
+        Assertions.assertEquals(expected, Pipe.of(values).sorted(Comparator.naturalOrder(), policy).endByToList(), "Multi-pass merge of 125 runs");
+        Assertions.assertEquals(expected, Pipe.of(values).sorted(Comparator.naturalOrder(), policy.withCompression()).endByToList(), "Compressed runs");
+        Assertions.assertEquals(expected.subList(0, 100), Pipe.of(values).sorted(Comparator.naturalOrder(), policy).limit(100).endByToList(), "Limit beyond memory budget");
+        try (final var leftovers = Files.list(spillDirectory)) {
+            Assertions.assertEquals(0L, leftovers.count(), "Fully merged run files are deleted");
+        }
+
+        final Pipe<Integer> pulled = Pipe.of(values).sorted(Comparator.naturalOrder(), policy);
+        try (pulled) {
+            Assertions.assertEquals(expected.get(0), pulled.iterator().next());
+        }
+        try (final var leftovers = Files.list(spillDirectory)) {
+            Assertions.assertEquals(0L, leftovers.count(), "Partially pulled run files are deleted on close()");
+        }
+        Files.delete(spillDirectory);
+    }
+
+    @Test
+    void method_Distinct_Compact() {
+        final Integer[] values = new Integer[50_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = (i * 31) % 10_007 - 5_000; // Includes 0 & negative keys
+
+        final List<Integer> expected = Pipe.of(values).distinct(n -> n).endByToList();
+        Assertions.assertEquals(10_007, expected.size());
+        Assertions.assertEquals(expected, Pipe.of(values).distinctInt(n -> n).endByToList());
+        Assertions.assertEquals(expected, Pipe.of(values).distinctLong(n -> n).endByToList());
+
+        final List<Integer> approximate = Pipe.of(values).distinctApproximately(n -> Sketch.hash64(n), 10_007, 0.01).endByToList();
+        Assertions.assertEquals(approximate.size(), Pipe.from(approximate).distinct(n -> n).endByToList().size(), "Bloom filter never emit duplicate");
+        Assertions.assertTrue(approximate.size() > 10_007 * 0.97, "Bloom filter drop rate around false positive rate");
+
+        Assertions.assertEquals(List.of(1, 2, 3, 1, 4, 3), Pipe.of(1, 2, 1, 3, 2, 1, 4, 1, 3).distinctWithinLast(2, n -> n).endByToList());
+    }
+
+    @Test
+    void method_Chunk() {
+        Assertions.assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), Pipe.of(1, 2, 3, 4, 5).chunk(2).endByToList());
+        Assertions.assertEquals(List.of(List.of(1, 2)), Pipe.of(1, 2, 3, 4, 5).chunk(2).limit(1).endByToList());
+        Assertions.assertEquals(List.of(List.of(1, 2, 3)), Pipe.of(1, 2, 3).chunk(5).endByToList());
+        Assertions.assertEquals(List.of(List.of(1, 2), List.of(3)), Pipe.of(1, 2, 3, 4, 5).limit(3).chunk(2).endByToList(), "Partial chunk flushed after upstream limit()");
+        Assertions.assertEquals(List.of(List.of(1, 2), List.of(3)), Pipe.of(1, 2, 3, 4, 5).keepWhile(n -> n < 4).chunkReusing(2).map(List::copyOf).endByToList());
+
+        final Iterator<List<Integer>> pulled = Pipe.of(1, 2, 3, 4, 5).chunk(3).iterator();
+        Assertions.assertEquals(List.of(1, 2, 3), pulled.next());
+        Assertions.assertEquals(List.of(4, 5), pulled.next());
+        Assertions.assertFalse(pulled.hasNext());
+        final List<Integer> firstChunk = Pipe.of(1, 2, 3).chunk(2).endByToList().get(0);
+        Assertions.assertThrows(UnsupportedOperationException.class, firstChunk::clear);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> firstChunk.add(3));
+        Assertions.assertEquals(List.of(1, 2), firstChunk);
+
+        final List<List<Integer>> reused = Pipe.of(1, 2, 3, 4, 5).chunkReusing(2).endByToList();
+        Assertions.assertSame(reused.get(0), reused.get(2), "Reusing mode yield the same List instance");
+        Assertions.assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), Pipe.of(1, 2, 3, 4, 5).chunkReusing(2).map(List::copyOf).endByToList());
+
+        final List<Integer> chunkSums = new ArrayList<>();
+        Pipe.of(1, 2, 3, 4, 5, 6, 7).end(Pipe.Terminal.Utils.forEachChunk(3, chunk -> chunkSums.add(Pipe.from(chunk).end(Pipe.Terminal.Utils.fold(0, Integer::sum)))));
+        Assertions.assertEquals(List.of(6, 15, 7), chunkSums);
+        Assertions.assertThrows(BuggyCodeException.class, () -> Pipe.of(1).chunk(0).endByToList());
+    }
+
+    @Test
+    void method_Map_Concurrent() throws InterruptedException {
+        final var maxInFlight = new AtomicInteger();
+        final var inFlight    = new AtomicInteger();
+        final List<Faulty<Integer,RuntimeException>> results = IntPipe.range(0, 40).boxed()
+            .mapConcurrent(4, n -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep((n * 7) % 5);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                if (n == 13)
+                    throw new IllegalArgumentException("13");
+                return n * 2;
+            })
+            .endByToList();
+        Assertions.assertEquals(40, results.size());
+        Assertions.assertTrue(maxInFlight.get() <= 4, "Bounded in-flight mapper");
+        Assertions.assertEquals(Faulty.of(20), results.get(10), "Ordered mode keep encounter order");
+        Assertions.assertTrue(results.get(13) instanceof Faulty.Error<Integer,RuntimeException>(IllegalArgumentException e), "Mapper failure captured as Faulty.Error");
+
+        final List<Integer> unordered = new ArrayList<>(Pipe.of(3, 1, 2).mapConcurrentUnordered(3, n -> n).map(result -> switch (result) {
+            case Faulty.Ok<Integer,RuntimeException>(Integer value) -> value;
+            case Faulty.Error<Integer,RuntimeException> __          -> -1;
+        }).endByToList());
+        unordered.sort(Comparator.naturalOrder());
+        Assertions.assertEquals(List.of(1, 2, 3), unordered);
+        Assertions.assertEquals(2, Pipe.of(1, 2, 3, 4, 5).mapConcurrent(2, n -> n).limit(2).endByToList().size());
+
+        final var closedStarted     = new CountDownLatch(3);
+        final var closedInterrupted = new CountDownLatch(3);
+        final Pipe<Faulty<Integer,RuntimeException>> closable = Pipe.of(1, 2, 3).mapConcurrent(3, n -> PipeTest.sleepUntilInterrupted(closedStarted, closedInterrupted));
+        Assertions.assertTrue(closable.iterator().hasNext());
+        closedStarted.await();
+        closable.close();
+        Assertions.assertTrue(closedInterrupted.await(5, TimeUnit.SECONDS), "close() interrupts in-flight mapper");
+
+        final var abandonedStarted     = new CountDownLatch(3);
+        final var abandonedInterrupted = new CountDownLatch(3);
+        PipeTest.startAndAbandon(Pipe.of(1, 2, 3).mapConcurrentUnordered(3, n -> PipeTest.sleepUntilInterrupted(abandonedStarted, abandonedInterrupted)));
+        abandonedStarted.await();
+        for (int attempt = 0; attempt < 100 && abandonedInterrupted.getCount() > 0; ++attempt) {
+            System.gc();
+            abandonedInterrupted.await(50, TimeUnit.MILLISECONDS);
+        }
+        Assertions.assertEquals(0, abandonedInterrupted.getCount(), "Abandoned iterator interrupts in-flight mapper");
+    }
+
+    private static int sleepUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(60_000);
+            return 0;
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            return -1;
+        }
+    }
+
+    private static void startAndAbandon(Pipe<?> pipe) {
+        Assertions.assertTrue(pipe.iterator().hasNext());
+    }
+
+    @Test
+    void method_Buffered() throws InterruptedException {
+        final Integer[] values = new Integer[10_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+        Assertions.assertEquals(List.of(values), Pipe.of(values).buffered(16).endByToList(), "SPSC ring keep order");
+        Assertions.assertEquals(List.of(values), Pipe.of(values).buffered(1).endByToList(), "Capacity 1 degenerate into hand-off");
+
+        final Iterator<Integer> pulled = Pipe.of(values).map(n -> n + 1).buffered(8).iterator();
+        Assertions.assertEquals(1, pulled.next());
+        Assertions.assertEquals(2, pulled.next());
+
+        final var producedCount = new AtomicInteger();
+        Assertions.assertEquals(List.of(0, 1, 2), IntPipe.iterate(0, n -> n + 1).boxed().peek(__ -> producedCount.incrementAndGet()).buffered(4).limit(3).endByToList());
+        Assertions.assertTrue(producedCount.get() < 100, "Infinite producer cancelled once consumer stops");
+
+        final Iterator<Integer> failing = Pipe.of(1, 2, 3).map(n -> {
+            if (n == 3)
+                throw new BuggyCodeException("Upstream bug");
+            return n;
+        }).buffered(4).iterator();
+        Assertions.assertEquals(1, failing.next());
+        Assertions.assertEquals(2, failing.next());
+        Assertions.assertThrows(BuggyCodeException.class, failing::hasNext, "Upstream exception rethrown after preceding elements");
+
+        final var closedProducer = new AtomicReference<Thread>();
+        final Pipe<Integer> closable = IntPipe.iterate(0, n -> n + 1).boxed().peek(__ -> closedProducer.set(Thread.currentThread())).buffered(4);
+        Assertions.assertEquals(0, closable.iterator().next());
+        closable.close();
+        Assertions.assertTrue(closedProducer.get().join(Duration.ofSeconds(5)), "close() wakes & stops the parked producer");
+
+        final var abandonedProducer = new AtomicReference<Thread>();
+        PipeTest.pullOnceAndAbandon(IntPipe.iterate(0, n -> n + 1).boxed().peek(__ -> abandonedProducer.set(Thread.currentThread())).buffered(4));
+        for (int attempt = 0; attempt < 100 && abandonedProducer.get().isAlive(); ++attempt) {
+            System.gc();
+            abandonedProducer.get().join(Duration.ofMillis(50));
+        }
+        Assertions.assertFalse(abandonedProducer.get().isAlive(), "Abandoned iterator stops the parked producer");
+    }
+
+    private static void pullOnceAndAbandon(Pipe<Integer> pipe) {
+        Assertions.assertEquals(0, pipe.iterator().next());
+    }
+
+    @Test
+    void method_Mapped_File_Sources() throws Exception {
+        final Path file = Files.createTempFile("pipe-test-mapped", ".log");
+        try {
+            Files.writeString(file, "alpha\r\nbeta\n\nnaïve\ngamma", StandardCharsets.UTF_8);
+            final List<String> lines = Pipe.fromFileLines(file).map(CharSequence::toString).endByToList();
+            Assertions.assertEquals(List.of("alpha", "beta", "", "naïve", "gamma"), lines, "Terminator stripped, UTF-8 decoded, unterminated last line kept");
+            Assertions.assertEquals(Files.readAllLines(file), lines, "Same result as BufferedReader without lone CR");
+            final Set<CharSequence> views = new HashSet<>(Pipe.fromFileLines(file).endByToList());
+            views.addAll(Pipe.fromFileLines(file).endByToList());
+            Assertions.assertEquals(5, views.size(), "Equal views from separate mapping are deduplicated");
+            Assertions.assertEquals(Nilable.of("alpha".hashCode()), Pipe.fromFileLines(file).endByTakeFirst().map(CharSequence::hashCode), "Hash code consistent with String");
+            Assertions.assertEquals(Nilable.of("et"), Pipe.fromFileLines(file).skip(1).map(line -> line.subSequence(1, 3).toString()).endByTakeFirst());
+
+            final List<Integer> recordSizes = Pipe.fromFileRecords(file, (byte) 'a').map(ByteBuffer::remaining).endByToList();
+            Assertions.assertEquals(List.of(0, 3, 5, 3, 6, 2), recordSizes, "Delimiter excluded, trailing delimiter yield no empty record");
+
+            Files.write(file, new byte[]{ 1, 2, 3, 4, 5, 6 });
+            Assertions.assertEquals(List.of(1, 3, 5), Pipe.fromFixedWidthRecords(file, 2).map(record -> (int) record.get(0)).endByToList());
+            Assertions.assertThrows(UncheckedIOException.class, () -> Pipe.fromFixedWidthRecords(file, 4).endByToList(), "Truncated last record");
+
+            final Pipe<ByteBuffer> abandoned = Pipe.fromFixedWidthRecords(file, 1);
+            try (abandoned) {
+                Assertions.assertEquals(1, abandoned.iterator().next().get(0));
+            }
+            Assertions.assertThrows(UncheckedIOException.class, () -> Pipe.fromFileLines(file.resolveSibling("missing-" + file.getFileName())).endByToList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void method_Teeing_Terminal() {
+        final var producedCount = new AtomicInteger();
+        final FunctionalDatas.TupleOf4<Long,Integer,Set<Integer>,Map<Integer,List<Integer>>> summary = Pipe.of(1, 2, 3, 4, 5, 6, 3)
+            .peek(__ -> producedCount.incrementAndGet())
+            .end(Pipe.Terminal.Utils.all(
+                Pipe.Terminal.Utils.fold(Collectors.counting()),
+                Pipe.Terminal.Utils.fold(0, Integer::sum),
+                Pipe.Terminal.Utils.fold(Collectors.toSet()),
+                Pipe.Terminal.Utils.groupingBy(n -> n % 2, n -> n)
+            ));
+        Assertions.assertEquals(7, producedCount.get(), "Single pass over upstream");
+        Assertions.assertEquals(7L, summary.t1());
+        Assertions.assertEquals(24, summary.t2());
+        Assertions.assertEquals(Set.of(1, 2, 3, 4, 5, 6), summary.t3());
+        Assertions.assertEquals(List.of(1, 3, 5, 3), summary.t4().get(1));
+
+        final Integer[] values = new Integer[100_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+        final double average = Pipe.of(values).parallel().end(Pipe.Terminal.Utils.teeing(
+            Pipe.Terminal.Utils.fold(Collectors.summingLong(Integer::longValue)),
+            Pipe.Terminal.Utils.fold(Collectors.counting()),
+            (sum, count) -> (double) sum / count
+        ));
+        Assertions.assertEquals(49_999.5, average, 0.0, "Parallel split combine each downstream");
+    }
+
+    @Test
+    void method_Short_Circuit_Terminal() {
+        final var producedCount = new AtomicInteger();
+        final Pipe<Integer> infinite = IntPipe.iterate(1, n -> n + 1).boxed().peek(__ -> producedCount.incrementAndGet());
+        Assertions.assertEquals(List.of(1, 2, 3), infinite.end(Pipe.Terminal.Utils.takeFirstN(3)));
+        Assertions.assertEquals(3, producedCount.get(), "Upstream stops right after the last needed element");
+
+        Assertions.assertTrue(IntPipe.iterate(1, n -> n + 1).boxed().end(Pipe.Terminal.Utils.anyMatchBy(n -> n == 1_000)));
+        Assertions.assertEquals(105, IntPipe.iterate(1, n -> n + 1).boxed().end(Pipe.Terminal.Utils.foldUntil(0, Integer::sum, sum -> sum > 100)));
+        final Integer[] ones = new Integer[10_000];
+        Arrays.fill(ones, 1);
+        Assertions.assertEquals(101, Pipe.of(ones).parallel().sequential().end(Pipe.Terminal.Utils.foldUntil(0, Integer::sum, sum -> sum > 100)), "Exact stop point when sequential");
+        Assertions.assertTrue(Pipe.of(ones).parallel().end(Pipe.Terminal.Utils.foldUntil(0, Integer::sum, sum -> sum > 100)) > 100, "Parallel still reaches stop point, possibly past it");
+        Assertions.assertEquals(List.of(), Pipe.of(1, 2).end(Pipe.Terminal.Utils.takeFirstN(0)));
+
+        final FunctionalDatas.TupleOf2<List<Integer>,Boolean> teed = IntPipe.iterate(1, n -> n + 1).boxed()
+            .end(Pipe.Terminal.Utils.all(Pipe.Terminal.Utils.takeFirstN(2), Pipe.Terminal.Utils.anyMatchBy(n -> n == 5)));
+        Assertions.assertEquals(new FunctionalDatas.TupleOf2<>(List.of(1, 2), true), teed, "Shared pass stops once every downstream is done");
+
+        final Integer[] values = new Integer[100_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), Pipe.of(values).parallel().end(Pipe.Terminal.Utils.takeFirstN(5)), "Parallel split combine keep encounter order");
+        Assertions.assertEquals(List.of(10, 20), Pipe.of(values).map(n -> n * 10).skip(1).end(Pipe.Terminal.Utils.takeFirstN(2)));
+    }
+
+    @Test
+    void method_Aggregating_GroupingBy() {
+        final Integer[] values = new Integer[100_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+
+        final Map<Integer,Integer> sums = Pipe.of(values).end(Pipe.Terminal.Utils.groupingBy(n -> n % 3, Pipe.Terminal.Utils.fold(0, Integer::sum)));
+        Assertions.assertEquals(Map.of(0, 1_666_683_333, 1, 1_666_616_667, 2, 1_666_650_000), sums);
+        final Map<Integer,List<Integer>> firstTwo = Pipe.of(values).parallel().end(Pipe.Terminal.Utils.groupingBy(n -> n % 2, Pipe.Terminal.Utils.takeFirstN(2)));
+        Assertions.assertEquals(Map.of(0, List.of(0, 2), 1, List.of(1, 3)), firstTwo, "Parallel combine per key in encounter order");
+
+        final Map<String,Long> counts = Pipe.of("a", "b", null, "a", "a", null).end(Pipe.Terminal.Utils.countingBy(key -> key));
+        final Map<String,Long> expectedCounts = new HashMap<>(Map.of("a", 3L, "b", 1L));
+        expectedCounts.put(null, 2L);
+        Assertions.assertEquals(expectedCounts, counts, "null key is a regular group");
+
+        final Map<Integer,Long> longSums = Pipe.of(values).parallel().end(Pipe.Terminal.Utils.summingLongBy(n -> n % 1_000, Integer::longValue));
+        Assertions.assertEquals(1_000, longSums.size(), "Rehash beyond initial capacity");
+        Assertions.assertEquals(1_000L * 4_950 + 100L * 7, longSums.get(7));
+        Assertions.assertEquals(longSums, Pipe.of(values).parallel().end(Pipe.Terminal.Utils.summingLongByConcurrent(n -> n % 1_000, Integer::longValue)));
+
+        final Pipe.Terminal.Accumulator<Integer,?,Map<Integer,Long>> reusedCounter = Pipe.Terminal.Utils.countingByConcurrent(n -> n % 2);
+        Assertions.assertEquals(Map.of(0, 50_000L, 1, 50_000L), Pipe.of(values).parallel().end(reusedCounter));
+        Assertions.assertEquals(Map.of(0, 50_000L, 1, 50_000L), Pipe.of(values).parallel().end(reusedCounter), "Fresh table per end()");
+        Assertions.assertEquals(Map.of(), Pipe.<Integer>of().end(reusedCounter));
+        final var nested = Pipe.of(values).parallel().end(Pipe.Terminal.Utils.all(reusedCounter, Pipe.Terminal.Utils.countingBy(n -> n % 2)));
+        Assertions.assertEquals(nested.t2(), nested.t1(), "Nested concurrent accumulator merges per split");
+    }
+
+    @Test
+    void method_Join() throws Exception {
+        record Order(int customerId, String item) {}
+        final List<Order> orders = List.of(new Order(1, "apple"), new Order(2, "pear"), new Order(1, "fig"), new Order(3, "kiwi"));
+        final List<Map.Entry<Integer,String>> customers = List.of(Map.entry(1, "Ann"), Map.entry(2, "Bob"), Map.entry(4, "Dan"));
+
+        final List<String> inner = Pipe.from(orders)
+            .joinOn(Pipe.from(customers), Order::customerId, Map.Entry::getKey)
+            .map(pair -> pair.t1().item() + "@" + pair.t2().getValue())
+            .endByToList();
+        Assertions.assertEquals(List.of("apple@Ann", "pear@Bob", "fig@Ann"), inner, "Probe side encounter order");
+
+        final List<String> swapped = Pipe.from(orders)
+            .joinOn(Pipe.from(customers), Order::customerId, Map.Entry::getKey, Pipe.JoinPolicy.ofSizeHint(4, 1_000_000))
+            .map(pair -> pair.t1().item() + "@" + pair.t2().getValue())
+            .endByToList();
+        Assertions.assertEquals(List.of("apple@Ann", "fig@Ann", "pear@Bob"), swapped, "Smaller left hint builds left side, output follows right side");
+
+        final List<String> leftOuter = Pipe.from(orders)
+            .leftOuterJoinOn(Pipe.from(customers), Order::customerId, Map.Entry::getKey)
+            .map(pair -> pair.t1().item() + "@" + pair.t2().map(Map.Entry::getValue).orElse("?"))
+            .endByToList();
+        Assertions.assertEquals(List.of("apple@Ann", "pear@Bob", "fig@Ann", "kiwi@?"), leftOuter);
+        Assertions.assertEquals(List.of(1, 3), Pipe.of(1, 4, 3, 5).semiJoinOn(Pipe.from(orders), n -> n, Order::customerId).endByToList(), "Each element emitted once despite duplicate keys");
+        Assertions.assertEquals(List.of(4), Pipe.from(customers).antiJoinOn(Pipe.from(orders), Map.Entry::getKey, Order::customerId).map(Map.Entry::getKey).endByToList());
+
+        final List<FunctionalDatas.TupleOf3<Integer,List<Order>,List<Map.Entry<Integer,String>>>> coGrouped = Pipe.from(orders).coGroup(Pipe.from(customers), Order::customerId, Map.Entry::getKey).endByToList();
+        Assertions.assertEquals(List.of(1, 2, 3, 4), Pipe.from(coGrouped).map(FunctionalDatas.TupleOf3::t1).endByToList(), "Keys by first appearance, left first");
+        Assertions.assertEquals(2, coGrouped.get(0).t2().size());
+        Assertions.assertTrue(coGrouped.get(3).t2().isEmpty());
+
+        final Integer[] values = new Integer[5_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = i;
+        final List<Integer> parallelJoin = Pipe.of(values).parallel().joinOn(Pipe.of(values), n -> n % 100, n -> n).map(FunctionalDatas.TupleOf2::t2).endByToList();
+        Assertions.assertEquals(Pipe.of(values).map(n -> n % 100).endByToList(), parallelJoin, "Table built once, shared by parallel splits");
+
+        final Path sideFile = Files.createTempFile("pipe-test-join", ".txt");
+        try {
+            Files.writeString(sideFile, "1\n2\n", StandardCharsets.UTF_8);
+            final Pipe<CharSequence> build = Pipe.fromFileLines(sideFile);
+            Pipe.of(1, 2).joinOn(build, String::valueOf, CharSequence::toString).close();
+            Assertions.assertThrows(UncheckedIOException.class, build::endByToList, "Unconsumed join closes its build side");
+            final Pipe<CharSequence> swappedBuild = Pipe.fromFileLines(sideFile);
+            swappedBuild.joinOn(Pipe.of(1, 2), CharSequence::toString, String::valueOf, Pipe.JoinPolicy.ofSizeHint(1, 100)).close();
+            Assertions.assertThrows(UncheckedIOException.class, swappedBuild::endByToList, "Swapped join closes receiver used as build side");
+            final Pipe<CharSequence> keys = Pipe.fromFileLines(sideFile);
+            Pipe.of(1, 2).semiJoinOn(keys, String::valueOf, CharSequence::toString).close();
+            Assertions.assertThrows(UncheckedIOException.class, keys::endByToList, "Unconsumed semi join closes its key side");
+        } finally {
+            Files.delete(sideFile);
+        }
+
+        final Path spillDirectory = Files.createTempDirectory("pipe-test-join");
+        final Pipe.JoinPolicy<Integer,Integer> spilling = Pipe.JoinPolicy.<Integer,Integer>of().withSpill(
+            Spill.Policy.of(64, Spill.Codec.ofInteger()).withDirectory(spillDirectory),
+            Spill.Policy.of(64, Spill.Codec.ofInteger()).withDirectory(spillDirectory)
+        );
+        final List<Integer> graceJoin = new ArrayList<>(Pipe.of(values).joinOn(Pipe.of(values), n -> n % 1_000, n -> n, spilling).map(pair -> pair.t1() * 10_000 + pair.t2()).endByToList());
+        final List<Integer> expectedJoin = new ArrayList<>(Pipe.of(values).map(n -> n * 10_000 + n % 1_000).endByToList());
+        graceJoin.sort(Comparator.naturalOrder());
+        expectedJoin.sort(Comparator.naturalOrder());
+        Assertions.assertEquals(expectedJoin, graceJoin, "Grace hash join across partitions");
+        Assertions.assertEquals(10, Pipe.of(values).leftOuterJoinOn(Pipe.of(values), n -> n, n -> n, spilling).limit(10).endByToList().size());
+        final Iterator<FunctionalDatas.TupleOf2<Integer,Integer>> pulledJoin = Pipe.of(values).joinOn(Pipe.of(values), n -> n, n -> n, spilling).iterator();
+        int pulledCount = 0;
+        for (; pulledJoin.hasNext(); pulledJoin.next())
+            ++pulledCount;
+        Assertions.assertEquals(values.length, pulledCount);
+        try (final var leftovers = Files.list(spillDirectory)) {
+            Assertions.assertEquals(0L, leftovers.count(), "Partition run files are deleted");
+        }
+        Files.delete(spillDirectory);
+    }
+
+    @Test
+    void method_Merge_Sorted() {
+        final var pulledCount = new AtomicInteger();
+        final Pipe<Integer> merged = Pipe.mergeSorted(
+            Comparator.naturalOrder(),
+            Pipe.of(1, 4, 7, 10).peek(__ -> pulledCount.incrementAndGet()),
+            Pipe.of(2, 5, 8),
+            Pipe.<Integer>of(),
+            Pipe.of(3, 6, 9)
+        );
+        Assertions.assertEquals(0, pulledCount.get(), "Lazy until consumption");
+        Assertions.assertEquals(List.of(1, 2, 3), merged.limit(3).endByToList());
+        Assertions.assertEquals(2, pulledCount.get(), "Only 1 element held per source");
+
+        Assertions.assertEquals(List.of("a1", "a2", "b2", "b1"), Pipe.mergeSorted(Comparator.comparing((String text) -> text.charAt(0)), Pipe.of("a1", "b2"), Pipe.of("a2", "b1")).endByToList(), "Stable on ties");
+        Assertions.assertEquals(List.of(1, 2, 3, 5), Pipe.mergeSortedDistinct(Comparator.naturalOrder(), Pipe.of(1, 2, 2, 5), Pipe.of(1, 3, 5)).endByToList());
+        final Iterator<Integer> pulled = Pipe.mergeSortedDistinct(Comparator.reverseOrder(), Pipe.of(9, 3), Pipe.of(9, 4)).iterator();
+        Assertions.assertEquals(9, pulled.next());
+        Assertions.assertEquals(4, pulled.next());
+        Assertions.assertEquals(3, pulled.next());
+        Assertions.assertFalse(pulled.hasNext());
+    }
+
+    @Test
+    void method_Sketch_Terminals() {
+        final Integer[] values = new Integer[200_000];
+        for (int i = 0; i < values.length; ++i)
+            values[i] = (i * 7919) % 50_000; // 50_000 distinct, each 4 times
+
+        final long distinctCount = Pipe.of(values).parallel().end(Sketch.distinctCount(14, n -> Sketch.hash64(n)));
+        Assertions.assertTrue(Math.abs(distinctCount - 50_000) < 50_000 * 0.05, "HyperLogLog within 5%, got " + distinctCount);
+
+        final Sketch.QuantileSketch quantiles = Pipe.of(values).parallel().end(Sketch.quantiles(200, Integer::doubleValue));
+        Assertions.assertEquals(200_000L, quantiles.count());
+        Assertions.assertEquals(Nilable.of(0.0), quantiles.quantile(0));
+        Assertions.assertEquals(Nilable.of(49_999.0), quantiles.quantile(1));
+        final double median = quantiles.quantile(0.5).orElse(Double.NaN);
+        Assertions.assertTrue(Math.abs(median - 25_000) < 50_000 * 0.03, "KLL median within 3% rank error, got " + median);
+        Assertions.assertEquals(Nilable.empty(), Pipe.<Integer>of().end(Sketch.quantiles(200, Integer::doubleValue)).quantile(0.5));
+
+        final List<Integer> sample = Pipe.of(values).parallel().end(Sketch.sample(100));
+        Assertions.assertEquals(100, sample.size());
+        Assertions.assertEquals(List.of(1, 2), Pipe.of(1, 2).end(Sketch.sample(5)).stream().sorted().toList(), "Smaller input is fully sampled");
+        final List<Integer> weighted = Pipe.of(values).end(Sketch.weightedSample(50, n -> n < 100 ? 1.0 : 0.0));
+        Assertions.assertTrue(Pipe.from(weighted).endByMatchAll(n -> n < 100), "Zero weight never sampled");
+
+        final Integer[] skewed = new Integer[100_000];
+        for (int i = 0; i < skewed.length; ++i)
+            skewed[i] = i % 10 == 0 ? 7 : i % 10 == 1 ? 42 : i; // 7 & 42 each 10%, rest unique
+        final List<FunctionalDatas.TupleOf2<Integer,Long>> hitters = Pipe.of(skewed).parallel().end(Sketch.heavyHitters(10, 0.001, n -> Sketch.hash64(n)));
+        Assertions.assertEquals(Set.of(7, 42), Set.of(hitters.get(0).t1(), hitters.get(1).t1()), "Top 2 heavy hitters");
+        Assertions.assertTrue(hitters.get(0).t2() >= 10_000, "Count-min never underestimates");
+    }
+
+    @Test
+    void method_Instrumented() {
+        final Pipe<Integer> uninstrumented = Pipe.of(1, 2, 3);
+        Assertions.assertSame(uninstrumented, uninstrumented.instrumented("disabled"), "Disabled costs no stage");
+
+        PipeMetrics.setEnabled(true);
+        try {
+            PipeMetrics.reset();
+            for (int run = 0; run < 2; ++run) {
+                final List<Integer> result = Pipe.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                    .keepIf(n -> n % 2 == 0).instrumented("even")
+                    .map(n -> n * 10).keepIf(n -> n > 40).instrumented("large")
+                    .sorted(Comparator.reverseOrder())
+                    .limit(2).instrumented("top")
+                    .endByToList();
+                Assertions.assertEquals(List.of(100, 80), result);
+            }
+            final PipeMetrics.StageSnapshot even = PipeTest.stageSnapshot("even");
+            Assertions.assertEquals(20L, even.elementsIn(), "Accumulated across runs");
+            Assertions.assertEquals(10L, even.elementsOut());
+            Assertions.assertEquals(0.5, even.selectivity());
+            final PipeMetrics.StageSnapshot large = PipeTest.stageSnapshot("large");
+            Assertions.assertEquals(10L, large.elementsIn(), "Starts where previous segment ended");
+            Assertions.assertEquals(6L, large.elementsOut());
+            final PipeMetrics.StageSnapshot top = PipeTest.stageSnapshot("top");
+            Assertions.assertEquals(4L, top.elementsOut(), "Barrier starts a fresh segment");
+            Assertions.assertEquals(List.of("even", "large", "top"), Pipe.from(PipeMetrics.snapshot()).map(PipeMetrics.StageSnapshot::name).endByToList());
+
+            final List<Integer> parallelResult = Pipe.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).parallel().keepIf(n -> n > 3).instrumented("parallel").endByToList();
+            Assertions.assertEquals(7, parallelResult.size());
+            Assertions.assertEquals(10L, PipeTest.stageSnapshot("parallel").elementsIn());
+            Assertions.assertEquals(7L, PipeTest.stageSnapshot("parallel").elementsOut());
+        } finally {
+            PipeMetrics.setEnabled(false);
+            PipeMetrics.reset();
+        }
+        Assertions.assertEquals(Nilable.empty(), PipeMetrics.snapshot("even"));
+    }
+
+    @Test
+    void method_Columnar_Containers() {
+        final Integer[] nullables = new Integer[130]; // Spans 3 bitmap words
+        for (int i = 0; i < nullables.length; ++i)
+            nullables[i] = i % 3 == 0 ? null : i;
+        final NilableArray<Integer> nilables = NilableArray.of(nullables);
+        Assertions.assertEquals(86, nilables.countHasValue());
+        Assertions.assertEquals(44, nilables.countEmpty());
+        Assertions.assertEquals(Nilable.of(128), nilables.get(128));
+        Assertions.assertEquals(Nilable.empty(), nilables.get(129));
+        Assertions.assertEquals(Pipe.of(nullables).map(Nilable::of).endByToList(), nilables.toPipe().endByToList(), "Materialized on demand");
+        Assertions.assertEquals(Pipe.of(nullables).keepIf(n -> n != null).endByToList(), nilables.toPipeHasValue().endByToList());
+
+        final NilableArray<String> evenTexts = nilables.keepIf(n -> n % 2 == 0).map(n -> n == 64 ? null : "#" + n);
+        Assertions.assertEquals(130, evenTexts.length(), "Bulk operation keeps slot position");
+        Assertions.assertEquals(42, evenTexts.countHasValue());
+        Assertions.assertEquals(Nilable.empty(), evenTexts.get(64), "null mapping result becomes Empty");
+        Assertions.assertEquals(List.of("#2", "#4", "#8"), evenTexts.toPipeHasValue().limit(3).endByToList());
+        final NilableArray<Integer> packed = Pipe.of(nullables).parallel().map(Nilable::of).end(NilableArray.pack());
+        Assertions.assertEquals(nilables.toPipe().endByToList(), packed.toPipe().endByToList(), "Parallel pack preserves order");
+
+        final FaultyArray<Integer,String> validated = Pipe.of(nullables)
+            .map(n -> n != null ? Faulty.<Integer,String>of(n) : Faulty.<Integer,String>ofError("missing"))
+            .end(FaultyArray.pack());
+        Assertions.assertEquals(86, validated.countOk());
+        Assertions.assertEquals(44, validated.countError());
+        Assertions.assertEquals(Faulty.ofError("missing"), validated.get(0));
+        Assertions.assertEquals(Faulty.of(1), validated.get(1));
+        final FaultyArray<Integer,String> checked = validated.keepOkIfOrError(n -> n < 100, () -> "too large").map(n -> n * 10).mapError(String::toUpperCase);
+        Assertions.assertEquals(Faulty.ofError("TOO LARGE"), checked.get(100));
+        Assertions.assertEquals(Faulty.of(20), checked.get(2));
+        Assertions.assertEquals(20, Pipe.from(checked.toPipeError().endByToList()).keepIf("TOO LARGE"::equals).endByToList().size());
+        Assertions.assertEquals(List.of(10, 20, 40), checked.toPipeOk().limit(3).endByToList());
+        Assertions.assertEquals(checked.length(), checked.toPipe().endByToList().size());
+        Assertions.assertFalse(FaultyArray.<Integer,String>builder().addOk(1).addError("x").build().isOk(1));
+    }
+
+    @SuppressWarnings("deprecation") // Test failure on absence is intended
+    private static PipeMetrics.StageSnapshot stageSnapshot(String name) {
+        return PipeMetrics.snapshot(name).zDangerouslyUnwrap("Stage not recorded: " + name);
+    }
+
+    private static Pipe<Integer> sampleStages(Pipe<Integer> pipe) {
+        return pipe
+            .keepIf(n -> n > 1)
+            .map(n -> n * 10)
+            .skip(1)
+            .removeIf(n -> n % 20 == 0)
+            .limit(3);
+    }
+}
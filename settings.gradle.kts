@@ -1,2 +1,3 @@
 rootProject.name = "Java-Zero"
 include("functionals")
+include("functionals-jmh")